@@ -9,11 +9,13 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.util.List;
+import java.util.EnumSet;
 
 @SpringBootApplication
+@EnableScheduling
 public class FinTrackApiApplication {
 
 	public static void main(String[] args) {
@@ -37,7 +39,7 @@ public class FinTrackApiApplication {
 					user.setFirstName("First name");
 					user.setLastName("Last name");
 					user.setPhoneNumber("+381637425500");
-					user.setRoles(List.of(Role.USER.getValue()));
+					user.setRoles(EnumSet.of(Role.USER));
 					user.setEnabled(true);
 					userRepo.save(user);
 				}
@@ -49,7 +51,7 @@ public class FinTrackApiApplication {
 					user.setFirstName("Admin first name");
 					user.setLastName("Admin last name");
 					user.setPhoneNumber("+381631111111");
-					user.setRoles(List.of(Role.USER.getValue(), Role.ADMIN.getValue()));
+					user.setRoles(EnumSet.of(Role.USER, Role.ADMIN));
 					user.setEnabled(true);
 					userRepo.save(user);
 				}
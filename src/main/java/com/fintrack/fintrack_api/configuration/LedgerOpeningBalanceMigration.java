@@ -0,0 +1,66 @@
+package com.fintrack.fintrack_api.configuration;
+
+import com.fintrack.fintrack_api.model.Account;
+import com.fintrack.fintrack_api.repository.AccountRepository;
+import com.fintrack.fintrack_api.service.LedgerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Books opening-balance ledger entries for accounts that hold money from before the ledger
+ * existed, so their balances are backed by postings. Does nothing once every such account has
+ * been opened, so it is safe on every start and on every node.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class LedgerOpeningBalanceMigration implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerOpeningBalanceMigration.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    private final AccountRepository accountRepository;
+    private final LedgerService ledgerService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public LedgerOpeningBalanceMigration(AccountRepository accountRepository,
+                                         LedgerService ledgerService,
+                                         JdbcTemplate jdbcTemplate,
+                                         TransactionTemplate transactionTemplate) {
+        this.accountRepository = accountRepository;
+        this.ledgerService = ledgerService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int opened = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> {
+                // Serializes concurrent starts; later nodes find nothing left to open
+                jdbcTemplate.execute("SELECT pg_advisory_xact_lock(hashtext('ledger_opening_balances'))");
+                List<Account> accounts = accountRepository.findWithoutOpeningEntry(Limit.of(BATCH_SIZE));
+                accounts.forEach(ledgerService::recordOpeningBalance);
+                return accounts.size();
+            });
+            opened += batch;
+        } while (batch == BATCH_SIZE);
+
+        if (opened > 0) {
+            logger.info("Booked opening ledger entries for {} existing accounts", opened);
+        }
+    }
+}
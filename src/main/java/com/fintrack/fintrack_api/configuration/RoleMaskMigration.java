@@ -0,0 +1,65 @@
+package com.fintrack.fintrack_api.configuration;
+
+import com.fintrack.fintrack_api.model.enums.Role;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * One-off migration of roles from the former {@code user_roles} collection table into
+ * {@code users.role_mask}. Does nothing once the old table is gone, so it is safe on every start
+ * and on every node.
+ */
+@Component
+// Needs users.role_mask, which Hibernate may still have to add in dev
+@DependsOn("entityManagerFactory")
+public class RoleMaskMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoleMaskMigration.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public RoleMaskMigration(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Runs before the web server starts, so no login is ever served from an unmigrated role mask.
+     */
+    @PostConstruct
+    public void migrate() {
+        transactionTemplate.executeWithoutResult(status -> {
+            // Serializes concurrent starts; later nodes find the table already gone
+            jdbcTemplate.execute("SELECT pg_advisory_xact_lock(hashtext('user_roles_migration'))");
+            Boolean pending = jdbcTemplate.queryForObject(
+                    "SELECT to_regclass('user_roles') IS NOT NULL", Boolean.class);
+            if (!Boolean.TRUE.equals(pending)) {
+                return;
+            }
+
+            int migrated = jdbcTemplate.update("""
+                    UPDATE users u
+                    SET role_mask = u.role_mask | r.mask
+                    FROM (SELECT user_id, BIT_OR(%s) AS mask FROM user_roles GROUP BY user_id) r
+                    WHERE r.user_id = u.id
+                    """.formatted(roleMaskCase()));
+            jdbcTemplate.execute("DROP TABLE user_roles");
+            logger.info("Migrated roles of {} users from user_roles to users.role_mask", migrated);
+        });
+    }
+
+    private static String roleMaskCase() {
+        return Arrays.stream(Role.values())
+                .map(role -> "WHEN '" + role.getValue() + "' THEN " + role.getMask())
+                .collect(Collectors.joining(" ", "CASE UPPER(role) ", " ELSE 0 END"));
+    }
+}
@@ -0,0 +1,228 @@
+package com.fintrack.fintrack_api.configuration;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Owns the {@code transaction_history} table, which JPA cannot describe: it is range-partitioned
+ * by month on {@code booked_at}, so history queries only touch the months they ask for and old
+ * months never slow down recent ones.
+ * <p>
+ * The primary key {@code (account_id, booked_at, transaction_id)} includes every other column, so
+ * a page of history is read from the index alone; partitions are append-only, so the visibility
+ * map stays current and index-only scans rarely visit the heap. Indexes declared on the parent
+ * are created on every partition.
+ * <p>
+ * On first start the table is created and filled from {@code transactions}, all in one
+ * transaction. A scheduled check keeps partitions created
+ * {@code app.transactions.history.months-ahead} months ahead, so writers never find their month
+ * missing and the short exclusive lock that creating a partition takes never falls on a month
+ * boundary. Writers that book into the past, such as statement imports, create the months they
+ * need with {@link #createMissingPartitions}, so every month stays its own partition and can be
+ * pruned. Tables created before that had an unbounded archive partition; it is split into monthly
+ * partitions on start.
+ */
+@Component
+// The backfill reads transactions, which Hibernate may still have to create in dev
+@DependsOn("entityManagerFactory")
+public class TransactionHistoryPartitions {
+
+    private static final String TABLE = "transaction_history";
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionHistoryPartitions.class);
+
+    private static final String ARCHIVE_PARTITION = TABLE + "_archive";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final String LOCK = "SELECT pg_advisory_xact_lock(hashtext('transaction_history_partitions'))";
+
+    private static final String CREATE_TABLE = """
+            CREATE TABLE transaction_history (
+                account_id BIGINT NOT NULL,
+                booked_at TIMESTAMP(6) NOT NULL,
+                transaction_id BIGINT NOT NULL,
+                type VARCHAR(16) NOT NULL,
+                amount NUMERIC(19, 2) NOT NULL,
+                currency VARCHAR(3) NOT NULL,
+                counterparty_account_number VARCHAR(16),
+                category VARCHAR(50),
+                description VARCHAR(255),
+                CONSTRAINT pk_transaction_history PRIMARY KEY (account_id, booked_at, transaction_id)
+                    INCLUDE (type, amount, currency, counterparty_account_number, category, description)
+            ) PARTITION BY RANGE (booked_at)""";
+
+    // Not covering: a category filter is selective, so the few matching rows are fetched from the heap
+    private static final String CREATE_CATEGORY_INDEX = "CREATE INDEX idx_transaction_history_account_category " +
+            "ON transaction_history (account_id, category, booked_at, transaction_id)";
+
+    private static final String BACKFILL = """
+            INSERT INTO transaction_history (account_id, booked_at, transaction_id, type, amount, currency,
+                                             counterparty_account_number, category, description)
+            SELECT t.source_account_id, t.created_at, t.id, t.type, -t.amount, t.currency, d.account_number,
+                   t.category, t.description
+            FROM transactions t LEFT JOIN accounts d ON d.id = t.target_account_id
+            WHERE t.source_account_id IS NOT NULL
+            UNION ALL
+            SELECT t.target_account_id, t.created_at, t.id, t.type, t.amount, t.currency, s.account_number,
+                   t.category, t.description
+            FROM transactions t LEFT JOIN accounts s ON s.id = t.source_account_id
+            WHERE t.target_account_id IS NOT NULL""";
+
+    private static final String NEWEST_MONTHLY_PARTITION = """
+            SELECT max(c.relname::text)
+            FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'transaction_history'::regclass""";
+
+    private static final String EXISTS = "SELECT to_regclass(?) IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final long lockTimeoutMs;
+
+    public TransactionHistoryPartitions(JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${app.transactions.history.months-ahead}") int monthsAhead,
+                                        @Value("${app.transactions.history.partition-lock-timeout-ms}") long lockTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monthsAhead = monthsAhead;
+        this.lockTimeoutMs = lockTimeoutMs;
+    }
+
+    /**
+     * Runs before the web server and the schedulers start, so writers never see the table missing.
+     */
+    @PostConstruct
+    public void initialize() {
+        transactionTemplate.executeWithoutResult(status -> {
+            // Serializes concurrent starts; later nodes find the table in place
+            jdbcTemplate.execute(LOCK);
+            if (exists(TABLE)) {
+                splitArchive();
+                return;
+            }
+            YearMonth first = firstMonth();
+            jdbcTemplate.execute(CREATE_TABLE);
+            for (YearMonth month = first; !month.isAfter(lastMonth()); month = month.plusMonths(1)) {
+                jdbcTemplate.execute(createPartition(month));
+            }
+            jdbcTemplate.execute(CREATE_CATEGORY_INDEX);
+            int rows = jdbcTemplate.update(BACKFILL);
+            jdbcTemplate.execute("ANALYZE " + TABLE);
+            logger.info("Created {} partitioned by month from {} and copied {} rows from transactions", TABLE, first, rows);
+        });
+        createFuturePartitions();
+    }
+
+    /**
+     * Creates any missing monthly partition up to {@code months-ahead} months from now, one per
+     * transaction. If another session holds the table longer than the lock timeout, the
+     * partition is left for the next run instead of queueing every reader behind this one.
+     */
+    @Scheduled(fixedDelayString = "${app.transactions.history.partition-check-interval-ms}",
+            initialDelayString = "${app.transactions.history.partition-check-interval-ms}")
+    public void createFuturePartitions() {
+        try {
+            String newest = jdbcTemplate.queryForObject(NEWEST_MONTHLY_PARTITION, String.class);
+            YearMonth month = newest == null
+                    ? YearMonth.now()
+                    : YearMonth.parse(newest.substring(TABLE.length() + 1), PARTITION_SUFFIX).plusMonths(1);
+            for (; !month.isAfter(lastMonth()); month = month.plusMonths(1)) {
+                String sql = createPartition(month);
+                transactionTemplate.executeWithoutResult(status -> {
+                    // Before the advisory lock too, which an import creating a past month holds until it commits
+                    jdbcTemplate.execute("SET LOCAL lock_timeout = " + lockTimeoutMs);
+                    jdbcTemplate.execute(LOCK);
+                    jdbcTemplate.execute(sql);
+                });
+                logger.info("Created {} partition for {}", TABLE, month);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Could not create {} partitions, will retry: {}", TABLE, e.getMessage());
+        }
+    }
+
+    /**
+     * Creates the given months' partitions that do not exist yet, in the caller's transaction, for
+     * writers that book into months before the first partition. The table is created on its own
+     * and then attached, which locks the parent only against other partition changes, so history
+     * reads and writes go on while the caller's transaction is open. Callers creating partitions
+     * wait for each other until the first one commits.
+     */
+    public void createMissingPartitions(Collection<YearMonth> months) {
+        for (YearMonth month : months) {
+            String name = partitionName(month);
+            if (exists(name)) {
+                continue;
+            }
+            jdbcTemplate.execute(LOCK);
+            // Another caller may have created it while this one waited
+            if (exists(name)) {
+                continue;
+            }
+            jdbcTemplate.execute("CREATE TABLE " + name + " (LIKE " + TABLE + ")");
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ATTACH PARTITION " + name + bounds(month));
+            logger.info("Created {} partition for {}", TABLE, month);
+        }
+    }
+
+    /**
+     * Moves the rows of the archive partition that older versions created below the first month
+     * into monthly partitions, and drops it.
+     */
+    private void splitArchive() {
+        if (!exists(ARCHIVE_PARTITION)) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + ARCHIVE_PARTITION);
+        List<Date> months = jdbcTemplate.queryForList(
+                "SELECT DISTINCT CAST(date_trunc('month', booked_at) AS DATE) FROM " + ARCHIVE_PARTITION, Date.class);
+        for (Date month : months) {
+            jdbcTemplate.execute(createPartition(YearMonth.from(month.toLocalDate())));
+        }
+        int rows = jdbcTemplate.update("INSERT INTO " + TABLE + " SELECT * FROM " + ARCHIVE_PARTITION);
+        jdbcTemplate.execute("DROP TABLE " + ARCHIVE_PARTITION);
+        logger.info("Split {} into {} monthly partitions, moving {} rows", ARCHIVE_PARTITION, months.size(), rows);
+    }
+
+    private boolean exists(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS, Boolean.class, table));
+    }
+
+    private static String partitionName(YearMonth month) {
+        return TABLE + "_" + month.format(PARTITION_SUFFIX);
+    }
+
+    private static String createPartition(YearMonth month) {
+        return "CREATE TABLE IF NOT EXISTS " + partitionName(month) + " PARTITION OF " + TABLE + bounds(month);
+    }
+
+    private static String bounds(YearMonth month) {
+        return " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+
+    private YearMonth firstMonth() {
+        Date oldest = jdbcTemplate.queryForObject("SELECT CAST(min(created_at) AS DATE) FROM transactions", Date.class);
+        return oldest == null ? YearMonth.now() : YearMonth.from(oldest.toLocalDate());
+    }
+
+    private YearMonth lastMonth() {
+        return YearMonth.now().plusMonths(monthsAhead);
+    }
+}
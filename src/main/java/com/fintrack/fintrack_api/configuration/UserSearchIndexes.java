@@ -0,0 +1,105 @@
+package com.fintrack.fintrack_api.configuration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Creates the expression indexes behind the admin user search, which JPA index annotations cannot
+ * describe. Prefix indexes ({@code text_pattern_ops}) serve {@code LIKE 'term%'}; trigram indexes
+ * from {@code pg_trgm} serve {@code LIKE '%term%'} and similarity matching. Indexes are built
+ * {@code CONCURRENTLY}, so the first start on a large table does not block writes, and existing
+ * indexes are left alone on later starts.
+ * <p>
+ * A concurrent build that fails or is cancelled leaves an invalid index behind, which the planner
+ * never uses and {@code IF NOT EXISTS} would skip forever. Invalid indexes are therefore dropped
+ * and rebuilt, unless another session is still building them.
+ * <p>
+ * If the extension cannot be installed, or a trigram index is not valid once this runs, the search
+ * falls back to prefix and unindexed contains matching, and {@link #isTrigramAvailable()} reports
+ * {@code false}.
+ */
+@Component
+public class UserSearchIndexes implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSearchIndexes.class);
+
+    private static final List<SearchIndex> PREFIX_INDEXES = List.of(
+            new SearchIndex("idx_users_email_prefix", "users (lower(email) text_pattern_ops)"),
+            new SearchIndex("idx_users_first_name_prefix", "users (lower(first_name) text_pattern_ops)"),
+            new SearchIndex("idx_users_last_name_prefix", "users (lower(last_name) text_pattern_ops)"),
+            new SearchIndex("idx_users_phone_number_prefix", "users (phone_number text_pattern_ops)"));
+
+    private static final List<SearchIndex> TRIGRAM_INDEXES = List.of(
+            new SearchIndex("idx_users_email_trgm", "users USING gin (lower(email) gin_trgm_ops)"),
+            new SearchIndex("idx_users_first_name_trgm", "users USING gin (lower(first_name) gin_trgm_ops)"),
+            new SearchIndex("idx_users_last_name_trgm", "users USING gin (lower(last_name) gin_trgm_ops)"),
+            new SearchIndex("idx_users_phone_number_trgm", "users USING gin (phone_number gin_trgm_ops)"));
+
+    private static final String INDEX_VALID = "SELECT i.indisvalid FROM pg_index i WHERE i.indexrelid = to_regclass(?)";
+
+    private static final String INDEX_BUILDING = """
+            SELECT EXISTS (SELECT 1 FROM pg_stat_progress_create_index p
+                           WHERE p.index_relid = to_regclass(?) AND p.pid <> pg_backend_pid())""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean trigramAvailable;
+
+    public UserSearchIndexes(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean isTrigramAvailable() {
+        return trigramAvailable;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // Runs outside a transaction: CREATE INDEX CONCURRENTLY is not allowed inside one
+        try {
+            PREFIX_INDEXES.forEach(this::createIndex);
+        } catch (DataAccessException e) {
+            logger.warn("Could not create user search prefix indexes: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            TRIGRAM_INDEXES.forEach(this::createIndex);
+            trigramAvailable = TRIGRAM_INDEXES.stream().allMatch(index -> isValid(index.name()));
+            if (!trigramAvailable) {
+                logger.warn("User search trigram indexes are not all valid yet, contains matching will not use them");
+            }
+        } catch (DataAccessException e) {
+            logger.warn("pg_trgm is unavailable, user search will not use trigram indexes: {}", e.getMessage());
+        }
+    }
+
+    private void createIndex(SearchIndex index) {
+        List<Boolean> valid = jdbcTemplate.queryForList(INDEX_VALID, Boolean.class, index.name());
+        if (!valid.isEmpty() && !valid.get(0)) {
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(INDEX_BUILDING, Boolean.class, index.name()))) {
+                logger.info("Index {} is being built by another session, leaving it", index.name());
+                return;
+            }
+            logger.warn("Index {} is invalid, probably from an interrupted build; rebuilding it", index.name());
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + index.name());
+        }
+        jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + index.name() + " ON " + index.definition());
+    }
+
+    private boolean isValid(String indexName) {
+        List<Boolean> valid = jdbcTemplate.queryForList(INDEX_VALID, Boolean.class, indexName);
+        return !valid.isEmpty() && valid.get(0);
+    }
+
+    private record SearchIndex(String name, String definition) {
+    }
+}
@@ -2,23 +2,41 @@ package com.fintrack.fintrack_api.controller;
 
 import com.fintrack.fintrack_api.dto.request.AccountFilterRequestDTO;
 import com.fintrack.fintrack_api.dto.request.CreateAccountRequestDTO;
+import com.fintrack.fintrack_api.dto.request.TransactionHistoryFilterDTO;
 import com.fintrack.fintrack_api.dto.request.UpdateAccountRequestDTO;
 import com.fintrack.fintrack_api.dto.response.AccountResponseDTO;
+import com.fintrack.fintrack_api.dto.response.BulkAccountResultDTO;
+import com.fintrack.fintrack_api.dto.response.CursorPageResponseDTO;
+import com.fintrack.fintrack_api.dto.response.StatementImportProgressDTO;
+import com.fintrack.fintrack_api.dto.response.TransactionHistoryEntryDTO;
 import com.fintrack.fintrack_api.model.Account;
 import com.fintrack.fintrack_api.security.UserPrincipal;
+import com.fintrack.fintrack_api.service.AccountExportService;
 import com.fintrack.fintrack_api.service.AccountService;
+import com.fintrack.fintrack_api.service.StatementImportService;
+import com.fintrack.fintrack_api.service.TransactionHistoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 @Tag(name = "Account Controller", description = "APIs for account management")
@@ -28,6 +46,9 @@ import java.util.List;
 public class AccountController {
 
     private final AccountService accountService;
+    private final AccountExportService accountExportService;
+    private final StatementImportService statementImportService;
+    private final TransactionHistoryService transactionHistoryService;
 
     @Operation(summary = "Get all active accounts of the current user")
     @GetMapping
@@ -57,18 +78,29 @@ public class AccountController {
         return ResponseEntity.ok(accountService.createAccount(accountRequest, currentUser));
     }
 
-    @Operation(summary = "Update account for the current user by account ID")
+    @Operation(summary = "Create multiple accounts for the current user")
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkAccountResultDTO>> createAccounts(@RequestBody List<CreateAccountRequestDTO> accountRequests,
+                                                                     @AuthenticationPrincipal UserPrincipal currentUser) {
+        return ResponseEntity.ok(accountService.createAccounts(accountRequests, currentUser));
+    }
+
+    @Operation(summary = "Update account for the current user by account ID",
+            description = "The body must carry the account version last read; a missing version is rejected with 400 "
+                    + "and a stale one with 409")
     @PutMapping("/id/{id}")
     public ResponseEntity<AccountResponseDTO> updateAccountById(@PathVariable Long id,
-                                            @RequestBody UpdateAccountRequestDTO accountRequest,
+                                            @Valid @RequestBody UpdateAccountRequestDTO accountRequest,
                                             @AuthenticationPrincipal UserPrincipal currentUser) {
         return ResponseEntity.ok(accountService.updateAccountById(id, accountRequest, currentUser));
     }
 
-    @Operation(summary = "Update account for the current user by account number")
+    @Operation(summary = "Update account for the current user by account number",
+            description = "The body must carry the account version last read; a missing version is rejected with 400 "
+                    + "and a stale one with 409")
     @PutMapping("/accountNumber/{accountNumber}")
     public ResponseEntity<AccountResponseDTO> updateAccountByAccountNumber(@PathVariable String accountNumber,
-                                                            @RequestBody UpdateAccountRequestDTO accountRequest,
+                                                            @Valid @RequestBody UpdateAccountRequestDTO accountRequest,
                                                             @AuthenticationPrincipal UserPrincipal currentUser) {
         return ResponseEntity.ok(accountService.updateAccountByAccountNumber(accountNumber, accountRequest, currentUser));
     }
@@ -89,6 +121,49 @@ public class AccountController {
         accountService.deactivateAccountByAccountNumber(accountNumber, currentUser);
     }
 
+    @Operation(summary = "Get the transaction history of an account of the current user, newest first, using cursor pagination")
+    @GetMapping("/accountNumber/{accountNumber}/transactions")
+    public ResponseEntity<CursorPageResponseDTO<TransactionHistoryEntryDTO>> getTransactionHistory(
+            @PathVariable String accountNumber,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Max(100) int size,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        TransactionHistoryFilterDTO filter = TransactionHistoryFilterDTO.builder()
+                .from(from)
+                .to(to)
+                .minAmount(minAmount)
+                .maxAmount(maxAmount)
+                .category(category)
+                .size(size)
+                .build();
+
+        return ResponseEntity.ok(transactionHistoryService.getHistory(accountNumber, filter, cursor, currentUser));
+    }
+
+    @Operation(summary = "Import a CSV or OFX bank statement into the history of an account of the current user")
+    @PostMapping(value = "/accountNumber/{accountNumber}/statements", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StatementImportProgressDTO> importStatement(@PathVariable String accountNumber,
+                                                                      @RequestParam("file") MultipartFile file,
+                                                                      @RequestParam(defaultValue = "CSV") StatementImportService.Format format,
+                                                                      @AuthenticationPrincipal UserPrincipal currentUser) throws IOException {
+        try (InputStream statement = file.getInputStream()) {
+            return ResponseEntity.ok(statementImportService.importStatement(accountNumber, format, statement, currentUser));
+        }
+    }
+
+    @Operation(summary = "Get the progress of the running or latest statement import into an account of the current user")
+    @GetMapping("/accountNumber/{accountNumber}/statements/progress")
+    public ResponseEntity<StatementImportProgressDTO> getStatementImportProgress(@PathVariable String accountNumber,
+                                                                                 @AuthenticationPrincipal UserPrincipal currentUser) {
+        return ResponseEntity.ok(statementImportService.getImportProgress(accountNumber, currentUser));
+    }
+
     @Operation(summary = "Get accounts of all users by filters (ADMIN only)")
     @GetMapping("/all")
     @PreAuthorize("hasAuthority('ADMIN')")
@@ -111,4 +186,51 @@ public class AccountController {
 
         return ResponseEntity.ok(accountService.getAccountsByFilters(filter));
     }
+
+    @Operation(summary = "Get accounts of all users by filters using cursor pagination (ADMIN only)")
+    @GetMapping("/all/cursor")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<CursorPageResponseDTO<AccountResponseDTO>> getAccountsByCursor(
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) Account.AccountType type,
+            @RequestParam(required = false) Account.AccountStatus status,
+            @RequestParam(required = false) String accountNumber,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Max(100) int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        AccountFilterRequestDTO filter = AccountFilterRequestDTO.builder()
+                .email(email)
+                .type(type)
+                .status(status)
+                .accountNumber(accountNumber)
+                .size(size)
+                .build();
+
+        return ResponseEntity.ok(accountService.getAccountsByCursor(filter, cursor, includeTotal));
+    }
+
+    @Operation(summary = "Export accounts of all users by filters as NDJSON or CSV (ADMIN only)")
+    @GetMapping("/all/export")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportAccounts(
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) Account.AccountType type,
+            @RequestParam(required = false) Account.AccountStatus status,
+            @RequestParam(required = false) String accountNumber,
+            @RequestParam(defaultValue = "NDJSON") AccountExportService.Format format) {
+
+        AccountFilterRequestDTO filter = AccountFilterRequestDTO.builder()
+                .email(email)
+                .type(type)
+                .status(status)
+                .accountNumber(accountNumber)
+                .build();
+        accountExportService.validateFilter(filter);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"accounts." + format.getExtension() + "\"")
+                .body(out -> accountExportService.export(filter, format, out));
+    }
 }
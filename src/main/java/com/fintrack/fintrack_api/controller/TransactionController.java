@@ -0,0 +1,49 @@
+package com.fintrack.fintrack_api.controller;
+
+import com.fintrack.fintrack_api.dto.request.CardTransactionEventDTO;
+import com.fintrack.fintrack_api.dto.request.TransferRequestDTO;
+import com.fintrack.fintrack_api.dto.response.CardFeedIngestResultDTO;
+import com.fintrack.fintrack_api.dto.response.TransactionResponseDTO;
+import com.fintrack.fintrack_api.security.UserPrincipal;
+import com.fintrack.fintrack_api.service.CardFeedIngestionService;
+import com.fintrack.fintrack_api.service.TransferService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "Transaction Controller", description = "APIs for transfers between accounts and card feed ingestion")
+@RestController
+@RequestMapping("/api/transactions")
+@RequiredArgsConstructor
+public class TransactionController {
+
+    private final TransferService transferService;
+    private final CardFeedIngestionService cardFeedIngestionService;
+
+    @Operation(summary = "Transfer money from an account of the current user to another account")
+    @PostMapping("/transfers")
+    public ResponseEntity<TransactionResponseDTO> transfer(@Valid @RequestBody TransferRequestDTO request,
+                                                           @AuthenticationPrincipal UserPrincipal currentUser) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(transferService.transfer(request, currentUser));
+    }
+
+    @Operation(summary = "Accept card feed events; they are applied to accounts asynchronously (admin only)")
+    @PostMapping("/card-feed")
+    public ResponseEntity<CardFeedIngestResultDTO> ingestCardFeed(@RequestBody List<CardTransactionEventDTO> events) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(cardFeedIngestionService.ingest(events));
+    }
+
+    @Operation(summary = "Get a transaction involving an account of the current user by transaction ID")
+    @GetMapping("/{id}")
+    public ResponseEntity<TransactionResponseDTO> getTransactionById(@PathVariable Long id,
+                                                                     @AuthenticationPrincipal UserPrincipal currentUser) {
+        return ResponseEntity.ok(transferService.getTransactionById(id, currentUser));
+    }
+}
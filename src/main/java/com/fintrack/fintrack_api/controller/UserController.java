@@ -3,20 +3,23 @@ package com.fintrack.fintrack_api.controller;
 import com.fintrack.fintrack_api.dto.request.UpdateProfileRequestDTO;
 import com.fintrack.fintrack_api.dto.request.UserRegistrationRequestDTO;
 import com.fintrack.fintrack_api.dto.response.AdminUserProfileResponseDTO;
+import com.fintrack.fintrack_api.dto.response.CursorPageResponseDTO;
 import com.fintrack.fintrack_api.dto.response.UserProfileResponseDTO;
 import com.fintrack.fintrack_api.model.Users;
 import com.fintrack.fintrack_api.model.enums.Role;
 import com.fintrack.fintrack_api.service.AuthenticationService;
+import com.fintrack.fintrack_api.service.UserSearchService;
 import com.fintrack.fintrack_api.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.util.EnumSet;
 
 @Tag(name = "User Controller", description = "APIs for user management")
 @RestController
@@ -26,6 +29,7 @@ public class UserController {
 
     private final UserService userService;
     private final AuthenticationService authenticationService;
+    private final UserSearchService userSearchService;
 
     @Operation(summary = "Register user profile")
     @PostMapping("/register")
@@ -37,7 +41,7 @@ public class UserController {
         user.setLastName(request.lastName());
         user.setPhoneNumber(request.phoneNumber());
         user.setEnabled(true);
-        user.setRoles(List.of(Role.USER.getValue()));
+        user.setRoles(EnumSet.of(Role.USER));
 
         Users savedUser = userService.registerUser(user);
         return ResponseEntity.ok(savedUser);
@@ -46,8 +50,7 @@ public class UserController {
     @Operation(summary = "Get current user profile")
     @GetMapping("/profile")
     public ResponseEntity<UserProfileResponseDTO> getCurrentUserProfile() {
-        Users currentUser = authenticationService.getCurrentUser();
-        return ResponseEntity.ok(userService.getCurrentUserProfile(currentUser));
+        return ResponseEntity.ok(userService.getUserProfileByEmail(authenticationService.getCurrentUsername()));
     }
 
     @Operation(summary = "Update current user profile")
@@ -58,6 +61,17 @@ public class UserController {
         return ResponseEntity.ok(userService.updateCurrentUserProfile(currentUser, request));
     }
 
+    @Operation(summary = "Search users by partial email, name or phone number (ADMIN only)")
+    @GetMapping("/search")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<CursorPageResponseDTO<AdminUserProfileResponseDTO>> searchUsers(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Max(100) int size,
+            @RequestParam(defaultValue = "false") boolean fuzzy) {
+        return ResponseEntity.ok(userSearchService.searchUsers(q, cursor, size, fuzzy));
+    }
+
     @Operation(summary = "Get user profile by user ID (ADMIN only)")
     @GetMapping("/{id}")
     @PreAuthorize("hasAuthority('ADMIN')")
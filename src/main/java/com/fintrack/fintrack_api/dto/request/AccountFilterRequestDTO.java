@@ -18,6 +18,6 @@ public record AccountFilterRequestDTO(
 ) {
     public AccountFilterRequestDTO {
         if (page == null || page < 0) page = 0;
-        if (size == null || size > 20) size = 20;
+        if (size == null || size < 1 || size > 20) size = 20;
     }
 }
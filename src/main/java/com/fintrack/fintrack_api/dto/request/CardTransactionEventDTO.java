@@ -0,0 +1,16 @@
+package com.fintrack.fintrack_api.dto.request;
+
+import java.math.BigDecimal;
+
+/**
+ * One event from the card feed. A negative amount is a payment from the account, a positive one
+ * a refund to it. The category is optional, typically derived from the merchant.
+ */
+public record CardTransactionEventDTO(
+        String accountNumber,
+        BigDecimal amount,
+        String currency,
+        String description,
+        String category
+) {
+}
@@ -0,0 +1,26 @@
+package com.fintrack.fintrack_api.dto.request;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Filters for an account's transaction history. Dates are inclusive; a missing {@code to} means
+ * today and a missing {@code from} a default range before it. Amounts are signed from the
+ * account's point of view, so money going out is negative.
+ */
+@Builder
+public record TransactionHistoryFilterDTO(
+        LocalDate from,
+        LocalDate to,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        String category,
+        Integer size
+) {
+    public TransactionHistoryFilterDTO {
+        if (size == null || size < 1 || size > 100) size = 20;
+        if (category != null && category.isBlank()) category = null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.fintrack.fintrack_api.dto.request;
+
+import com.fintrack.fintrack_api.model.Transaction;
+import com.fintrack.fintrack_api.util.ErrorMessages;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+
+public record TransferRequestDTO(
+        @NotBlank String sourceAccountNumber,
+
+        @NotBlank String targetAccountNumber,
+
+        @NotNull
+        @Positive(message = ErrorMessages.INVALID_TRANSFER_AMOUNT)
+        @Digits(integer = 17, fraction = 2, message = ErrorMessages.INVALID_TRANSFER_AMOUNT)
+        BigDecimal amount,
+
+        @Size(max = 255, message = ErrorMessages.INVALID_TRANSFER_DESCRIPTION)
+        String description,
+
+        @Size(max = Transaction.MAX_CATEGORY_LENGTH, message = ErrorMessages.INVALID_CATEGORY)
+        String category
+) {
+}
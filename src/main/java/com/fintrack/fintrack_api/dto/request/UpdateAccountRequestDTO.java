@@ -1,9 +1,24 @@
 package com.fintrack.fintrack_api.dto.request;
 
+import com.fintrack.fintrack_api.util.ErrorMessages;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
+/**
+ * Validated at the controller: the rename is a native update, so the entity's constraints are
+ * never checked for it.
+ *
+ * @param version the account version the client last read; the update is rejected if the
+ *                account has changed since. Required: requests without it, which were accepted
+ *                before versioned renames, are now rejected with 400
+ */
 public record UpdateAccountRequestDTO(
+        @NotBlank(message = "Account name must not be blank")
         @Size(min = 2, max = 50, message = "Account name must be between 2 and 50 characters")
-        String name
+        String name,
+
+        @NotNull(message = ErrorMessages.NULL_ACCOUNT_VERSION)
+        Long version
 ) {
 }
@@ -1,6 +1,6 @@
 package com.fintrack.fintrack_api.dto.request;
 
-import jakarta.validation.constraints.Pattern;
+import com.fintrack.fintrack_api.validation.ValidPhoneNumber;
 import jakarta.validation.constraints.Size;
 
 public record UpdateProfileRequestDTO(
@@ -10,7 +10,7 @@ public record UpdateProfileRequestDTO(
         @Size(min = 2, max = 50, message = "Last name must be between 2 and 50 characters")
         String lastName,
 
-        @Pattern(regexp = "^\\+[1-9]\\d{6,14}$", message = "Phone number should be valid")
+        @ValidPhoneNumber
         String phoneNumber
 ) {
 }
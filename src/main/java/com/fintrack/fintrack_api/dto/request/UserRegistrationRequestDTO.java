@@ -1,13 +1,14 @@
 package com.fintrack.fintrack_api.dto.request;
 
-import jakarta.validation.constraints.Email;
+import com.fintrack.fintrack_api.validation.ValidEmail;
+import com.fintrack.fintrack_api.validation.ValidPhoneNumber;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 public record UserRegistrationRequestDTO(
-    @Email String email,
+    @NotBlank @ValidEmail String email,
 
+    @NotBlank
     @Size(min = 8, max = 128, message = "Password must be between 8 and 128 characters")
     String password,
 
@@ -19,7 +20,7 @@ public record UserRegistrationRequestDTO(
     String lastName,
 
     @NotBlank
-    @Pattern(regexp = "^\\+[1-9]\\d{6,14}$", message = "Phone number should be valid")
+    @ValidPhoneNumber
     String phoneNumber
 ) {
 }
@@ -16,6 +16,11 @@ public record AccountResponseDTO(
         String currency,
         Account.AccountStatus status,
         String userEmail,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        Long version
 ) {
+
+    public AccountResponseDTO withBalance(BigDecimal balance) {
+        return new AccountResponseDTO(id, accountNumber, name, type, balance, currency, status, userEmail, createdAt, version);
+    }
 }
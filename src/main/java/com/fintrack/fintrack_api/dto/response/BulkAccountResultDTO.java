@@ -0,0 +1,12 @@
+package com.fintrack.fintrack_api.dto.response;
+
+/**
+ * Outcome of one item of a bulk account creation request. Exactly one of {@code account} and
+ * {@code error} is set.
+ */
+public record BulkAccountResultDTO(
+        int index,
+        AccountResponseDTO account,
+        String error
+) {
+}
@@ -0,0 +1,6 @@
+package com.fintrack.fintrack_api.dto.response;
+
+public record CardFeedIngestResultDTO(
+        int accepted
+) {
+}
@@ -0,0 +1,16 @@
+package com.fintrack.fintrack_api.dto.response;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is null on the last page and
+ * {@code approximateTotal} is only set when the caller asked for it.
+ */
+public record CursorPageResponseDTO<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext,
+        Long approximateTotal
+) {
+}
@@ -0,0 +1,14 @@
+package com.fintrack.fintrack_api.dto.response;
+
+public record StatementImportProgressDTO(
+        Status status,
+        long rowsRead,
+        long rowsImported,
+        long duplicatesSkipped,
+        String error
+) {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+}
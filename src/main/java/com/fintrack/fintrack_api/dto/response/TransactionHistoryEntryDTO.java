@@ -0,0 +1,22 @@
+package com.fintrack.fintrack_api.dto.response;
+
+import com.fintrack.fintrack_api.model.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One booking in an account's history. The amount is signed from the account's point of view and
+ * the counterparty is the other account of a transfer.
+ */
+public record TransactionHistoryEntryDTO(
+        Long transactionId,
+        Transaction.TransactionType type,
+        LocalDateTime bookedAt,
+        BigDecimal amount,
+        String currency,
+        String counterpartyAccountNumber,
+        String category,
+        String description
+) {
+}
@@ -0,0 +1,19 @@
+package com.fintrack.fintrack_api.dto.response;
+
+import com.fintrack.fintrack_api.model.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record TransactionResponseDTO(
+        Long id,
+        Transaction.TransactionType type,
+        String sourceAccountNumber,
+        String targetAccountNumber,
+        BigDecimal amount,
+        String currency,
+        String description,
+        String category,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,8 @@
+package com.fintrack.fintrack_api.exception;
+
+public class AccountVersionConflictException extends RuntimeException {
+
+    public AccountVersionConflictException(String errorMessage) {
+        super(errorMessage);
+    }
+}
@@ -177,6 +177,16 @@ public class GlobalExceptionHandler {
                 .body(problemDetail);
     }
 
+    @ExceptionHandler(AccountVersionConflictException.class)
+    private ResponseEntity<ProblemDetail> handleAccountVersionConflictException(AccountVersionConflictException e) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(CONFLICT, e.getMessage());
+        problemDetail.setTitle("Stale account version.");
+        problemDetail.setType(URI.create(""));
+
+        return ResponseEntity.status(problemDetail.getStatus())
+                .body(problemDetail);
+    }
+
     @ExceptionHandler(InvalidAccountOperationException.class)
     private ResponseEntity<ProblemDetail> handleInvalidAccountOperationException(InvalidAccountOperationException e) {
         ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(BAD_REQUEST, e.getMessage());
@@ -12,11 +12,19 @@ public interface AccountMapper {
     @Mapping(target = "userEmail", source = "user.email")
     AccountResponseDTO toAccountResponseDTO(Account account);
 
+    /**
+     * Maps an account whose owner email is already known, without touching the lazy user.
+     */
+    @Mapping(target = "userEmail", source = "userEmail")
+    AccountResponseDTO toAccountResponseDTO(Account account, String userEmail);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "accountNumber", ignore = true)
     @Mapping(target = "balance", ignore = true)
+    @Mapping(target = "foldCheckpoint", ignore = true)
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "user", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     Account toAccount(CreateAccountRequestDTO accountRequest);
@@ -25,9 +33,11 @@ public interface AccountMapper {
     @Mapping(target = "accountNumber", ignore = true)
     @Mapping(target = "type", ignore = true)
     @Mapping(target = "balance", ignore = true)
+    @Mapping(target = "foldCheckpoint", ignore = true)
     @Mapping(target = "currency", ignore = true)
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "user", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     Account toAccount(UpdateAccountRequestDTO accountRequest);
@@ -0,0 +1,14 @@
+package com.fintrack.fintrack_api.mapper;
+
+import com.fintrack.fintrack_api.dto.response.TransactionResponseDTO;
+import com.fintrack.fintrack_api.model.Transaction;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface TransactionMapper {
+
+    @Mapping(target = "sourceAccountNumber", source = "sourceAccount.accountNumber")
+    @Mapping(target = "targetAccountNumber", source = "targetAccount.accountNumber")
+    TransactionResponseDTO toTransactionResponseDTO(Transaction transaction);
+}
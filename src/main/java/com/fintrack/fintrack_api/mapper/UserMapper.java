@@ -3,14 +3,26 @@ package com.fintrack.fintrack_api.mapper;
 import com.fintrack.fintrack_api.dto.response.AdminUserProfileResponseDTO;
 import com.fintrack.fintrack_api.dto.response.UserProfileResponseDTO;
 import com.fintrack.fintrack_api.model.Users;
+import com.fintrack.fintrack_api.model.enums.Role;
+import com.fintrack.fintrack_api.repository.projection.UserAdminProfileRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", imports = Role.class)
 public interface UserMapper {
 
     UserProfileResponseDTO toUserProfileResponseDTO(Users user);
 
     @Mapping(target = "profile", source = ".")
+    @Mapping(target = "roles", expression = "java(Role.toValues(user.getRoles()))")
     AdminUserProfileResponseDTO toAdminUserProfileResponseDTO(Users user);
+
+    UserProfileResponseDTO toUserProfileResponseDTO(UserAdminProfileRow row);
+
+    default AdminUserProfileResponseDTO toAdminUserProfileResponseDTO(UserAdminProfileRow row) {
+        return new AdminUserProfileResponseDTO(
+                toUserProfileResponseDTO(row),
+                Role.toValues(Role.fromMask(row.roleMask())),
+                row.enabled());
+    }
 }
@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -16,7 +17,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "accounts")
+@Table(name = "accounts", indexes = {
+        @Index(name = "idx_accounts_status_type_created_at_id", columnList = "status, type, created_at, id"),
+        @Index(name = "idx_accounts_created_at_id", columnList = "created_at, id")
+})
 public class Account {
 
     public enum AccountType {
@@ -28,7 +32,8 @@ public class Account {
     }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "accounts_seq")
+    @SequenceGenerator(name = "accounts_seq", sequenceName = "accounts_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 16)
@@ -42,9 +47,22 @@ public class Account {
     @Column(nullable = false)
     private AccountType type;
 
-    @Column(nullable = false, precision = 19, scale = 2)
+    /**
+     * Written on insert, then only by ledger folds through a bulk update, which leaves
+     * {@link #version} alone so a fold never makes a client's version stale.
+     */
+    @Column(nullable = false, updatable = false, precision = 19, scale = 2)
     private BigDecimal balance = BigDecimal.ZERO;
 
+    /**
+     * How many times pending postings were folded into {@link #balance}. Postings with a later
+     * {@link LedgerPosting#getFoldCheckpoint() checkpoint} are still pending. Only written by
+     * ledger folds, together with the balance.
+     */
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private long foldCheckpoint;
+
     @Column(nullable = false, length = 3)
     @Size(min = 3, max = 3, message = "Currency code must have exactly 3 characters")
     @Pattern(regexp = "^[A-Z]*$", message = "Currency code must contain only uppercase letters")
@@ -58,12 +76,24 @@ public class Account {
     @JoinColumn(name = "user_id", nullable = false)
     private Users user;
 
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long version;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Only credit card balances may go below zero.
+     */
+    public boolean allowsNegativeBalance() {
+        return type == AccountType.CREDIT_CARD;
+    }
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
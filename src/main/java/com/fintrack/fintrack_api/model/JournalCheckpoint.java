@@ -0,0 +1,29 @@
+package com.fintrack.fintrack_api.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * How far a node's local ingestion journal has been applied to the database. Written in the same
+ * transaction as the records it covers, so replaying the journal from here applies every record
+ * exactly once.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "journal_checkpoints")
+public class JournalCheckpoint {
+
+    @Id
+    @Column(name = "journal_id", length = 36)
+    private String journalId;
+
+    @Column(name = "segment_number", nullable = false)
+    private Long segment;
+
+    @Column(name = "segment_offset", nullable = false)
+    private Integer offset;
+}
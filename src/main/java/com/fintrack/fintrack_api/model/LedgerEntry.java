@@ -0,0 +1,75 @@
+package com.fintrack.fintrack_api.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One balanced journal entry: the amounts of its postings always sum to zero. Entries and
+ * postings are only ever inserted.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "ledger_entries")
+public class LedgerEntry {
+
+    public enum EntryType {
+        OPENING_BALANCE, TRANSFER, CARD
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ledger_entries_seq")
+    @SequenceGenerator(name = "ledger_entries_seq", sequenceName = "ledger_entries_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EntryType type;
+
+    /**
+     * The business transaction this entry records, if any; opening balances have none.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "transaction_id")
+    private Transaction transaction;
+
+    @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @OneToMany(mappedBy = "entry", cascade = CascadeType.PERSIST)
+    private List<LedgerPosting> postings = new ArrayList<>();
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Adds a posting to {@code account}, which must be locked in the current transaction. A folded
+     * posting is already in the account's balance column; any other is pending until the next fold.
+     */
+    public void addPosting(Account account, BigDecimal amount, boolean folded) {
+        long foldCheckpoint = account == null ? 0 : account.getFoldCheckpoint() + (folded ? 0 : 1);
+        postings.add(LedgerPosting.builder()
+                .entry(this)
+                .account(account)
+                .amount(amount)
+                .foldCheckpoint(foldCheckpoint)
+                .build());
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
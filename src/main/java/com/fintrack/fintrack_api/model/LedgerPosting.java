@@ -0,0 +1,61 @@
+package com.fintrack.fintrack_api.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.math.BigDecimal;
+
+/**
+ * A signed amount booked to one account: positive credits, negative debits. A posting without an
+ * account is the outside world's side of money entering or leaving the system, such as an
+ * opening balance.
+ * <p>
+ * {@link Account#getBalance()} holds the sum of the account's postings up to its fold checkpoint;
+ * later postings are pending and added on read. Postings are never updated: folding only moves the
+ * account's checkpoint.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "ledger_postings", indexes = {
+        @Index(name = "idx_ledger_postings_account_checkpoint", columnList = "account_id, fold_checkpoint"),
+        @Index(name = "idx_ledger_postings_entry", columnList = "entry_id")
+})
+public class LedgerPosting {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ledger_postings_seq")
+    @SequenceGenerator(name = "ledger_postings_seq", sequenceName = "ledger_postings_seq", allocationSize = 50)
+    private Long id;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "entry_id", nullable = false, updatable = false)
+    private LedgerEntry entry;
+
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", updatable = false)
+    private Account account;
+
+    @Column(nullable = false, updatable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    /**
+     * The first of the account's fold checkpoints that includes this posting. Taken from the
+     * account row while it is locked, which keeps the account from being folded until this
+     * posting commits.
+     */
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private long foldCheckpoint;
+}
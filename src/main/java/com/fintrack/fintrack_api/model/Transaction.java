@@ -0,0 +1,84 @@
+package com.fintrack.fintrack_api.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_source_account_created_at_id", columnList = "source_account_id, created_at, id"),
+        @Index(name = "idx_transactions_target_account_created_at_id", columnList = "target_account_id, created_at, id")
+})
+public class Transaction {
+
+    /**
+     * {@code TRANSFER} moves money between two accounts. {@code CARD} is a card payment or refund
+     * from the card feed and has only one side in this system: the source for a payment, the
+     * target for a refund. {@code STATEMENT} is a booking imported from a bank statement, sided
+     * the same way; it is history only and has no ledger entry.
+     */
+    public enum TransactionType {
+        TRANSFER, CARD, STATEMENT
+    }
+
+    /**
+     * Ids handed out per {@code transactions_seq} value, for writers that bypass Hibernate.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    public static final int MAX_CATEGORY_LENGTH = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_seq")
+    @SequenceGenerator(name = "transactions_seq", sequenceName = "transactions_seq", allocationSize = ID_ALLOCATION_SIZE)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "source_account_id")
+    private Account sourceAccount;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "target_account_id")
+    private Account targetAccount;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Column(length = 255)
+    private String description;
+
+    /**
+     * Free-form label such as {@code groceries}, set by the client or the card feed.
+     */
+    @Column(length = MAX_CATEGORY_LENGTH)
+    private String category;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Keeps a time set by the caller, such as when an ingested event was accepted.
+     */
+    @PrePersist
+    protected void onCreate() {
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -1,16 +1,19 @@
 package com.fintrack.fintrack_api.model;
 
+import com.fintrack.fintrack_api.model.enums.Role;
 import jakarta.persistence.*;
-import jakarta.validation.constraints.Email;
-import jakarta.validation.constraints.Pattern;
-import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.EnumSet;
+import java.util.Set;
 
 @Data
 @Builder
@@ -20,6 +23,11 @@ import java.util.List;
 @Table(uniqueConstraints = {
         @UniqueConstraint(columnNames = "email"),
         @UniqueConstraint(columnNames = "phoneNumber")
+}, indexes = {
+        // Keyset order of the admin user search; its text indexes are created by UserSearchIndexes
+        @Index(name = "idx_users_created_at_id", columnList = "created_at, id"),
+        // Range scan of TokenEpochRegistry's refresh, which only wants users changed since the last one
+        @Index(name = "idx_users_updated_at", columnList = "updated_at")
 })
 public class Users {
 
@@ -27,40 +35,52 @@ public class Users {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Field formats are validated once, on the registration and profile request DTOs
     @Column(nullable = false, unique = true)
-    @Email(message = "Email should be valid")
     private String email;
 
     @Column(nullable = false)
     private String password;
 
-    @Column(nullable = false)
-    @Size(min = 2, max = 50, message = "First name must be between 2 and 50 characters")
+    @Column(nullable = false, length = 50)
     private String firstName;
 
-    @Column(nullable = false)
-    @Size(min = 2, max = 50, message = "Last name must be between 2 and 50 characters")
+    @Column(nullable = false, length = 50)
     private String lastName;
 
     @Column(nullable = false, unique = true)
-    @Pattern(regexp = "^\\+[1-9]\\d{6,14}$",
-            message = "Phone number should be valid")
     private String phoneNumber;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
-    @Column(name = "role")
-    private List<String> roles;
+    /**
+     * Bitmask of {@link Role#getMask()} values; use {@link #getRoles()} and {@link #setRoles(Set)}.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "role_mask", nullable = false)
+    @ColumnDefault("0")
+    private int roleMask;
 
     @Column(nullable = false)
     private boolean enabled;
 
+    @Column(name = "token_epoch", nullable = false)
+    @ColumnDefault("0")
+    private int tokenEpoch;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    public EnumSet<Role> getRoles() {
+        return Role.fromMask(roleMask);
+    }
+
+    public void setRoles(Set<Role> roles) {
+        this.roleMask = Role.toMask(roles);
+    }
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -71,4 +91,12 @@ public class Users {
     protected void onUpdate() {
         this.updatedAt = LocalDateTime.now();
     }
+
+    public static class UsersBuilder {
+
+        public UsersBuilder roles(Set<Role> roles) {
+            this.roleMask = Role.toMask(roles);
+            return this;
+        }
+    }
 }
@@ -2,15 +2,26 @@ package com.fintrack.fintrack_api.model.enums;
 
 import lombok.Getter;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Roles are persisted as a bitmask on the users row. Masks are assigned explicitly, so reordering
+ * the constants never changes the meaning of stored data; new roles must take an unused bit.
+ */
 @Getter
 public enum Role {
-    USER("USER"),
-    ADMIN("ADMIN");
+    USER("USER", 1),
+    ADMIN("ADMIN", 1 << 1);
 
     private final String value;
+    private final int mask;
 
-    Role(String value) {
+    Role(String value, int mask) {
         this.value = value;
+        this.mask = mask;
     }
 
     public static Role fromValue(String value) {
@@ -21,4 +32,28 @@ public enum Role {
         }
         throw new IllegalArgumentException("Unknown role: " + value);
     }
+
+    public static int toMask(Collection<Role> roles) {
+        int mask = 0;
+        if (roles != null) {
+            for (Role role : roles) {
+                mask |= role.mask;
+            }
+        }
+        return mask;
+    }
+
+    public static EnumSet<Role> fromMask(int mask) {
+        EnumSet<Role> roles = EnumSet.noneOf(Role.class);
+        for (Role role : Role.values()) {
+            if ((mask & role.mask) != 0) {
+                roles.add(role);
+            }
+        }
+        return roles;
+    }
+
+    public static List<String> toValues(Set<Role> roles) {
+        return roles.stream().map(Role::getValue).toList();
+    }
 }
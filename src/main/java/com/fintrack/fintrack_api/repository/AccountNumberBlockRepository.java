@@ -0,0 +1,29 @@
+package com.fintrack.fintrack_api.repository;
+
+import com.fintrack.fintrack_api.model.AccountNumberBlock;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface AccountNumberBlockRepository extends JpaRepository<AccountNumberBlock, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM AccountNumberBlock b WHERE b.year = :year")
+    Optional<AccountNumberBlock> findByYearForUpdate(@Param("year") Integer year);
+
+    /**
+     * A plain insert, unlike {@code save}, which merges an entity with an assigned id and would
+     * overwrite a row another node has just created instead of failing on the primary key.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO account_number_blocks (allocation_year, next_value) VALUES (:year, :nextValue)",
+            nativeQuery = true)
+    void insert(@Param("year") Integer year, @Param("nextValue") Long nextValue);
+}
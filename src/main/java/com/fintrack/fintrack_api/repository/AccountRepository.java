@@ -1,41 +1,67 @@
 package com.fintrack.fintrack_api.repository;
 
+import com.fintrack.fintrack_api.dto.response.AccountResponseDTO;
 import com.fintrack.fintrack_api.model.Account;
 import com.fintrack.fintrack_api.model.Users;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.fintrack.fintrack_api.repository.projection.AccountBalanceRow;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface AccountRepository extends JpaRepository<Account, Long> {
-
-    @Query("SELECT a FROM Account a WHERE a.user = :user AND a.status = 'ACTIVE'")
-    List<Account> findActiveAccountsByUser(Users user);
-
-    @Query("SELECT a FROM Account a WHERE a.id = :id AND a.user = :user AND a.status = 'ACTIVE'")
-    Optional<Account> findActiveAccountByIdAndUser(Long id, Users user);
-
-    @Query("SELECT a FROM Account a WHERE a.accountNumber = :accountNumber AND a.user = :user AND a.status = 'ACTIVE'")
-    Optional<Account> findActiveAccountByAccountNumberAndUser(String accountNumber, Users user);
-
-    @Query("SELECT a FROM Account a " +
-            "JOIN FETCH a.user u " +
-            "WHERE (:email IS NULL OR u.email = :email) " +
-            "AND (:type IS NULL OR a.type = :type) " +
-            "AND (:status IS NULL OR a.status = :status)" +
-            "AND (:accountNumber IS NULL OR a.accountNumber = :accountNumber)")
-    Page<Account> findFilteredAccounts(
-            @Param("email") String email,
-            @Param("type") Account.AccountType type,
-            @Param("status") Account.AccountStatus status,
-            @Param("accountNumber") String accountNumber,
-            Pageable pageable);
+public interface AccountRepository extends JpaRepository<Account, Long>, JpaSpecificationExecutor<Account> {
+
+    /**
+     * The balance column plus the ledger postings not yet folded into it.
+     */
+    String CURRENT_BALANCE =
+            "a.balance + COALESCE((SELECT SUM(p.amount) FROM LedgerPosting p " +
+            "WHERE p.account = a AND p.foldCheckpoint > a.foldCheckpoint), 0)";
+
+    /**
+     * Selects only the columns of {@link AccountResponseDTO}, so read paths never materialize
+     * managed entities.
+     */
+    String ACCOUNT_VIEW_SELECT = "SELECT new com.fintrack.fintrack_api.dto.response.AccountResponseDTO(" +
+            "a.id, a.accountNumber, a.name, a.type, " + CURRENT_BALANCE + ", " +
+            "a.currency, a.status, u.email, a.createdAt, a.version) " +
+            "FROM Account a JOIN a.user u ";
+
+    @Transactional(readOnly = true)
+    @Query(ACCOUNT_VIEW_SELECT + "WHERE a.user.id = :userId AND a.status = 'ACTIVE'")
+    List<AccountResponseDTO> findActiveAccountViewsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Current balances and versions of the user's active accounts, which is all a cached account
+     * list needs to be checked and brought up to date.
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.fintrack.fintrack_api.repository.projection.AccountBalanceRow(a.id, " + CURRENT_BALANCE +
+            ", a.version) FROM Account a WHERE a.user.id = :userId AND a.status = 'ACTIVE'")
+    List<AccountBalanceRow> findActiveAccountBalancesByUserId(@Param("userId") Long userId);
+
+    @Transactional(readOnly = true)
+    @Query(ACCOUNT_VIEW_SELECT + "WHERE a.id = :id AND a.user.id = :userId AND a.status = 'ACTIVE'")
+    Optional<AccountResponseDTO> findActiveAccountViewByIdAndUserId(@Param("id") Long id,
+                                                                   @Param("userId") Long userId);
+
+    @Transactional(readOnly = true)
+    @Query(ACCOUNT_VIEW_SELECT + "WHERE a.accountNumber = :accountNumber AND a.user.id = :userId AND a.status = 'ACTIVE'")
+    Optional<AccountResponseDTO> findActiveAccountViewByAccountNumberAndUserId(@Param("accountNumber") String accountNumber,
+                                                                              @Param("userId") Long userId);
 
     @Query(value = """
     SELECT MAX(CAST(SUBSTRING(a.account_number, 9, 6) AS BIGINT))
@@ -44,5 +70,102 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     """, nativeQuery = true)
     Optional<Long> findMaxSequenceForYear(@Param("year") String year);
 
+    /**
+     * Renames the account only if it is still at {@code version}, returning the updated row. Empty
+     * when the account is missing, not the user's, inactive, or changed since the caller read it.
+     */
+    @Query(value = """
+    UPDATE accounts
+    SET name = :name, updated_at = :now, version = version + 1
+    WHERE id = :id AND user_id = :userId AND status = 'ACTIVE' AND version = :version
+    RETURNING *
+    """, nativeQuery = true)
+    Optional<Account> renameActiveAccountById(@Param("id") Long id,
+                                              @Param("userId") Long userId,
+                                              @Param("version") Long version,
+                                              @Param("name") String name,
+                                              @Param("now") LocalDateTime now);
+
+    @Query(value = """
+    UPDATE accounts
+    SET name = :name, updated_at = :now, version = version + 1
+    WHERE account_number = :accountNumber AND user_id = :userId AND status = 'ACTIVE' AND version = :version
+    RETURNING *
+    """, nativeQuery = true)
+    Optional<Account> renameActiveAccountByAccountNumber(@Param("accountNumber") String accountNumber,
+                                                         @Param("userId") Long userId,
+                                                         @Param("version") Long version,
+                                                         @Param("name") String name,
+                                                         @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Account a SET a.status = 'INACTIVE', a.updatedAt = :now, a.version = a.version + 1 " +
+            "WHERE a.id = :id AND a.user.id = :userId AND a.status = 'ACTIVE'")
+    int deactivateActiveAccountById(@Param("id") Long id,
+                                    @Param("userId") Long userId,
+                                    @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Account a SET a.status = 'INACTIVE', a.updatedAt = :now, a.version = a.version + 1 " +
+            "WHERE a.accountNumber = :accountNumber AND a.user.id = :userId AND a.status = 'ACTIVE'")
+    int deactivateActiveAccountByAccountNumber(@Param("accountNumber") String accountNumber,
+                                               @Param("userId") Long userId,
+                                               @Param("now") LocalDateTime now);
+
+    Optional<Account> findByAccountNumber(String accountNumber);
+
+    /**
+     * Share-locks the account rows in id order. Credits to the accounts can proceed concurrently,
+     * but the accounts cannot be deactivated or folded until the caller commits.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT a FROM Account a WHERE a.accountNumber IN :accountNumbers ORDER BY a.id")
+    List<Account> findAllByAccountNumberInForShare(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    /**
+     * Locks the account row against concurrent debits and balance folds.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<Account> findByAccountNumberForUpdate(@Param("accountNumber") String accountNumber);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id = :id")
+    Optional<Account> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Share-locks the account row: it cannot be deactivated or folded until the caller commits.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT a FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<Account> findByAccountNumberForShare(@Param("accountNumber") String accountNumber);
+
+    /**
+     * Adds the pending postings' sum to the balance column and moves the fold checkpoint past
+     * them, without touching the row version.
+     */
+    @Modifying
+    @Query("UPDATE Account a SET a.balance = a.balance + :amount, a.foldCheckpoint = a.foldCheckpoint + 1 " +
+            "WHERE a.id = :id")
+    int fold(@Param("id") Long id, @Param("amount") BigDecimal amount);
+
+    /**
+     * Accounts holding a balance that no ledger posting accounts for, i.e. opened before the
+     * ledger existed. Locked, so they cannot be folded while their opening entries are booked.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.balance <> 0 " +
+            "AND NOT EXISTS (SELECT 1 FROM LedgerPosting p WHERE p.account = a)")
+    List<Account> findWithoutOpeningEntry(Limit limit);
+
+    /**
+     * Planner statistics row estimate for the whole table; cheap, but only as fresh as the last ANALYZE.
+     */
+    @Query(value = "SELECT GREATEST(reltuples, 0)::bigint FROM pg_class WHERE oid = 'accounts'::regclass",
+            nativeQuery = true)
+    long estimateRowCount();
+
     boolean existsByIdAndUserAndStatus(Long id, Users user, Account.AccountStatus status);
+
+    boolean existsByAccountNumberAndUserAndStatus(String accountNumber, Users user, Account.AccountStatus status);
 }
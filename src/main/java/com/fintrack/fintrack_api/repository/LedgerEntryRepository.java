@@ -0,0 +1,9 @@
+package com.fintrack.fintrack_api.repository;
+
+import com.fintrack.fintrack_api.model.LedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+}
@@ -0,0 +1,34 @@
+package com.fintrack.fintrack_api.repository;
+
+import com.fintrack.fintrack_api.model.LedgerPosting;
+import com.fintrack.fintrack_api.repository.projection.IdAmountRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface LedgerPostingRepository extends JpaRepository<LedgerPosting, Long> {
+
+    @Query("SELECT COALESCE(SUM(p.amount), 0) FROM LedgerPosting p JOIN p.account a " +
+            "WHERE a.id = :accountId AND p.foldCheckpoint > a.foldCheckpoint")
+    BigDecimal sumPendingByAccountId(@Param("accountId") Long accountId);
+
+    /**
+     * Sums of the postings not yet folded into each account's balance; accounts without any are
+     * left out.
+     */
+    @Query("SELECT new com.fintrack.fintrack_api.repository.projection.IdAmountRow(p.account.id, SUM(p.amount)) " +
+            "FROM LedgerPosting p JOIN p.account a " +
+            "WHERE a.id IN :accountIds AND p.foldCheckpoint > a.foldCheckpoint GROUP BY a.id")
+    List<IdAmountRow> sumPendingByAccountIds(@Param("accountIds") Collection<Long> accountIds);
+
+    @Query("SELECT a.id FROM Account a WHERE EXISTS " +
+            "(SELECT 1 FROM LedgerPosting p WHERE p.account = a AND p.foldCheckpoint > a.foldCheckpoint)")
+    List<Long> findAccountIdsWithPendingPostings(Limit limit);
+}
@@ -0,0 +1,27 @@
+package com.fintrack.fintrack_api.repository;
+
+import com.fintrack.fintrack_api.dto.response.TransactionResponseDTO;
+import com.fintrack.fintrack_api.model.Transaction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+
+    String TRANSACTION_VIEW_SELECT = "SELECT new com.fintrack.fintrack_api.dto.response.TransactionResponseDTO(" +
+            "t.id, t.type, s.accountNumber, d.accountNumber, t.amount, t.currency, t.description, t.category, t.createdAt) " +
+            "FROM Transaction t LEFT JOIN t.sourceAccount s LEFT JOIN t.targetAccount d ";
+
+    /**
+     * Only returns the transaction if the user owns either side of it.
+     */
+    @Transactional(readOnly = true)
+    @Query(TRANSACTION_VIEW_SELECT + "WHERE t.id = :id AND (s.user.id = :userId OR d.user.id = :userId)")
+    Optional<TransactionResponseDTO> findTransactionViewByIdAndUserId(@Param("id") Long id,
+                                                                      @Param("userId") Long userId);
+}
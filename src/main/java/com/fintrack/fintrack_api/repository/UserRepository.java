@@ -1,9 +1,17 @@
 package com.fintrack.fintrack_api.repository;
 
+import com.fintrack.fintrack_api.dto.response.UserProfileResponseDTO;
 import com.fintrack.fintrack_api.model.Users;
+import com.fintrack.fintrack_api.repository.projection.UserAdminProfileRow;
+import com.fintrack.fintrack_api.repository.projection.UserTokenEpochView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +21,20 @@ public interface UserRepository extends JpaRepository<Users, Long> {
     boolean existsByEmail(String email);
 
     boolean existsByPhoneNumber(String phoneNumber);
+
+    List<UserTokenEpochView> findByTokenEpochGreaterThan(int tokenEpoch);
+
+    List<UserTokenEpochView> findByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.fintrack.fintrack_api.dto.response.UserProfileResponseDTO(" +
+            "u.id, u.email, u.firstName, u.lastName, u.phoneNumber, u.createdAt, u.updatedAt) " +
+            "FROM Users u WHERE u.email = :email")
+    Optional<UserProfileResponseDTO> findProfileByEmail(@Param("email") String email);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.fintrack.fintrack_api.repository.projection.UserAdminProfileRow(" +
+            "u.id, u.email, u.firstName, u.lastName, u.phoneNumber, u.createdAt, u.updatedAt, u.enabled, u.roleMask) " +
+            "FROM Users u WHERE u.id = :id")
+    Optional<UserAdminProfileRow> findAdminProfileById(@Param("id") Long id);
 }
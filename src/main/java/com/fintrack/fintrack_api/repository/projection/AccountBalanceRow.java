@@ -0,0 +1,9 @@
+package com.fintrack.fintrack_api.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * An account's current balance, including postings not yet folded, and its row version.
+ */
+public record AccountBalanceRow(Long id, BigDecimal balance, Long version) {
+}
@@ -0,0 +1,9 @@
+package com.fintrack.fintrack_api.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * An id with an amount: a posting and its amount, or an account and a sum of its postings.
+ */
+public record IdAmountRow(Long id, BigDecimal amount) {
+}
@@ -0,0 +1,19 @@
+package com.fintrack.fintrack_api.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Columns of the users row needed for the admin profile response.
+ */
+public record UserAdminProfileRow(
+        Long id,
+        String email,
+        String firstName,
+        String lastName,
+        String phoneNumber,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        boolean enabled,
+        int roleMask
+) {
+}
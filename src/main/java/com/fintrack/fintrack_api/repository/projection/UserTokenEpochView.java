@@ -0,0 +1,8 @@
+package com.fintrack.fintrack_api.repository.projection;
+
+public interface UserTokenEpochView {
+
+    Long getId();
+
+    int getTokenEpoch();
+}
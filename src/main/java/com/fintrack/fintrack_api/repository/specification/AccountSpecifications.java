@@ -0,0 +1,64 @@
+package com.fintrack.fintrack_api.repository.specification;
+
+import com.fintrack.fintrack_api.dto.request.AccountFilterRequestDTO;
+import com.fintrack.fintrack_api.model.Account;
+import com.fintrack.fintrack_api.util.KeysetCursor;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the admin account filter from only the criteria that are actually set, so Postgres
+ * plans each combination against the matching index instead of a generic catch-all query.
+ */
+public final class AccountSpecifications {
+
+    private AccountSpecifications() {
+    }
+
+    public static Specification<Account> matching(AccountFilterRequestDTO filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(4);
+
+            if (filter.status() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.status()));
+            }
+            if (filter.type() != null) {
+                predicates.add(cb.equal(root.get("type"), filter.type()));
+            }
+            if (StringUtils.hasText(filter.accountNumber())) {
+                predicates.add(cb.equal(root.get("accountNumber"), filter.accountNumber()));
+            }
+            // The users table is only joined when filtering by owner
+            if (StringUtils.hasText(filter.email())) {
+                predicates.add(cb.equal(root.join("user").get("email"), filter.email()));
+            }
+
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Rows strictly after {@code cursor} in {@code (created_at DESC, id DESC)} order.
+     */
+    public static Specification<Account> after(KeysetCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                cb.and(
+                        cb.equal(root.get("createdAt"), cursor.createdAt()),
+                        cb.lessThan(root.get("id"), cursor.id())));
+    }
+
+    /**
+     * Whether any criterion is set, i.e. whether the filter covers less than the whole table.
+     */
+    public static boolean isRestrictive(AccountFilterRequestDTO filter) {
+        return filter.status() != null
+                || filter.type() != null
+                || StringUtils.hasText(filter.accountNumber())
+                || StringUtils.hasText(filter.email());
+    }
+}
@@ -1,6 +1,8 @@
 package com.fintrack.fintrack_api.security;
 
 import com.fintrack.fintrack_api.service.JwtService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -31,24 +34,49 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.security.stateless-principal}")
+    private boolean statelessPrincipal;
+
+    private Counter statelessRequests;
+    private Counter userLoadedRequests;
+
+    @Override
+    protected void initFilterBean() {
+        statelessRequests = principalCounter("stateless");
+        userLoadedRequests = principalCounter("user-loaded");
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        UserPrincipal tokenPrincipal = null;
+
         try {
             logger.info("Incoming request to: {}", request.getRequestURI());
             String jwt = parseJwt(request);
             logger.info("Extracted JWT: {}", jwt);
+            VerifiedToken token = null;
             String username = "";
 
             if (jwt != null) {
-                username = jwtService.extractUsernameFromJwtToken(jwt);
+                token = jwtService.verifyJwtToken(jwt);
+                username = token.subject();
                 logger.info("Extracted email from JWT: {}", username);
             }
 
             if (username != null && !username.isEmpty() && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                UserDetails userDetails;
+                if (statelessPrincipal && token.userId() != null) {
+                    tokenPrincipal = userDetailsService.loadUserFromToken(token);
+                    userDetails = tokenPrincipal;
+                } else {
+                    userDetails = userDetailsService.loadUserByUsername(username);
+                }
                 logger.info("Loaded user: {}", userDetails.getUsername());
 
-                if (jwtService.validateJwtToken(jwt, userDetails)) {
+                if (jwtService.validateJwtToken(token, userDetails)) {
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -64,6 +92,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         filterChain.doFilter(request, response);
+
+        if (tokenPrincipal != null) {
+            (tokenPrincipal.isUserLoaded() ? userLoadedRequests : statelessRequests).increment();
+        }
+    }
+
+    private Counter principalCounter(String outcome) {
+        return Counter.builder("auth.token.principal.requests")
+                .description("Requests authenticated from token claims, by whether the user entity had to be loaded")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
     private String parseJwt(HttpServletRequest request) {
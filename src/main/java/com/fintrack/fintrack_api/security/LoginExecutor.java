@@ -0,0 +1,94 @@
+package com.fintrack.fintrack_api.security;
+
+import com.fintrack.fintrack_api.exception.ServiceUnavailableException;
+import com.fintrack.fintrack_api.util.ErrorMessages;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Runs password verification on a dedicated, size-bounded pool so that a login burst cannot take
+ * every servlet thread. When the pool and its queue are full, callers fail fast with a 503 instead
+ * of waiting.
+ */
+@Component
+public class LoginExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final Timer hashTimer;
+    private final Counter rejections;
+
+    public LoginExecutor(@Value("${app.security.login-executor.threads}") int threads,
+                         @Value("${app.security.login-executor.queue-capacity}") int queueCapacity,
+                         @Value("${app.security.login-executor.timeout-ms}") long timeoutMs,
+                         MeterRegistry meterRegistry) {
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("login-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMs = timeoutMs;
+
+        new ExecutorServiceMetrics(executor, "auth.login", Tags.empty()).bindTo(meterRegistry);
+        this.hashTimer = Timer.builder("auth.login.hash")
+                .description("Time spent authenticating a login on the login pool")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("auth.login.rejected")
+                .description("Logins rejected because the login pool was saturated")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the task on the login pool and waits for its result. Runtime exceptions thrown by the
+     * task, such as bad credentials, are rethrown unchanged.
+     *
+     * @throws ServiceUnavailableException if the pool is saturated or the task does not finish in time
+     */
+    public <T> T execute(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> hashTimer.record(task));
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new ServiceUnavailableException(ErrorMessages.LOGIN_CAPACITY_EXCEEDED);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejections.increment();
+            throw new ServiceUnavailableException(ErrorMessages.LOGIN_CAPACITY_EXCEEDED);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(ErrorMessages.LOGIN_CAPACITY_EXCEEDED);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
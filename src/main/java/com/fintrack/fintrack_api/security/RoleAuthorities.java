@@ -0,0 +1,56 @@
+package com.fintrack.fintrack_api.security;
+
+import com.fintrack.fintrack_api.model.enums.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable role sets and authority lists for every possible role mask, built once. Principals
+ * share these instances instead of building their own per login or per request.
+ * <p>
+ * The tables are indexed by the mask with unknown bits cleared, so they hold every value up to
+ * the union of all role masks, whichever bits the roles take.
+ */
+public final class RoleAuthorities {
+
+    private static final int ALL_ROLES = Role.toMask(EnumSet.allOf(Role.class));
+
+    private static final Set<Role>[] ROLES = buildRoles();
+    private static final List<GrantedAuthority>[] AUTHORITIES = buildAuthorities();
+
+    private RoleAuthorities() {
+    }
+
+    public static Set<Role> roles(int mask) {
+        return ROLES[mask & ALL_ROLES];
+    }
+
+    public static List<GrantedAuthority> authorities(int mask) {
+        return AUTHORITIES[mask & ALL_ROLES];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Role>[] buildRoles() {
+        Set<Role>[] roles = new Set[ALL_ROLES + 1];
+        for (int mask = 0; mask <= ALL_ROLES; mask++) {
+            roles[mask] = Collections.unmodifiableSet(Role.fromMask(mask));
+        }
+        return roles;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<GrantedAuthority>[] buildAuthorities() {
+        List<GrantedAuthority>[] authorities = new List[ALL_ROLES + 1];
+        for (int mask = 0; mask <= ALL_ROLES; mask++) {
+            authorities[mask] = Role.fromMask(mask).stream()
+                    .<GrantedAuthority>map(role -> new SimpleGrantedAuthority(role.getValue()))
+                    .toList();
+        }
+        return authorities;
+    }
+}
@@ -0,0 +1,130 @@
+package com.fintrack.fintrack_api.security;
+
+import com.fintrack.fintrack_api.repository.UserRepository;
+import com.fintrack.fintrack_api.repository.projection.UserTokenEpochView;
+import com.fintrack.fintrack_api.util.LongIntHashMap;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * In-memory copy of every user's current token epoch. Tokens carry the epoch that was current at
+ * login, and a token whose epoch is behind the registry has been revoked.
+ * <p>
+ * Only users whose epoch was ever bumped are stored; everyone else is implicitly at epoch 0. The
+ * map is published as an immutable snapshot, so lookups on the request path take no locks. Changes
+ * made on this node are applied once they commit, changes made by other nodes are picked up by the
+ * periodic incremental refresh.
+ */
+@Component
+public class TokenEpochRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenEpochRegistry.class);
+
+    private final UserRepository userRepository;
+    private final Duration refreshOverlap;
+
+    private volatile LongIntHashMap epochs = new LongIntHashMap();
+    private LocalDateTime lastRefresh;
+
+    public TokenEpochRegistry(UserRepository userRepository,
+                              @Value("${app.jwt.epoch.refresh-interval-ms}") long refreshIntervalMs,
+                              MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.refreshOverlap = Duration.ofMillis(refreshIntervalMs);
+
+        Gauge.builder("auth.token.epochs.size", this, registry -> registry.epochs.size())
+                .description("Users with a non-zero token epoch held in memory")
+                .register(meterRegistry);
+        Gauge.builder("auth.token.epochs.footprint", this, registry -> registry.epochs.footprintBytes())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void loadAll() {
+        LocalDateTime started = LocalDateTime.now();
+        apply(userRepository.findByTokenEpochGreaterThan(0));
+        lastRefresh = started;
+    }
+
+    /**
+     * Pulls epochs of users changed since the previous refresh. The window overlaps the previous
+     * one by a full interval to tolerate clock skew between nodes and late commits.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.epoch.refresh-interval-ms}",
+            initialDelayString = "${app.jwt.epoch.refresh-interval-ms}")
+    public void refresh() {
+        LocalDateTime started = LocalDateTime.now();
+        try {
+            apply(userRepository.findByUpdatedAtGreaterThanEqual(lastRefresh.minus(refreshOverlap)));
+            lastRefresh = started;
+        } catch (RuntimeException e) {
+            logger.error("Failed to refresh token epochs: {}", e.getMessage());
+        }
+    }
+
+    public int currentEpoch(long userId) {
+        return epochs.getOrDefault(userId, 0);
+    }
+
+    public boolean isCurrent(long userId, int tokenEpoch) {
+        return tokenEpoch >= currentEpoch(userId);
+    }
+
+    /**
+     * Records an epoch once the surrounding transaction commits, so a rolled back bump never
+     * rejects tokens that are still valid in the database. Applies immediately outside a
+     * transaction.
+     */
+    public void updateAfterCommit(long userId, int epoch) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update(userId, epoch);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update(userId, epoch);
+            }
+        });
+    }
+
+    /**
+     * Records an epoch that was just committed on this node.
+     */
+    public synchronized void update(long userId, int epoch) {
+        if (epochs.getOrDefault(userId, 0) == epoch) {
+            return;
+        }
+        LongIntHashMap next = epochs.copy();
+        next.put(userId, epoch);
+        epochs = next;
+    }
+
+    private synchronized void apply(List<UserTokenEpochView> changes) {
+        LongIntHashMap next = null;
+        for (UserTokenEpochView change : changes) {
+            if (epochs.getOrDefault(change.getId(), 0) != change.getTokenEpoch()) {
+                if (next == null) {
+                    next = epochs.copy();
+                }
+                next.put(change.getId(), change.getTokenEpoch());
+            }
+        }
+        if (next != null) {
+            epochs = next;
+        }
+    }
+}
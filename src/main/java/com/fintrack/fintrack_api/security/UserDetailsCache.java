@@ -0,0 +1,48 @@
+package com.fintrack.fintrack_api.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-capped cache of {@link UserSnapshot}s keyed by email. Writers of user data must
+ * call {@link #evict(String)} once their change is saved.
+ */
+@Component
+public class UserDetailsCache {
+
+    public static final String CACHE_NAME = "auth.user-details";
+
+    private final Cache<String, UserSnapshot> cache;
+
+    public UserDetailsCache(@Value("${app.security.user-cache.maximum-size}") long maximumSize,
+                            @Value("${app.security.user-cache.ttl-ms}") long ttlMs,
+                            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached snapshot, running the loader on a miss. Loader failures, such as an
+     * unknown email, propagate and are not cached.
+     */
+    public UserSnapshot get(String email, Function<String, UserSnapshot> loader) {
+        return cache.get(email, loader);
+    }
+
+    public void evict(String email) {
+        if (email != null) {
+            cache.invalidate(email);
+        }
+    }
+}
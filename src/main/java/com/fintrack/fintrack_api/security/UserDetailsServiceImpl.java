@@ -2,7 +2,6 @@ package com.fintrack.fintrack_api.security;
 
 import com.fintrack.fintrack_api.model.Users;
 import com.fintrack.fintrack_api.service.UserService;
-import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -14,13 +13,28 @@ import org.springframework.stereotype.Service;
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserService userService;
+    private final UserDetailsCache userDetailsCache;
 
+    /**
+     * Serves the principal from the cached snapshot. The user entity itself is only fetched if a
+     * caller asks the principal for it.
+     */
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        Users user = userService.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User Not Found with email: " + email));
+        UserSnapshot snapshot = userDetailsCache.get(email, key -> UserSnapshot.of(loadUser(key)));
+        return new UserPrincipal(snapshot, () -> loadUser(email));
+    }
 
-        return new UserPrincipal(user);
+    /**
+     * Builds the principal from verified token claims without touching the database. The user
+     * entity is fetched on demand when a caller asks the principal for it.
+     */
+    public UserPrincipal loadUserFromToken(VerifiedToken token) {
+        return UserPrincipal.fromToken(token, () -> loadUser(token.subject()));
+    }
+
+    private Users loadUser(String email) {
+        return userService.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("User Not Found with email: " + email));
     }
 }
@@ -1,40 +1,69 @@
 package com.fintrack.fintrack_api.security;
 
 import com.fintrack.fintrack_api.model.Users;
-import lombok.AllArgsConstructor;
+import com.fintrack.fintrack_api.model.enums.Role;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-import java.util.Collection;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
-@AllArgsConstructor
 @Getter
 public class UserPrincipal implements UserDetails {
 
-    private final Users user;
+    private final Long id;
+    private final String username;
+    private final String password;
+    private final Set<Role> roles;
+    private final boolean enabled;
+    private final int tokenEpoch;
+    private final List<GrantedAuthority> authorities;
 
-    public Long getId() {
-        return user.getId();
+    @Getter(AccessLevel.NONE)
+    private final Supplier<Users> userLoader;
+
+    @Getter(AccessLevel.NONE)
+    private Users user;
+
+    public UserPrincipal(Users user) {
+        this(UserSnapshot.of(user), () -> user);
+        this.user = user;
     }
 
-    @Override
-    public Collection<? extends GrantedAuthority> getAuthorities() {
-        return user.getRoles().stream()
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+    /**
+     * Builds a principal from an immutable snapshot. The backing {@link Users} entity is loaded
+     * through {@code userLoader} only if {@link #getUser()} is called.
+     */
+    public UserPrincipal(UserSnapshot snapshot, Supplier<Users> userLoader) {
+        this.id = snapshot.id();
+        this.username = snapshot.email();
+        this.password = snapshot.passwordHash();
+        this.roles = snapshot.roles();
+        this.enabled = snapshot.enabled();
+        this.tokenEpoch = snapshot.tokenEpoch();
+        this.authorities = snapshot.authorities();
+        this.userLoader = userLoader;
     }
 
-    @Override
-    public String getPassword() {
-        return user.getPassword();
+    /**
+     * Builds a principal from verified token claims alone, without touching the database.
+     */
+    public static UserPrincipal fromToken(VerifiedToken token, Supplier<Users> userLoader) {
+        return new UserPrincipal(UserSnapshot.of(token), userLoader);
     }
 
-    @Override
-    public String getUsername() {
-        return user.getEmail();
+    public Users getUser() {
+        if (user == null) {
+            user = userLoader.get();
+        }
+        return user;
+    }
+
+    public boolean isUserLoaded() {
+        return user != null;
     }
 
     @Override
@@ -51,9 +80,4 @@ public class UserPrincipal implements UserDetails {
     public boolean isCredentialsNonExpired() {
         return true;
     }
-
-    @Override
-    public boolean isEnabled() {
-        return user.isEnabled();
-    }
 }
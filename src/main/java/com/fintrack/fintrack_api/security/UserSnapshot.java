@@ -0,0 +1,42 @@
+package com.fintrack.fintrack_api.security;
+
+import com.fintrack.fintrack_api.model.Users;
+import com.fintrack.fintrack_api.model.enums.Role;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable view of the user fields authentication needs. Roles and authorities are the shared
+ * instances from {@link RoleAuthorities}. Safe to cache and share between requests, unlike the
+ * {@link Users} entity.
+ */
+public record UserSnapshot(
+        Long id,
+        String email,
+        String passwordHash,
+        Set<Role> roles,
+        boolean enabled,
+        int tokenEpoch,
+        List<GrantedAuthority> authorities
+) {
+    public static UserSnapshot of(Users user) {
+        return create(user.getId(), user.getEmail(), user.getPassword(), Role.toMask(user.getRoles()),
+                user.isEnabled(), user.getTokenEpoch());
+    }
+
+    public static UserSnapshot of(VerifiedToken token) {
+        int mask = 0;
+        for (String role : token.roles()) {
+            mask |= Role.fromValue(role).getMask();
+        }
+        return create(token.userId(), token.subject(), null, mask, true, token.epoch());
+    }
+
+    private static UserSnapshot create(Long id, String email, String passwordHash, int roleMask,
+                                       boolean enabled, int tokenEpoch) {
+        return new UserSnapshot(id, email, passwordHash, RoleAuthorities.roles(roleMask), enabled, tokenEpoch,
+                RoleAuthorities.authorities(roleMask));
+    }
+}
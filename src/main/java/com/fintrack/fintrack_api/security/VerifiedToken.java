@@ -0,0 +1,42 @@
+package com.fintrack.fintrack_api.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Claims of a JWT whose signature has already been checked. Instances are immutable and can be
+ * shared between requests carrying the same token.
+ */
+public record VerifiedToken(
+        String subject,
+        Long userId,
+        int epoch,
+        List<String> roles,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+    public static final String ROLES_CLAIM = "roles";
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String EPOCH_CLAIM = "epoch";
+
+    public static VerifiedToken from(Claims claims) {
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        Number epoch = claims.get(EPOCH_CLAIM, Number.class);
+
+        return new VerifiedToken(
+                claims.getSubject(),
+                userId == null ? null : userId.longValue(),
+                epoch == null ? 0 : epoch.intValue(),
+                roles == null ? List.of() : roles.stream().map(String::valueOf).toList(),
+                claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant(),
+                claims.getExpiration() == null ? null : claims.getExpiration().toInstant()
+        );
+    }
+
+    public boolean isExpiredAt(Instant instant) {
+        return expiresAt != null && !instant.isBefore(expiresAt);
+    }
+}
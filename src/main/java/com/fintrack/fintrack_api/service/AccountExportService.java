@@ -0,0 +1,221 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintrack.fintrack_api.dto.request.AccountFilterRequestDTO;
+import com.fintrack.fintrack_api.exception.InvalidRequestException;
+import com.fintrack.fintrack_api.repository.UserRepository;
+import com.fintrack.fintrack_api.util.ErrorMessages;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams the admin account listing straight from the database to the response.
+ * <p>
+ * Rows are read through a forward-only JDBC cursor ({@code fetchSize} rows per round trip, which
+ * Postgres only honours inside a transaction) and written as soon as they arrive, so memory use
+ * does not depend on the size of the result and no entities are ever materialized.
+ */
+@Service
+public class AccountExportService {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    private static final String SELECT = """
+            SELECT a.id, a.account_number, a.name, a.type,
+                   a.balance + COALESCE((SELECT SUM(p.amount) FROM ledger_postings p
+                                         WHERE p.account_id = a.id AND p.fold_checkpoint > a.fold_checkpoint), 0),
+                   a.currency, a.status, u.email, a.created_at
+            FROM accounts a
+            JOIN users u ON u.id = a.user_id""";
+
+    private static final String CSV_HEADER = "id,accountNumber,name,type,balance,currency,status,userEmail,createdAt\n";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    public AccountExportService(DataSource dataSource,
+                                PlatformTransactionManager transactionManager,
+                                UserRepository userRepository,
+                                ObjectMapper objectMapper,
+                                @Value("${app.accounts.export.fetch-size}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Fails fast, before any bytes are written, for filters that can never match.
+     */
+    public void validateFilter(AccountFilterRequestDTO filter) {
+        if (StringUtils.hasText(filter.email()) && !userRepository.existsByEmail(filter.email())) {
+            throw new InvalidRequestException(ErrorMessages.UNKNOWN_FILTER_EMAIL);
+        }
+    }
+
+    public void export(AccountFilterRequestDTO filter, Format format, OutputStream out) throws IOException {
+        List<Object> parameters = new ArrayList<>(4);
+        String sql = buildQuery(filter, parameters);
+
+        try {
+            if (format == Format.NDJSON) {
+                exportNdjson(sql, parameters, out);
+            } else {
+                exportCsv(sql, parameters, out);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void exportNdjson(String sql, List<Object> parameters, OutputStream out) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            stream(sql, parameters, rs -> {
+                json.writeStartObject();
+                json.writeNumberField("id", rs.getLong(1));
+                json.writeStringField("accountNumber", rs.getString(2));
+                json.writeStringField("name", rs.getString(3));
+                json.writeStringField("type", rs.getString(4));
+                json.writeNumberField("balance", rs.getBigDecimal(5));
+                json.writeStringField("currency", rs.getString(6));
+                json.writeStringField("status", rs.getString(7));
+                json.writeStringField("userEmail", rs.getString(8));
+                json.writeStringField("createdAt", timestamp(rs.getTimestamp(9)));
+                json.writeEndObject();
+                json.writeRaw('\n');
+            });
+        }
+    }
+
+    private void exportCsv(String sql, List<Object> parameters, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        stream(sql, parameters, rs -> {
+            writer.write(Long.toString(rs.getLong(1)));
+            writer.write(',');
+            writeCsvField(writer, rs.getString(2));
+            writer.write(',');
+            writeCsvField(writer, rs.getString(3));
+            writer.write(',');
+            writer.write(rs.getString(4));
+            writer.write(',');
+            writer.write(rs.getBigDecimal(5).toPlainString());
+            writer.write(',');
+            writeCsvField(writer, rs.getString(6));
+            writer.write(',');
+            writer.write(rs.getString(7));
+            writer.write(',');
+            writeCsvField(writer, rs.getString(8));
+            writer.write(',');
+            writer.write(timestamp(rs.getTimestamp(9)));
+            writer.write('\n');
+        });
+        writer.flush();
+    }
+
+    private void stream(String sql, List<Object> parameters, RowWriter rowWriter) {
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            try {
+                rowWriter.write(rs);
+            } catch (IOException e) {
+                // Client went away; abort the query instead of reading the rest of the cursor
+                throw new UncheckedIOException(e);
+            }
+        }, parameters.toArray()));
+    }
+
+    /**
+     * Emits only the predicates that are set, mirroring the paged admin filter.
+     */
+    private static String buildQuery(AccountFilterRequestDTO filter, List<Object> parameters) {
+        List<String> predicates = new ArrayList<>(4);
+        if (filter.status() != null) {
+            predicates.add("a.status = ?");
+            parameters.add(filter.status().name());
+        }
+        if (filter.type() != null) {
+            predicates.add("a.type = ?");
+            parameters.add(filter.type().name());
+        }
+        if (StringUtils.hasText(filter.accountNumber())) {
+            predicates.add("a.account_number = ?");
+            parameters.add(filter.accountNumber());
+        }
+        if (StringUtils.hasText(filter.email())) {
+            predicates.add("u.email = ?");
+            parameters.add(filter.email());
+        }
+        return predicates.isEmpty() ? SELECT : SELECT + "\nWHERE " + String.join(" AND ", predicates);
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String timestamp(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime().toString();
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+    }
+}
@@ -0,0 +1,65 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed pool of locks that accounts are hashed onto, so debits from the same account on this
+ * node queue in memory instead of holding a pooled connection while they wait for the row lock.
+ * The row lock behind it is what keeps nodes consistent.
+ */
+@Component
+public class AccountLockStripes {
+
+    private final ReentrantLock[] locks;
+    private final long timeoutMs;
+
+    public AccountLockStripes(@Value("${app.transfers.lock-stripes}") int stripes,
+                              @Value("${app.transfers.lock-timeout-ms}") long timeoutMs) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            // Fair, so a hot account cannot starve transfers that have waited longest
+            locks[i] = new ReentrantLock(true);
+        }
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Locks the account's stripe and returns a handle that releases it. Fails with
+     * {@link ServiceUnavailableException} if the stripe cannot be had within the configured
+     * timeout.
+     */
+    public Held lock(String accountNumber) {
+        ReentrantLock lock = locks[stripe(accountNumber)];
+        acquire(lock);
+        return lock::unlock;
+    }
+
+    private int stripe(String accountNumber) {
+        int hash = accountNumber.hashCode();
+        return (hash ^ (hash >>> 16)) & (locks.length - 1);
+    }
+
+    private void acquire(ReentrantLock lock) {
+        try {
+            if (!lock.tryLock(timeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new ServiceUnavailableException("Account is busy, please retry the transfer");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Transfer was interrupted");
+        }
+    }
+
+    @FunctionalInterface
+    public interface Held extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
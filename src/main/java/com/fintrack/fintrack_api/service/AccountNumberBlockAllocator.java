@@ -0,0 +1,48 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.model.AccountNumberBlock;
+import com.fintrack.fintrack_api.repository.AccountNumberBlockRepository;
+import com.fintrack.fintrack_api.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reserves ranges of account number sequence values from the {@code account_number_blocks} table.
+ * Each reservation runs in its own short transaction holding the year's row lock, so concurrent
+ * nodes always receive disjoint ranges.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountNumberBlockAllocator {
+
+    private final AccountNumberBlockRepository accountNumberBlockRepository;
+    private final AccountRepository accountRepository;
+
+    /**
+     * Reserves {@code size} consecutive sequence values for the year.
+     *
+     * @return the first value of the reserved range
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserve(int year, int size) {
+        AccountNumberBlock block = accountNumberBlockRepository.findByYearForUpdate(year)
+                .orElseGet(() -> createBlock(year));
+
+        long first = block.getNextValue();
+        block.setNextValue(first + size);
+        return first;
+    }
+
+    /**
+     * Starts the year after the highest sequence already in use. This is the only place the
+     * accounts table is scanned, once per year for the whole cluster. A concurrent insert by
+     * another node fails on the primary key and the caller retries.
+     */
+    private AccountNumberBlock createBlock(int year) {
+        long start = accountRepository.findMaxSequenceForYear(String.valueOf(year)).orElse(0L) + 1;
+        accountNumberBlockRepository.insert(year, start);
+        return accountNumberBlockRepository.findByYearForUpdate(year).orElseThrow();
+    }
+}
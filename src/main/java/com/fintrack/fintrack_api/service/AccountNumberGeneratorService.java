@@ -1,67 +1,122 @@
 package com.fintrack.fintrack_api.service;
 
 import com.fintrack.fintrack_api.model.Account;
-import com.fintrack.fintrack_api.repository.AccountRepository;
+import com.fintrack.fintrack_api.util.AccountNumbers;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigInteger;
 import java.time.Year;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Hands out account numbers from sequence blocks reserved in the database. Must be called outside
+ * a transaction: a refill reserves its block in a transaction of its own, so a caller that already
+ * held a pooled connection would need a second one. With as many concurrent creations as the pool
+ * has connections, the refill would then wait on an empty pool until the connection timeout.
+ */
 @Service
-@Transactional(propagation = Propagation.MANDATORY)
+@Transactional(propagation = Propagation.NEVER)
 @RequiredArgsConstructor
 public class AccountNumberGeneratorService {
 
-    private final AccountRepository accountRepository;
+    private final AccountNumberBlockAllocator accountNumberBlockAllocator;
 
-    private static final String INSTITUTION_CODE = "FTS";
+    private static final long MAX_SEQUENCE = 999_999L;
+
+    @Value("${app.accounts.number-block-size}")
+    private int blockSize;
+
+    private final Map<Integer, SequenceBlock> blocks = new ConcurrentHashMap<>();
 
     public String generateAccountNumber(Account.AccountType type) {
-        String typeCode = switch(type) {
-            case CHECKING -> "C";
-            case SAVINGS -> "S";
-            case CREDIT_CARD -> "D";
-        };
-
-        String year = String.valueOf(Year.now().getValue());
-        Optional<Long> lastSeq2 = accountRepository.findMaxSequenceForYear(year);
-        Optional<Long> lastSeq3 = accountRepository.findMaxSequenceForYear("2025");
-        Long lastSeq = accountRepository.findMaxSequenceForYear(String.valueOf(Year.now().getValue()))
-                .orElse(0L);
-
-        String sequencePart = String.format("%06d", lastSeq + 1);
-
-        String base = INSTITUTION_CODE +
-                typeCode +
-                Year.now().getValue() +
-                sequencePart;
-
-        return base + calculateCheckDigits(base);
+        int year = Year.now().getValue();
+        return AccountNumbers.format(type, year, nextSequence(year));
     }
 
-    private String calculateCheckDigits(String base) {
-        // Convert letters to numbers (A=10, B=11,... Z=35)
-        StringBuilder numericBase = new StringBuilder();
-        for (char c : base.toCharArray()) {
-            if (Character.isLetter(c)) {
-                numericBase.append(10 + Character.toUpperCase(c) - 'A');
-            } else {
-                numericBase.append(c);
+    /**
+     * Generates one account number per requested type from a single freshly reserved range, so a
+     * bulk request costs one allocation round trip regardless of its size.
+     */
+    public List<String> generateAccountNumbers(List<Account.AccountType> types) {
+        if (types.isEmpty()) {
+            return List.of();
+        }
+
+        int year = Year.now().getValue();
+        long first = reserve(year, types.size());
+        if (first + types.size() - 1 > MAX_SEQUENCE) {
+            throw new IllegalStateException("Account number sequence exhausted for year " + year);
+        }
+
+        List<String> accountNumbers = new ArrayList<>(types.size());
+        for (int i = 0; i < types.size(); i++) {
+            accountNumbers.add(AccountNumbers.format(types.get(i), year, first + i));
+        }
+        return accountNumbers;
+    }
+
+    /**
+     * Hands out the next sequence value for the year from the in-memory block, reserving a new
+     * block from the database only when the current one is used up.
+     */
+    private long nextSequence(int year) {
+        while (true) {
+            SequenceBlock block = blocks.get(year);
+            if (block != null) {
+                long sequence = block.next();
+                if (sequence >= 0) {
+                    return sequence;
+                }
             }
+            refillBlock(year, block);
+        }
+    }
+
+    private synchronized void refillBlock(int year, SequenceBlock exhausted) {
+        if (blocks.get(year) != exhausted) {
+            return;
+        }
+
+        long first = reserve(year, blockSize);
+        if (first > MAX_SEQUENCE) {
+            throw new IllegalStateException("Account number sequence exhausted for year " + year);
         }
-        numericBase.append("00"); // Prepare for MOD97 calculation
+        blocks.put(year, new SequenceBlock(first, Math.min(first + blockSize, MAX_SEQUENCE + 1)));
+    }
 
-        // Handle large numbers with BigInteger
+    private long reserve(int year, int size) {
         try {
-            BigInteger bigInt = new BigInteger(numericBase.toString());
-            int checksum = 98 - bigInt.mod(BigInteger.valueOf(97)).intValue();
-            return String.format("%02d", checksum);
-        } catch (NumberFormatException e) {
-            throw new IllegalStateException("Failed to generate check digits for: " + base, e);
+            return accountNumberBlockAllocator.reserve(year, size);
+        } catch (DataIntegrityViolationException e) {
+            // Another node created the year's allocation row first; its row is visible now
+            return accountNumberBlockAllocator.reserve(year, size);
+        }
+    }
+
+    private static final class SequenceBlock {
+
+        private final AtomicLong next;
+        private final long limit;
+
+        private SequenceBlock(long first, long limit) {
+            this.next = new AtomicLong(first);
+            this.limit = limit;
+        }
+
+        /**
+         * @return the next unused value, or {@code -1} once the block is exhausted
+         */
+        private long next() {
+            long value = next.getAndIncrement();
+            return value < limit ? value : -1;
         }
     }
 }
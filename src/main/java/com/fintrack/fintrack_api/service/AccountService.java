@@ -4,117 +4,230 @@ import com.fintrack.fintrack_api.dto.request.AccountFilterRequestDTO;
 import com.fintrack.fintrack_api.dto.request.CreateAccountRequestDTO;
 import com.fintrack.fintrack_api.dto.request.UpdateAccountRequestDTO;
 import com.fintrack.fintrack_api.dto.response.AccountResponseDTO;
+import com.fintrack.fintrack_api.dto.response.BulkAccountResultDTO;
+import com.fintrack.fintrack_api.dto.response.CursorPageResponseDTO;
 import com.fintrack.fintrack_api.exception.AccountNotFoundException;
+import com.fintrack.fintrack_api.exception.AccountVersionConflictException;
 import com.fintrack.fintrack_api.exception.InvalidAccountOperationException;
+import com.fintrack.fintrack_api.exception.InvalidRequestException;
 import com.fintrack.fintrack_api.mapper.AccountMapper;
 import com.fintrack.fintrack_api.model.Account;
 import com.fintrack.fintrack_api.model.Users;
 import com.fintrack.fintrack_api.repository.AccountRepository;
 import com.fintrack.fintrack_api.repository.UserRepository;
+import com.fintrack.fintrack_api.repository.projection.AccountBalanceRow;
+import com.fintrack.fintrack_api.repository.specification.AccountSpecifications;
 import com.fintrack.fintrack_api.security.UserPrincipal;
-import jakarta.transaction.Transactional;
+import com.fintrack.fintrack_api.util.AccountNumbers;
+import com.fintrack.fintrack_api.util.ErrorMessages;
+import com.fintrack.fintrack_api.util.KeysetCursor;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.*;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class AccountService {
 
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
     private final AccountRepository accountRepository;
     private final UserRepository userRepository;
     private final AccountMapper accountMapper;
     private final AccountNumberGeneratorService accountNumberGeneratorService;
+    private final Validator validator;
+    private final ActiveAccountsCache activeAccountsCache;
+    private final LedgerService ledgerService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.accounts.bulk-max-size}")
+    private int bulkMaxSize;
 
+    /**
+     * Serves the cached account list with balances and versions read fresh in one aggregate query.
+     * If an account was added, closed or changed since the list was cached, possibly on another
+     * node, the versions or ids no longer match and the list is reloaded.
+     */
     public List<AccountResponseDTO> getAllActiveUserAccounts(UserPrincipal currentUser) {
-        List<Account> accounts = accountRepository.findActiveAccountsByUser(currentUser.getUser());
-        return accounts.stream()
-                .map(accountMapper::toAccountResponseDTO)
-                .collect(Collectors.toList());
+        Long userId = currentUser.getId();
+        List<AccountResponseDTO> cachedAccounts = activeAccountsCache.getIfPresent(userId);
+        if (cachedAccounts != null) {
+            List<AccountResponseDTO> accounts = withCurrentBalances(cachedAccounts,
+                    accountRepository.findActiveAccountBalancesByUserId(userId));
+            if (accounts != null) {
+                return accounts;
+            }
+        }
+        List<AccountResponseDTO> accounts = accountRepository.findActiveAccountViewsByUserId(userId);
+        activeAccountsCache.put(userId, accounts);
+        return accounts;
     }
 
     public AccountResponseDTO getActiveAccountById(Long accountId, UserPrincipal currentUser) {
-        Account account = accountRepository.findActiveAccountByIdAndUser(
-                        accountId,
-                        currentUser.getUser())
+        return accountRepository.findActiveAccountViewByIdAndUserId(accountId, currentUser.getId())
                 .orElseThrow(() -> new AccountNotFoundException("Account with ID " + accountId + " not found"));
-        return accountMapper.toAccountResponseDTO(account);
     }
 
     public AccountResponseDTO getActiveAccountByAccountNumber(String accountNumber, UserPrincipal currentUser) {
-        Account account = accountRepository.findActiveAccountByAccountNumberAndUser(
-                        accountNumber,
-                        currentUser.getUser())
+        validateAccountNumber(accountNumber);
+        return accountRepository.findActiveAccountViewByAccountNumberAndUserId(accountNumber, currentUser.getId())
                 .orElseThrow(() -> new AccountNotFoundException("Account with account number " + accountNumber + " not found"));
-        return accountMapper.toAccountResponseDTO(account);
     }
 
-    @Transactional
+    /**
+     * The account number is reserved before the transaction starts, see
+     * {@link AccountNumberGeneratorService}.
+     */
     public AccountResponseDTO createAccount(CreateAccountRequestDTO accountRequest, UserPrincipal currentUser) {
         Account account = accountMapper.toAccount(accountRequest);
         validateAccountBalance(account);
-
-        account.setUser(currentUser.getUser());
         account.setAccountNumber(accountNumberGeneratorService.generateAccountNumber(accountRequest.type()));
-        return accountMapper.toAccountResponseDTO(
-                accountRepository.save(account));
+
+        return transactionTemplate.execute(status -> {
+            account.setUser(userReference(currentUser));
+            Account savedAccount = accountRepository.save(account);
+            ledgerService.recordOpeningBalance(savedAccount);
+            activeAccountsCache.invalidateAfterCommit(currentUser.getId());
+            return accountMapper.toAccountResponseDTO(savedAccount);
+        });
+    }
+
+    /**
+     * Creates many accounts in one transaction. Every item is validated first and invalid items
+     * are reported without failing the rest. Account numbers for the valid items come from a
+     * single range reserved before the transaction starts, and the inserts are sent as JDBC batches.
+     */
+    public List<BulkAccountResultDTO> createAccounts(List<CreateAccountRequestDTO> accountRequests, UserPrincipal currentUser) {
+        if (accountRequests == null || accountRequests.isEmpty()) {
+            throw new InvalidRequestException(ErrorMessages.INVALID_REQUEST_BODY);
+        }
+        if (accountRequests.size() > bulkMaxSize) {
+            throw new InvalidRequestException("At most " + bulkMaxSize + " accounts can be created per request");
+        }
+
+        String[] errors = new String[accountRequests.size()];
+        List<Account> accounts = new ArrayList<>(accountRequests.size());
+        List<Integer> accountIndexes = new ArrayList<>(accountRequests.size());
+
+        for (int i = 0; i < accountRequests.size(); i++) {
+            CreateAccountRequestDTO accountRequest = accountRequests.get(i);
+            errors[i] = validateAccountRequest(accountRequest);
+            if (errors[i] == null) {
+                Account account = accountMapper.toAccount(accountRequest);
+                validateAccountBalance(account);
+                accounts.add(account);
+                accountIndexes.add(i);
+            }
+        }
+
+        List<String> accountNumbers = accountNumberGeneratorService.generateAccountNumbers(
+                accounts.stream().map(Account::getType).toList());
+        for (int i = 0; i < accounts.size(); i++) {
+            accounts.get(i).setAccountNumber(accountNumbers.get(i));
+        }
+
+        BulkAccountResultDTO[] results = new BulkAccountResultDTO[accountRequests.size()];
+        transactionTemplate.executeWithoutResult(status -> {
+            Users user = userReference(currentUser);
+            accounts.forEach(account -> account.setUser(user));
+            accountRepository.saveAll(accounts);
+            accounts.forEach(ledgerService::recordOpeningBalance);
+            activeAccountsCache.invalidateAfterCommit(currentUser.getId());
+
+            for (int i = 0; i < accounts.size(); i++) {
+                int index = accountIndexes.get(i);
+                results[index] = new BulkAccountResultDTO(index, accountMapper.toAccountResponseDTO(accounts.get(i)), null);
+            }
+        });
+        for (int i = 0; i < errors.length; i++) {
+            if (errors[i] != null) {
+                results[i] = new BulkAccountResultDTO(i, null, errors[i]);
+            }
+        }
+        return Arrays.asList(results);
     }
 
     @Transactional
     public AccountResponseDTO updateAccountById(Long accountId, UpdateAccountRequestDTO accountUpdate, UserPrincipal currentUser) {
-        Users user = userRepository.findByEmail(currentUser.getUsername())
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + currentUser.getUsername()));
-        Account existingAccount = accountRepository.findActiveAccountByIdAndUser(accountId, user)
-                .orElseThrow(() -> new AccountNotFoundException("Account with ID " + accountId + " not found"));
-        existingAccount.setName(accountUpdate.name());
+        validateAccountUpdate(accountUpdate);
+        Account updatedAccount = accountRepository.renameActiveAccountById(
+                        accountId,
+                        currentUser.getId(),
+                        accountUpdate.version(),
+                        accountUpdate.name(),
+                        LocalDateTime.now())
+                .orElseThrow(() -> accountRepository.existsByIdAndUserAndStatus(
+                        accountId, userReference(currentUser), Account.AccountStatus.ACTIVE)
+                        ? new AccountVersionConflictException(ErrorMessages.STALE_ACCOUNT_VERSION)
+                        : new AccountNotFoundException("Account with ID " + accountId + " not found"));
+        activeAccountsCache.invalidateAfterCommit(currentUser.getId());
 
-        return accountMapper.toAccountResponseDTO(
-                accountRepository.save(existingAccount));
+        return ledgerService.withPendingPostings(
+                accountMapper.toAccountResponseDTO(updatedAccount, currentUser.getUsername()));
     }
 
     @Transactional
     public AccountResponseDTO updateAccountByAccountNumber(String accountNumber, UpdateAccountRequestDTO accountUpdate, UserPrincipal currentUser) {
-        Users user = userRepository.findByEmail(currentUser.getUsername())
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + currentUser.getUsername()));
-        Account existingAccount = accountRepository.findActiveAccountByAccountNumberAndUser(accountNumber, user)
-                .orElseThrow(() -> new AccountNotFoundException("Account with account number " + accountNumber + " not found"));
-        existingAccount.setName(accountUpdate.name());
+        validateAccountNumber(accountNumber);
+        validateAccountUpdate(accountUpdate);
+        Account updatedAccount = accountRepository.renameActiveAccountByAccountNumber(
+                        accountNumber,
+                        currentUser.getId(),
+                        accountUpdate.version(),
+                        accountUpdate.name(),
+                        LocalDateTime.now())
+                .orElseThrow(() -> accountRepository.existsByAccountNumberAndUserAndStatus(
+                        accountNumber, userReference(currentUser), Account.AccountStatus.ACTIVE)
+                        ? new AccountVersionConflictException(ErrorMessages.STALE_ACCOUNT_VERSION)
+                        : new AccountNotFoundException("Account with account number " + accountNumber + " not found"));
+        activeAccountsCache.invalidateAfterCommit(currentUser.getId());
 
-        return accountMapper.toAccountResponseDTO(
-                accountRepository.save(existingAccount));
+        return ledgerService.withPendingPostings(
+                accountMapper.toAccountResponseDTO(updatedAccount, currentUser.getUsername()));
     }
 
     @Transactional
     public void deactivateAccountById(Long accountId, UserPrincipal currentUser) {
-        Users user = userRepository.findByEmail(currentUser.getUsername())
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + currentUser.getUsername()));
-        Account account = accountRepository.findActiveAccountByIdAndUser(accountId, user)
-                .orElseThrow(() -> new AccountNotFoundException("Account with ID " + accountId + " not found"));
-        account.setStatus(Account.AccountStatus.INACTIVE);
-        accountRepository.save(account);
+        int updated = accountRepository.deactivateActiveAccountById(accountId, currentUser.getId(), LocalDateTime.now());
+        if (updated == 0) {
+            throw new AccountNotFoundException("Account with ID " + accountId + " not found");
+        }
+        activeAccountsCache.invalidateAfterCommit(currentUser.getId());
     }
 
     @Transactional
     public void deactivateAccountByAccountNumber(String accountNumber, UserPrincipal currentUser) {
-        Users user = userRepository.findByEmail(currentUser.getUsername())
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + currentUser.getUsername()));
-        Account account = accountRepository.findActiveAccountByAccountNumberAndUser(accountNumber, user)
-                .orElseThrow(() -> new AccountNotFoundException("Account with account number " + accountNumber + " not found"));
-        account.setStatus(Account.AccountStatus.INACTIVE);
-        accountRepository.save(account);
+        validateAccountNumber(accountNumber);
+        int updated = accountRepository.deactivateActiveAccountByAccountNumber(accountNumber, currentUser.getId(), LocalDateTime.now());
+        if (updated == 0) {
+            throw new AccountNotFoundException("Account with account number " + accountNumber + " not found");
+        }
+        activeAccountsCache.invalidateAfterCommit(currentUser.getId());
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Page<AccountResponseDTO> getAccountsByFilters(AccountFilterRequestDTO filter) {
-        if (StringUtils.hasText(filter.email())) {
-            userRepository.findByEmail(filter.email())
-                    .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + filter.email()));
+        boolean byEmail = StringUtils.hasText(filter.email());
+        if (byEmail && !userRepository.existsByEmail(filter.email())) {
+            throw new InvalidRequestException(ErrorMessages.UNKNOWN_FILTER_EMAIL);
         }
 
         Pageable pageable = PageRequest.of(
@@ -123,13 +236,122 @@ public class AccountService {
                 Sort.by("createdAt").descending()
         );
 
-        return accountRepository.findFilteredAccounts(
-                StringUtils.hasText(filter.email()) ? filter.email() : null,
-                filter.type(),
-                filter.status(),
-                filter.accountNumber(),
-                pageable
-        ).map(accountMapper::toAccountResponseDTO);
+        Page<Account> accounts = accountRepository.findAll(AccountSpecifications.matching(filter), pageable);
+        List<AccountResponseDTO> content = ledgerService.withPendingPostings(accounts.getContent().stream()
+                .map(account -> byEmail
+                        ? accountMapper.toAccountResponseDTO(account, filter.email())
+                        : accountMapper.toAccountResponseDTO(account))
+                .toList());
+        return new PageImpl<>(content, accounts.getPageable(), accounts.getTotalElements());
+    }
+
+    /**
+     * Keyset variant of {@link #getAccountsByFilters}. Reads {@code size + 1} rows after the cursor
+     * to detect a next page and never runs a COUNT; the optional total is the planner's estimate
+     * and is only available for the unfiltered listing.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<AccountResponseDTO> getAccountsByCursor(AccountFilterRequestDTO filter,
+                                                                         String cursor,
+                                                                         boolean includeApproximateTotal) {
+        boolean byEmail = StringUtils.hasText(filter.email());
+        if (byEmail && !userRepository.existsByEmail(filter.email())) {
+            throw new InvalidRequestException(ErrorMessages.UNKNOWN_FILTER_EMAIL);
+        }
+
+        Specification<Account> specification = AccountSpecifications.matching(filter);
+        if (StringUtils.hasText(cursor)) {
+            specification = specification.and(AccountSpecifications.after(KeysetCursor.decode(cursor)));
+        }
+
+        int size = filter.size();
+        List<Account> accounts = accountRepository.findBy(specification, query -> query
+                .sortBy(KEYSET_SORT)
+                .limit(size + 1)
+                .all());
+
+        boolean hasNext = accounts.size() > size;
+        List<Account> page = hasNext ? accounts.subList(0, size) : accounts;
+        String nextCursor = null;
+        if (hasNext) {
+            Account last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        List<AccountResponseDTO> content = ledgerService.withPendingPostings(page.stream()
+                .map(account -> byEmail
+                        ? accountMapper.toAccountResponseDTO(account, filter.email())
+                        : accountMapper.toAccountResponseDTO(account))
+                .toList());
+        Long approximateTotal = includeApproximateTotal && !AccountSpecifications.isRestrictive(filter)
+                ? accountRepository.estimateRowCount()
+                : null;
+
+        return new CursorPageResponseDTO<>(content, size, nextCursor, hasNext, approximateTotal);
+    }
+
+    /**
+     * Returns the cached accounts with their current balances and versions, or {@code null} when
+     * the cached list no longer matches the user's active accounts.
+     */
+    private static List<AccountResponseDTO> withCurrentBalances(List<AccountResponseDTO> cachedAccounts,
+                                                                List<AccountBalanceRow> balances) {
+        if (cachedAccounts.size() != balances.size()) {
+            return null;
+        }
+        Map<Long, AccountBalanceRow> balancesById = new HashMap<>(balances.size() * 2);
+        balances.forEach(row -> balancesById.put(row.id(), row));
+        List<AccountResponseDTO> accounts = new ArrayList<>(cachedAccounts.size());
+        for (AccountResponseDTO account : cachedAccounts) {
+            AccountBalanceRow row = balancesById.get(account.id());
+            if (row == null || !Objects.equals(row.version(), account.version())) {
+                return null;
+            }
+            accounts.add(account.withBalance(row.balance()));
+        }
+        return accounts;
+    }
+
+    /**
+     * Owner-scoped queries only need the user's id, so a reference avoids loading the user row.
+     */
+    private Users userReference(UserPrincipal currentUser) {
+        return userRepository.getReferenceById(currentUser.getId());
+    }
+
+    /**
+     * Rejects malformed or checksum-invalid numbers before any query is issued for them.
+     */
+    private void validateAccountNumber(String accountNumber) {
+        if (!AccountNumbers.isValid(accountNumber)) {
+            throw new InvalidRequestException(ErrorMessages.INVALID_ACCOUNT_NUMBER);
+        }
+    }
+
+    private void validateAccountUpdate(UpdateAccountRequestDTO accountUpdate) {
+        if (accountUpdate == null) {
+            throw new InvalidRequestException(ErrorMessages.INVALID_REQUEST_BODY);
+        }
+        if (accountUpdate.version() == null) {
+            throw new InvalidRequestException(ErrorMessages.NULL_ACCOUNT_VERSION);
+        }
+    }
+
+    private String validateAccountRequest(CreateAccountRequestDTO accountRequest) {
+        if (accountRequest == null) {
+            return ErrorMessages.INVALID_REQUEST_BODY;
+        }
+        if (accountRequest.type() == null) {
+            return ErrorMessages.NULL_ACCOUNT_TYPE;
+        }
+        Set<ConstraintViolation<CreateAccountRequestDTO>> violations = validator.validate(accountRequest);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
     }
 
     private void validateAccountBalance(Account account) {
@@ -137,9 +359,7 @@ public class AccountService {
             account.setBalance(BigDecimal.ZERO);
         }
 
-        if ((account.getType() == Account.AccountType.CHECKING ||
-                account.getType() == Account.AccountType.SAVINGS) &&
-                account.getBalance().compareTo(BigDecimal.ZERO) < 0) {
+        if (!account.allowsNegativeBalance() && account.getBalance().compareTo(BigDecimal.ZERO) < 0) {
             throw new InvalidAccountOperationException(
                     "Balance cannot be negative for CHECKING/SAVINGS accounts");
         }
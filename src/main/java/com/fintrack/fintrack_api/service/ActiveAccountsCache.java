@@ -0,0 +1,72 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.dto.response.AccountResponseDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Per-user snapshot of active accounts as returned by {@code GET /api/accounts}. The cache is
+ * bounded by the total number of cached accounts rather than by users, so a few users with many
+ * accounts cannot blow the memory budget.
+ * <p>
+ * Snapshots are only trusted for account metadata. Writes on other nodes cannot evict them, so
+ * readers check each snapshot against the current balances and versions before serving it (see
+ * {@code AccountService#getAllActiveUserAccounts}); the ttl only bounds how long an unused
+ * snapshot holds memory.
+ */
+@Component
+public class ActiveAccountsCache {
+
+    public static final String CACHE_NAME = "accounts.active-by-user";
+
+    private final Cache<Long, List<AccountResponseDTO>> cache;
+
+    public ActiveAccountsCache(@Value("${app.accounts.cache.maximum-accounts}") long maximumAccounts,
+                               @Value("${app.accounts.cache.ttl-ms}") long ttlMs,
+                               MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumAccounts)
+                .weigher((Long userId, List<AccountResponseDTO> accounts) -> accounts.size() + 1)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public void put(Long userId, List<AccountResponseDTO> accounts) {
+        cache.put(userId, List.copyOf(accounts));
+    }
+
+    /**
+     * @return the user's cached snapshot, or {@code null} if none is cached
+     */
+    public List<AccountResponseDTO> getIfPresent(Long userId) {
+        return cache.getIfPresent(userId);
+    }
+
+    /**
+     * Drops the user's snapshot once the current transaction commits, or right away when there
+     * is no transaction. Evicting before commit would let a concurrent reader cache the old rows.
+     */
+    public void invalidateAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(userId);
+            }
+        });
+    }
+}
@@ -3,6 +3,9 @@ package com.fintrack.fintrack_api.service;
 import com.fintrack.fintrack_api.dto.request.LoginRequestDTO;
 import com.fintrack.fintrack_api.dto.response.JwtResponseDTO;
 import com.fintrack.fintrack_api.model.Users;
+import com.fintrack.fintrack_api.model.enums.Role;
+import com.fintrack.fintrack_api.security.LoginExecutor;
+import com.fintrack.fintrack_api.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -18,28 +21,32 @@ public class AuthenticationService {
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
     private final UserService userService;
+    private final LoginExecutor loginExecutor;
 
     public JwtResponseDTO login(LoginRequestDTO request) {
-        Authentication authentication = authenticationManager.authenticate(
+        Authentication authentication = loginExecutor.execute(() -> authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.email(),
                         request.password()
                 )
-        );
+        ));
 
         String jwt = jwtService.generateJwtToken(authentication);
 
-        Users user = userService.findByEmail(request.email())
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + request.email()));;
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
 
         return new JwtResponseDTO(
                 jwt,
                 "Bearer",
-                user.getEmail(),
-                user.getRoles()
+                principal.getUsername(),
+                Role.toValues(principal.getRoles())
         );
     }
 
+    public String getCurrentUsername() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
+
     public Users getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         return userService.findByEmail(authentication.getName())
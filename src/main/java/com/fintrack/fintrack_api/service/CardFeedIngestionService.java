@@ -0,0 +1,355 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.dto.request.CardTransactionEventDTO;
+import com.fintrack.fintrack_api.dto.response.CardFeedIngestResultDTO;
+import com.fintrack.fintrack_api.exception.InvalidRequestException;
+import com.fintrack.fintrack_api.exception.ServiceUnavailableException;
+import com.fintrack.fintrack_api.model.Account;
+import com.fintrack.fintrack_api.model.JournalCheckpoint;
+import com.fintrack.fintrack_api.model.Transaction;
+import com.fintrack.fintrack_api.repository.AccountRepository;
+import com.fintrack.fintrack_api.repository.JournalCheckpointRepository;
+import com.fintrack.fintrack_api.repository.TransactionRepository;
+import com.fintrack.fintrack_api.util.AccountNumbers;
+import com.fintrack.fintrack_api.util.ErrorMessages;
+import com.fintrack.fintrack_api.util.MappedJournal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Accepts card feed events by appending them to a local {@link MappedJournal} and acknowledging
+ * once they are there, instead of inserting each one through JPA.
+ * <p>
+ * A background flusher reads the journal in batches and applies each batch in one database
+ * transaction: a {@link Transaction}, a ledger entry and a history row per event, plus the
+ * journal checkpoint.
+ * Because the checkpoint commits with the batch, a restart replays exactly the records that were
+ * not yet applied. Each node has its own journal and checkpoint row.
+ * <p>
+ * The flusher runs on its own thread rather than on the shared {@code @Scheduled} thread, so a
+ * backlog never delays the other scheduled jobs, and each run applies a bounded number of batches.
+ */
+@Service
+public class CardFeedIngestionService {
+
+    public static final String METRIC_NAME = "ingest.card-transactions";
+
+    private static final Logger logger = LoggerFactory.getLogger(CardFeedIngestionService.class);
+
+    private static final byte RECORD_VERSION = 2;
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final JournalCheckpointRepository journalCheckpointRepository;
+    private final LedgerService ledgerService;
+    private final TransactionHistoryService transactionHistoryService;
+    private final ActiveAccountsCache activeAccountsCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean forceOnAppend;
+    private final int maxEventsPerRequest;
+    private final int flushBatchSize;
+    private final int flushMaxBatches;
+    private final long flushIntervalMs;
+    private final ScheduledExecutorService flusher;
+
+    private final Counter acceptedEvents;
+    private final Counter appliedEvents;
+    private final Counter rejectedEvents;
+
+    private MappedJournal journal;
+    private MappedJournal.Position flushed;
+
+    public CardFeedIngestionService(AccountRepository accountRepository,
+                                    TransactionRepository transactionRepository,
+                                    JournalCheckpointRepository journalCheckpointRepository,
+                                    LedgerService ledgerService,
+                                    TransactionHistoryService transactionHistoryService,
+                                    ActiveAccountsCache activeAccountsCache,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.ingest.journal.directory}") Path directory,
+                                    @Value("${app.ingest.journal.segment-size-bytes}") int segmentSize,
+                                    @Value("${app.ingest.journal.force-on-append}") boolean forceOnAppend,
+                                    @Value("${app.ingest.max-events-per-request}") int maxEventsPerRequest,
+                                    @Value("${app.ingest.flush-batch-size}") int flushBatchSize,
+                                    @Value("${app.ingest.flush-max-batches}") int flushMaxBatches,
+                                    @Value("${app.ingest.flush-interval-ms}") long flushIntervalMs) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.journalCheckpointRepository = journalCheckpointRepository;
+        this.ledgerService = ledgerService;
+        this.transactionHistoryService = transactionHistoryService;
+        this.activeAccountsCache = activeAccountsCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.forceOnAppend = forceOnAppend;
+        this.maxEventsPerRequest = maxEventsPerRequest;
+        this.flushBatchSize = flushBatchSize;
+        this.flushMaxBatches = flushMaxBatches;
+        this.flushIntervalMs = flushIntervalMs;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "card-feed-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.acceptedEvents = Counter.builder(METRIC_NAME)
+                .tag("outcome", "accepted")
+                .description("Card feed events by stage")
+                .register(meterRegistry);
+        this.appliedEvents = Counter.builder(METRIC_NAME)
+                .tag("outcome", "applied")
+                .register(meterRegistry);
+        this.rejectedEvents = Counter.builder(METRIC_NAME)
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens the journal, resumes from this journal's checkpoint and starts the flusher; the first
+     * flush replays whatever was accepted but not applied before the last shutdown or crash.
+     */
+    @PostConstruct
+    void initialize() throws IOException {
+        journal = MappedJournal.open(directory, segmentSize, forceOnAppend);
+        flushed = loadCheckpoint();
+        logger.info("Card feed journal {} resumes at {}, head at {}", journal.id(), flushed, journal.head());
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Validates the whole request up front, then appends it to the journal as one unit. Once this
+     * returns, the events will be applied even if the process crashes before the next flush.
+     * Events for unknown or inactive accounts, or in another currency than the account, are only
+     * found, and dropped, when they are applied.
+     */
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public CardFeedIngestResultDTO ingest(List<CardTransactionEventDTO> events) {
+        if (events == null || events.isEmpty()) {
+            throw new InvalidRequestException(ErrorMessages.INVALID_REQUEST_BODY);
+        }
+        if (events.size() > maxEventsPerRequest) {
+            throw new InvalidRequestException("At most " + maxEventsPerRequest + " events can be ingested per request");
+        }
+
+        long acceptedAt = System.currentTimeMillis();
+        List<byte[]> records = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            String error = validateEvent(events.get(i));
+            if (error != null) {
+                throw new InvalidRequestException("Event " + i + ": " + error);
+            }
+            records.add(encode(events.get(i), acceptedAt));
+        }
+
+        try {
+            journal.append(records);
+        } catch (IOException | IllegalStateException e) {
+            logger.error("Failed to append {} card feed events to the journal: {}", records.size(), e.getMessage());
+            throw new ServiceUnavailableException(ErrorMessages.INGESTION_UNAVAILABLE);
+        }
+        acceptedEvents.increment(records.size());
+        return new CardFeedIngestResultDTO(records.size());
+    }
+
+    /**
+     * Applies journaled events to the database, one batch per transaction, until the journal is
+     * drained or {@code flushMaxBatches} batches have been applied, and deletes segments that have
+     * been fully applied. After a failure the next run resumes from the stored checkpoint, since a
+     * commit may have succeeded even though it reported an error.
+     */
+    public synchronized void flush() {
+        try {
+            if (flushed == null) {
+                flushed = loadCheckpoint();
+            }
+            MappedJournal.Batch batch;
+            for (int batches = 0; batches < flushMaxBatches
+                    && !(batch = journal.read(flushed, flushBatchSize)).records().isEmpty(); batches++) {
+                MappedJournal.Batch current = batch;
+                transactionTemplate.executeWithoutResult(status -> apply(current));
+                flushed = batch.next();
+                journal.release(flushed);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to flush the card feed journal at {}: {}", flushed, e.getMessage());
+            flushed = null;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdown();
+        flush();
+        journal.close();
+    }
+
+    private MappedJournal.Position loadCheckpoint() throws IOException {
+        MappedJournal.Position tail = journal.tail();
+        return journalCheckpointRepository.findById(journal.id())
+                .map(checkpoint -> new MappedJournal.Position(checkpoint.getSegment(), checkpoint.getOffset()))
+                .orElse(tail);
+    }
+
+    private void apply(MappedJournal.Batch batch) {
+        List<Event> events = batch.records().stream().map(CardFeedIngestionService::decode).toList();
+        // Share-locked, so an account cannot be deactivated between the status check and the commit
+        Map<String, Account> accounts = accountRepository.findAllByAccountNumberInForShare(
+                        events.stream().map(Event::accountNumber).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
+
+        List<Transaction> transactions = new ArrayList<>(events.size());
+        Set<Long> userIds = new HashSet<>();
+        for (Event event : events) {
+            Account account = accounts.get(event.accountNumber());
+            if (account == null || account.getStatus() != Account.AccountStatus.ACTIVE
+                    || !account.getCurrency().equals(event.currency())) {
+                logger.warn("Dropping card feed event for account {} in {}: no such active account in that currency",
+                        event.accountNumber(), event.currency());
+                rejectedEvents.increment();
+                continue;
+            }
+            boolean payment = event.amount().signum() < 0;
+            transactions.add(Transaction.builder()
+                    .type(Transaction.TransactionType.CARD)
+                    .sourceAccount(payment ? account : null)
+                    .targetAccount(payment ? null : account)
+                    .amount(event.amount().abs())
+                    .currency(event.currency())
+                    .description(event.description())
+                    .category(event.category())
+                    .createdAt(event.acceptedAt())
+                    .build());
+            userIds.add(account.getUser().getId());
+        }
+
+        transactionRepository.saveAll(transactions);
+        transactions.forEach(ledgerService::recordCardTransaction);
+        transactionHistoryService.recordAll(transactions);
+        MappedJournal.Position next = batch.next();
+        journalCheckpointRepository.save(new JournalCheckpoint(journal.id(), next.segment(), next.offset()));
+        userIds.forEach(activeAccountsCache::invalidateAfterCommit);
+        appliedEvents.increment(transactions.size());
+    }
+
+    private static String validateEvent(CardTransactionEventDTO event) {
+        if (event == null) {
+            return ErrorMessages.INVALID_REQUEST_BODY;
+        }
+        if (!AccountNumbers.isValid(event.accountNumber())) {
+            return ErrorMessages.INVALID_ACCOUNT_NUMBER;
+        }
+        BigDecimal amount = event.amount();
+        if (amount == null || amount.signum() == 0 || amount.stripTrailingZeros().scale() > 2
+                || amount.precision() - amount.scale() > 17) {
+            return ErrorMessages.INVALID_CARD_TRANSACTION_AMOUNT;
+        }
+        if (!isCurrencyCode(event.currency())) {
+            return ErrorMessages.INVALID_CURRENCY;
+        }
+        if (event.description() != null && event.description().length() > MAX_DESCRIPTION_LENGTH) {
+            return ErrorMessages.INVALID_TRANSFER_DESCRIPTION;
+        }
+        if (event.category() != null && event.category().strip().length() > Transaction.MAX_CATEGORY_LENGTH) {
+            return ErrorMessages.INVALID_CATEGORY;
+        }
+        return null;
+    }
+
+    private static boolean isCurrencyCode(String currency) {
+        if (currency == null || currency.length() != 3) {
+            return false;
+        }
+        for (int i = 0; i < 3; i++) {
+            char c = currency.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A journaled event, with the time it was accepted.
+     */
+    private record Event(String accountNumber, BigDecimal amount, String currency, String description,
+                         String category, LocalDateTime acceptedAt) {
+    }
+
+    private static byte[] encode(CardTransactionEventDTO event, long acceptedAt) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(RECORD_VERSION);
+            out.writeLong(acceptedAt);
+            out.writeUTF(event.accountNumber());
+            out.writeUTF(event.amount().toPlainString());
+            out.writeUTF(event.currency());
+            out.writeBoolean(event.description() != null);
+            if (event.description() != null) {
+                out.writeUTF(event.description());
+            }
+            String category = StringUtils.hasText(event.category()) ? event.category().strip() : null;
+            out.writeBoolean(category != null);
+            if (category != null) {
+                out.writeUTF(category);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Event decode(byte[] record) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            byte version = in.readByte();
+            if (version != RECORD_VERSION) {
+                throw new IllegalStateException("Unknown card feed record version " + version);
+            }
+            LocalDateTime acceptedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(in.readLong()), ZoneId.systemDefault());
+            String accountNumber = in.readUTF();
+            BigDecimal amount = new BigDecimal(in.readUTF());
+            String currency = in.readUTF();
+            String description = in.readBoolean() ? in.readUTF() : null;
+            String category = in.readBoolean() ? in.readUTF() : null;
+            return new Event(accountNumber, amount, currency, description, category, acceptedAt);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
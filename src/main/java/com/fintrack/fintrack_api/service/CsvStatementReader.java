@@ -0,0 +1,133 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.exception.InvalidTransactionException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads statements in the CSV layout {@code date,amount,description}: a header row, then one
+ * booking per row with an ISO date and a signed amount. Fields may be quoted, with {@code ""} for
+ * a quote and line breaks inside quotes.
+ */
+class CsvStatementReader implements StatementReader {
+
+    static final String HEADER = "date,amount,description";
+
+    private final BufferedReader reader;
+    private final StringBuilder field = new StringBuilder(64);
+    private final List<String> fields = new ArrayList<>(3);
+    private long line = 1;
+    private boolean headerRead;
+
+    CsvStatementReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader, 64 * 1024);
+    }
+
+    @Override
+    public StatementRow next() throws IOException {
+        while (true) {
+            long start = line;
+            if (!readRecord()) {
+                if (!headerRead) {
+                    throw new InvalidTransactionException("Line 1: expected header " + HEADER);
+                }
+                return null;
+            }
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            if (!headerRead) {
+                if (!HEADER.equalsIgnoreCase(String.join(",", fields).strip())) {
+                    throw new InvalidTransactionException("Line " + start + ": expected header " + HEADER);
+                }
+                headerRead = true;
+                continue;
+            }
+            return toRow(start);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private StatementRow toRow(long start) {
+        if (fields.size() < 2 || fields.size() > 3) {
+            throw new InvalidTransactionException("Line " + start + ": expected 2 or 3 fields, found " + fields.size());
+        }
+        LocalDate date;
+        try {
+            date = LocalDate.parse(fields.get(0).strip());
+        } catch (DateTimeParseException e) {
+            throw new InvalidTransactionException("Line " + start + ": date must be in yyyy-MM-dd format");
+        }
+        BigDecimal amount;
+        try {
+            amount = new BigDecimal(fields.get(1).strip());
+        } catch (NumberFormatException e) {
+            throw new InvalidTransactionException("Line " + start + ": amount must be a number");
+        }
+        String description = fields.size() == 3 && !fields.get(2).isBlank() ? fields.get(2).strip() : null;
+        return new StatementRow(start, date, amount, description);
+    }
+
+    /**
+     * Reads the fields of the next record into {@link #fields}; returns {@code false} at the end
+     * of input.
+     */
+    private boolean readRecord() throws IOException {
+        fields.clear();
+        field.setLength(0);
+        int c = reader.read();
+        if (c == -1) {
+            return false;
+        }
+        boolean quoted = false;
+        boolean inQuotes = false;
+        while (true) {
+            if (inQuotes) {
+                if (c == -1) {
+                    throw new InvalidTransactionException("Line " + line + ": unterminated quoted field");
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == -1 || c == '\n') {
+                line++;
+                fields.add(field.toString());
+                return true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                quoted = false;
+            } else if (c == '"' && !quoted && field.toString().isBlank()) {
+                field.setLength(0);
+                quoted = true;
+                inQuotes = true;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+}
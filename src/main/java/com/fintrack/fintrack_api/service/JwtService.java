@@ -1,12 +1,14 @@
 package com.fintrack.fintrack_api.service;
 
+import com.fintrack.fintrack_api.security.TokenEpochRegistry;
 import com.fintrack.fintrack_api.security.UserPrincipal;
+import com.fintrack.fintrack_api.security.VerifiedToken;
+import com.fintrack.fintrack_api.security.VerifiedTokenCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -14,23 +16,35 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class JwtService {
 
-    private static final Logger logger = LoggerFactory.getLogger(JwtService.class);
-
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
     @Value("${app.jwt.expiration-ms}")
     private int jwtExpirationMs;
 
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenEpochRegistry tokenEpochRegistry;
+
+    private SecretKey key;
+    private JwtParser parser;
+
+    @PostConstruct
+    void initKey() {
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+    }
+
     public String generateJwtToken(Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
 
@@ -40,41 +54,48 @@ public class JwtService {
 
         return Jwts.builder()
                 .subject(userPrincipal.getUsername())
-                .claim("roles", roles)
+                .claim(VerifiedToken.USER_ID_CLAIM, userPrincipal.getId())
+                .claim(VerifiedToken.EPOCH_CLAIM, userPrincipal.getTokenEpoch())
+                .claim(VerifiedToken.ROLES_CLAIM, roles)
                 .issuedAt(new Date())
                 .expiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(getKey())
+                .signWith(key)
                 .compact();
     }
 
-    private SecretKey getKey() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
-    }
-
-    public String extractUsernameFromJwtToken(String token) {
-        return extractClaimFromJwtToken(token, Claims::getSubject);
+    /**
+     * Parses and verifies the token once, reusing a previous verification of the same token when
+     * it is still cached.
+     *
+     * @throws JwtException if the token is malformed, expired or carries an invalid signature
+     */
+    public VerifiedToken verifyJwtToken(String token) {
+        VerifiedToken verifiedToken = verifiedTokenCache.get(token, this::parseJwtToken);
+        if (verifiedToken.isExpiredAt(Instant.now())) {
+            throw new ExpiredJwtException(null, null, "JWT expired at " + verifiedToken.expiresAt());
+        }
+        return verifiedToken;
     }
 
-    private <T> T extractClaimFromJwtToken(String token, Function<Claims, T> claimResolver) {
-        final Claims claims = extractAllClaimsFromJwtToken(token);
-        return claimResolver.apply(claims);
+    private VerifiedToken parseJwtToken(String token) {
+        return VerifiedToken.from(parser.parseSignedClaims(token).getPayload());
     }
 
-    private Claims extractAllClaimsFromJwtToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public String extractUsernameFromJwtToken(String token) {
+        return verifyJwtToken(token).subject();
     }
 
-    public boolean validateJwtToken(String token, UserDetails userDetails) {
-        try {
-            String username = extractUsernameFromJwtToken(token);
-            return username.equals(userDetails.getUsername());
-        } catch (JwtException | IllegalArgumentException e) {
-            logger.error("Invalid JWT: {}", e.getMessage());
+    /**
+     * Checks that the token belongs to the loaded user, that the user is enabled and that the
+     * token has not been revoked by a later token epoch.
+     */
+    public boolean validateJwtToken(VerifiedToken token, UserDetails userDetails) {
+        if (token.subject() == null || !token.subject().equals(userDetails.getUsername()) || !userDetails.isEnabled()) {
             return false;
         }
+        if (userDetails instanceof UserPrincipal principal && principal.getId() != null) {
+            return tokenEpochRegistry.isCurrent(principal.getId(), token.epoch());
+        }
+        return true;
     }
 }
@@ -0,0 +1,132 @@
+package com.fintrack.fintrack_api.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Verifies the ledger: every entry's postings sum to zero, and every account's balance column
+ * equals the sum of its postings up to its fold checkpoint. Accounts and entries are split by {@code id mod n} into
+ * partitions that are checked in parallel, each with a single read-only statement so it sees one
+ * consistent snapshot.
+ */
+@Component
+public class LedgerInvariantChecker {
+
+    public static final String METRIC_NAME = "ledger.invariant.violations";
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerInvariantChecker.class);
+
+    private static final String UNBALANCED_ACCOUNTS = """
+            SELECT a.id FROM accounts a
+            WHERE MOD(a.id, ?) = ?
+              AND a.balance <> COALESCE((SELECT SUM(p.amount) FROM ledger_postings p
+                                         WHERE p.account_id = a.id AND p.fold_checkpoint <= a.fold_checkpoint), 0)""";
+
+    private static final String UNBALANCED_ENTRIES = """
+            SELECT p.entry_id FROM ledger_postings p
+            WHERE MOD(p.entry_id, ?) = ?
+            GROUP BY p.entry_id
+            HAVING SUM(p.amount) <> 0""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService executor;
+    private final int partitions;
+
+    private volatile int lastViolations;
+
+    public LedgerInvariantChecker(DataSource dataSource,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.ledger.invariant-check.partitions}") int partitions) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.partitions = partitions;
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(partitions, runnable -> {
+            Thread thread = new Thread(runnable, "ledger-invariant-check-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder(METRIC_NAME, this, checker -> checker.lastViolations)
+                .description("Unbalanced accounts and entries found by the last ledger check")
+                .register(meterRegistry);
+    }
+
+    public record Result(List<Long> unbalancedAccountIds, List<Long> unbalancedEntryIds) {
+
+        public boolean isConsistent() {
+            return unbalancedAccountIds.isEmpty() && unbalancedEntryIds.isEmpty();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.ledger.invariant-check.interval-ms}",
+            initialDelayString = "${app.ledger.invariant-check.interval-ms}")
+    public Result check() {
+        List<Future<List<Long>>> accounts = submit(partition -> query(UNBALANCED_ACCOUNTS, partition));
+        List<Future<List<Long>>> entries = submit(partition -> query(UNBALANCED_ENTRIES, partition));
+        Result result = new Result(collect(accounts), collect(entries));
+
+        lastViolations = result.unbalancedAccountIds().size() + result.unbalancedEntryIds().size();
+        if (!result.isConsistent()) {
+            logger.error("Ledger invariant violated: unbalanced accounts {}, unbalanced entries {}",
+                    result.unbalancedAccountIds(), result.unbalancedEntryIds());
+        }
+        return result;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private List<Future<List<Long>>> submit(IntFunction<List<Long>> check) {
+        List<Future<List<Long>>> futures = new ArrayList<>(partitions);
+        for (int partition = 0; partition < partitions; partition++) {
+            int current = partition;
+            futures.add(executor.submit(() -> check.apply(current)));
+        }
+        return futures;
+    }
+
+    private List<Long> query(String sql, int partition) {
+        return readOnlyTransaction.execute(status ->
+                jdbcTemplate.queryForList(sql, Long.class, partitions, partition));
+    }
+
+    private static List<Long> collect(List<Future<List<Long>>> futures) {
+        List<Long> ids = new ArrayList<>();
+        try {
+            for (Future<List<Long>> future : futures) {
+                ids.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Ledger check was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Ledger check failed", e.getCause());
+        }
+        ids.sort(null);
+        return ids;
+    }
+}
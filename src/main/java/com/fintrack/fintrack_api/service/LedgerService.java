@@ -0,0 +1,166 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.dto.response.AccountResponseDTO;
+import com.fintrack.fintrack_api.model.Account;
+import com.fintrack.fintrack_api.model.LedgerEntry;
+import com.fintrack.fintrack_api.model.Transaction;
+import com.fintrack.fintrack_api.repository.AccountRepository;
+import com.fintrack.fintrack_api.repository.LedgerEntryRepository;
+import com.fintrack.fintrack_api.repository.LedgerPostingRepository;
+import com.fintrack.fintrack_api.repository.projection.IdAmountRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only double-entry ledger beneath {@link Account}.
+ * <p>
+ * Money only moves by inserting a balanced {@link LedgerEntry}; postings are never updated. The
+ * {@code accounts.balance} column is a checkpoint: the sum of the account's postings up to its
+ * {@code fold_checkpoint}. Newer postings are added on read and folded into the column in the
+ * background by moving the checkpoint, so a transfer into a popular account only share-locks that
+ * account's row. Debits lock the source row, because the no-negative rule needs a stable balance.
+ */
+@Service
+public class LedgerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerService.class);
+
+    private final AccountRepository accountRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final LedgerPostingRepository ledgerPostingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int foldBatchSize;
+
+    public LedgerService(AccountRepository accountRepository,
+                         LedgerEntryRepository ledgerEntryRepository,
+                         LedgerPostingRepository ledgerPostingRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${app.ledger.fold-batch-size}") int foldBatchSize) {
+        this.accountRepository = accountRepository;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.ledgerPostingRepository = ledgerPostingRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.foldBatchSize = foldBatchSize;
+    }
+
+    /**
+     * Books the balance a new account was opened with against the outside world. The balance is
+     * already in the column, so both postings are recorded as folded.
+     */
+    public void recordOpeningBalance(Account account) {
+        if (account.getBalance().signum() == 0) {
+            return;
+        }
+        LedgerEntry entry = LedgerEntry.builder()
+                .type(LedgerEntry.EntryType.OPENING_BALANCE)
+                .build();
+        entry.addPosting(account, account.getBalance(), true);
+        entry.addPosting(null, account.getBalance().negate(), true);
+        ledgerEntryRepository.save(entry);
+    }
+
+    public void recordTransfer(Transaction transaction) {
+        LedgerEntry entry = LedgerEntry.builder()
+                .type(LedgerEntry.EntryType.TRANSFER)
+                .transaction(transaction)
+                .build();
+        entry.addPosting(transaction.getSourceAccount(), transaction.getAmount().negate(), false);
+        entry.addPosting(transaction.getTargetAccount(), transaction.getAmount(), false);
+        ledgerEntryRepository.save(entry);
+    }
+
+    /**
+     * Books a card payment or refund against the outside world. Card events were already
+     * authorized by the card network, so the no-negative rule does not apply.
+     */
+    public void recordCardTransaction(Transaction transaction) {
+        boolean payment = transaction.getSourceAccount() != null;
+        Account account = payment ? transaction.getSourceAccount() : transaction.getTargetAccount();
+        BigDecimal amount = payment ? transaction.getAmount().negate() : transaction.getAmount();
+        LedgerEntry entry = LedgerEntry.builder()
+                .type(LedgerEntry.EntryType.CARD)
+                .transaction(transaction)
+                .build();
+        entry.addPosting(account, amount, false);
+        entry.addPosting(null, amount.negate(), true);
+        ledgerEntryRepository.save(entry);
+    }
+
+    /**
+     * Current balance of an account loaded in this transaction. Only stable while the caller
+     * holds the account's row lock, and then only against concurrent debits; concurrent credits
+     * can only raise it.
+     */
+    public BigDecimal currentBalance(Account account) {
+        return account.getBalance().add(ledgerPostingRepository.sumPendingByAccountId(account.getId()));
+    }
+
+    /**
+     * Adds pending postings to balances that were read from the checkpoint column.
+     */
+    public List<AccountResponseDTO> withPendingPostings(List<AccountResponseDTO> accounts) {
+        if (accounts.isEmpty()) {
+            return accounts;
+        }
+        Map<Long, BigDecimal> pending = pendingByAccountId(accounts.stream().map(AccountResponseDTO::id).toList());
+        if (pending.isEmpty()) {
+            return accounts;
+        }
+        return accounts.stream()
+                .map(account -> {
+                    BigDecimal amount = pending.get(account.id());
+                    return amount == null ? account : account.withBalance(account.balance().add(amount));
+                })
+                .toList();
+    }
+
+    public AccountResponseDTO withPendingPostings(AccountResponseDTO account) {
+        return withPendingPostings(List.of(account)).get(0);
+    }
+
+    /**
+     * Folds pending postings into the balance column, one account per transaction, so reads
+     * stay cheap. Each account is locked while it is folded, which also waits out every posting
+     * still being written against the current checkpoint; folds on other nodes for the same
+     * account wait and then find nothing left to fold. The account's version is not changed, so
+     * a fold neither fails a client's versioned rename nor invalidates cached account lists.
+     */
+    @Scheduled(fixedDelayString = "${app.ledger.fold-interval-ms}")
+    public void foldPendingPostings() {
+        List<Long> accountIds = ledgerPostingRepository.findAccountIdsWithPendingPostings(Limit.of(foldBatchSize));
+        for (Long accountId : accountIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> fold(accountId));
+            } catch (RuntimeException e) {
+                logger.warn("Failed to fold ledger postings of account {}: {}", accountId, e.getMessage());
+            }
+        }
+    }
+
+    private void fold(Long accountId) {
+        if (accountRepository.findByIdForUpdate(accountId).isEmpty()) {
+            return;
+        }
+        accountRepository.fold(accountId, ledgerPostingRepository.sumPendingByAccountId(accountId));
+    }
+
+    private Map<Long, BigDecimal> pendingByAccountId(Collection<Long> accountIds) {
+        Map<Long, BigDecimal> pending = new HashMap<>();
+        for (IdAmountRow row : ledgerPostingRepository.sumPendingByAccountIds(accountIds)) {
+            pending.put(row.id(), row.amount());
+        }
+        return pending;
+    }
+}
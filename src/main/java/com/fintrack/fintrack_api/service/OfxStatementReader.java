@@ -0,0 +1,160 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.exception.InvalidTransactionException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * Reads the {@code STMTTRN} bookings of an OFX statement, in either the SGML (1.x, unclosed
+ * elements) or the XML (2.x) flavour. Only {@code DTPOSTED}, {@code TRNAMT}, {@code NAME} and
+ * {@code MEMO} are used; everything else, including the header, is skipped.
+ */
+class OfxStatementReader implements StatementReader {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final BufferedReader reader;
+    private final StringBuilder buffer = new StringBuilder(64);
+    private long line = 1;
+
+    private long start;
+    private String posted;
+    private String amount;
+    private String name;
+    private String memo;
+
+    OfxStatementReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader, 64 * 1024);
+    }
+
+    @Override
+    public StatementRow next() throws IOException {
+        boolean inTransaction = false;
+        String tag;
+        while ((tag = readTag()) != null) {
+            switch (tag) {
+                case "STMTTRN" -> {
+                    if (inTransaction) {
+                        throw new InvalidTransactionException("Line " + line + ": nested STMTTRN");
+                    }
+                    inTransaction = true;
+                    start = line;
+                    posted = amount = name = memo = null;
+                }
+                case "/STMTTRN" -> {
+                    if (inTransaction) {
+                        return toRow();
+                    }
+                }
+                case "DTPOSTED" -> posted = inTransaction ? readValue() : posted;
+                case "TRNAMT" -> amount = inTransaction ? readValue() : amount;
+                case "NAME" -> name = inTransaction ? readValue() : name;
+                case "MEMO" -> memo = inTransaction ? readValue() : memo;
+                default -> {
+                    // Aggregates and elements this import does not use
+                }
+            }
+        }
+        if (inTransaction) {
+            throw new InvalidTransactionException("Line " + start + ": STMTTRN is not closed");
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private StatementRow toRow() {
+        if (posted == null || posted.length() < 8) {
+            throw new InvalidTransactionException("Line " + start + ": DTPOSTED must start with a yyyyMMdd date");
+        }
+        LocalDate date;
+        try {
+            date = LocalDate.parse(posted.substring(0, 8), DATE);
+        } catch (DateTimeParseException e) {
+            throw new InvalidTransactionException("Line " + start + ": DTPOSTED must start with a yyyyMMdd date");
+        }
+        if (amount == null) {
+            throw new InvalidTransactionException("Line " + start + ": TRNAMT is missing");
+        }
+        BigDecimal value;
+        try {
+            // Some banks write a decimal comma
+            value = new BigDecimal(amount.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            throw new InvalidTransactionException("Line " + start + ": TRNAMT must be a number");
+        }
+        String description = name != null ? name : memo;
+        return new StatementRow(start, date, value, description == null || description.isEmpty() ? null : description);
+    }
+
+    /**
+     * Skips to the next tag and returns its upper-cased name, with a leading {@code /} for end
+     * tags, or {@code null} at the end of input.
+     */
+    private String readTag() throws IOException {
+        int c;
+        while ((c = read()) != '<') {
+            if (c == -1) {
+                return null;
+            }
+        }
+        buffer.setLength(0);
+        while ((c = read()) != '>') {
+            if (c == -1) {
+                throw new InvalidTransactionException("Line " + line + ": unterminated tag");
+            }
+            buffer.append((char) c);
+        }
+        return buffer.toString().strip().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Reads an element's text up to the next tag, which is left unread, and decodes entities.
+     */
+    private String readValue() throws IOException {
+        buffer.setLength(0);
+        while (true) {
+            reader.mark(1);
+            int c = read();
+            if (c == -1) {
+                break;
+            }
+            if (c == '<') {
+                reader.reset();
+                break;
+            }
+            buffer.append((char) c);
+        }
+        return decodeEntities(buffer.toString().strip());
+    }
+
+    private int read() throws IOException {
+        int c = reader.read();
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    private static String decodeEntities(String value) {
+        if (value.indexOf('&') < 0) {
+            return value;
+        }
+        return value.replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&apos;", "'")
+                .replace("&nbsp;", " ")
+                .replace("&amp;", "&");
+    }
+}
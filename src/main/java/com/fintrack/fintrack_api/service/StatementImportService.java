@@ -0,0 +1,333 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.configuration.TransactionHistoryPartitions;
+import com.fintrack.fintrack_api.dto.response.StatementImportProgressDTO;
+import com.fintrack.fintrack_api.exception.AccountNotFoundException;
+import com.fintrack.fintrack_api.exception.InvalidRequestException;
+import com.fintrack.fintrack_api.exception.InvalidTransactionException;
+import com.fintrack.fintrack_api.model.Account;
+import com.fintrack.fintrack_api.model.Transaction;
+import com.fintrack.fintrack_api.repository.AccountRepository;
+import com.fintrack.fintrack_api.security.UserPrincipal;
+import com.fintrack.fintrack_api.util.AccountNumbers;
+import com.fintrack.fintrack_api.util.ErrorMessages;
+import com.fintrack.fintrack_api.util.LongIntHashMap;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Imports a CSV or OFX bank statement into an account's transaction history.
+ * <p>
+ * The file is parsed as a stream and each booking is validated as it is read. New bookings are
+ * buffered into chunks and written with the Postgres {@code COPY} protocol, together with their
+ * {@link TransactionHistoryService history} rows, with ids taken from
+ * {@code transactions_seq} in blocks, so memory stays flat however long the file is. Before a
+ * chunk is written, the history partitions of the months it books into are created if missing.
+ * Bookings that
+ * are already recorded for the account are skipped. To find them, the account's existing
+ * transactions are loaded once as a multiset of (date, amount, description) hashes, so a booking
+ * that legitimately appears twice in a statement is only skipped as often as it already exists.
+ * <p>
+ * The whole file is one database transaction: an invalid booking anywhere fails the import with
+ * {@link InvalidTransactionException} and nothing is kept. Imported bookings are history only;
+ * they do not move the account balance. Progress is kept per account on the node running the
+ * import.
+ */
+@Service
+public class StatementImportService {
+
+    public enum Format {
+        CSV, OFX
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementImportService.class);
+
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+
+    private static final String IMPORT_LOCK = "SELECT pg_try_advisory_xact_lock(hashtext('statement_import'), ?)";
+
+    // Answered from the covering primary key of transaction_history, across all partitions
+    private static final String EXISTING_BOOKINGS =
+            "SELECT CAST(booked_at AS DATE), amount, description FROM transaction_history WHERE account_id = ?";
+
+    private static final String NEXT_ID_BLOCKS = "SELECT nextval('transactions_seq') FROM generate_series(1, ?)";
+
+    private static final String COPY = "COPY transactions (id, type, source_account_id, target_account_id, amount, " +
+            "currency, description, created_at) FROM STDIN (FORMAT csv)";
+
+    private final AccountRepository accountRepository;
+    private final TransactionHistoryPartitions transactionHistoryPartitions;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Cache<Long, Progress> progressByAccount;
+
+    public StatementImportService(AccountRepository accountRepository,
+                                  TransactionHistoryPartitions transactionHistoryPartitions,
+                                  DataSource dataSource,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.statements.import.chunk-size}") int chunkSize,
+                                  @Value("${app.statements.import.fetch-size}") int fetchSize,
+                                  @Value("${app.statements.import.progress-ttl-ms}") long progressTtlMs) {
+        this.accountRepository = accountRepository;
+        this.transactionHistoryPartitions = transactionHistoryPartitions;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.progressByAccount = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(progressTtlMs))
+                .build();
+    }
+
+    public StatementImportProgressDTO importStatement(String accountNumber, Format format, InputStream statement,
+                                                      UserPrincipal currentUser) {
+        Account account = findOwnedActiveAccount(accountNumber, currentUser);
+        Progress progress = new Progress();
+        long started = System.nanoTime();
+
+        try (StatementReader reader = open(format, statement)) {
+            transactionTemplate.executeWithoutResult(status -> load(account, reader, progress));
+        } catch (InvalidTransactionException e) {
+            progress.fail(e.getMessage());
+            throw e;
+        } catch (IOException | UncheckedIOException e) {
+            logger.warn("Failed to read statement for account {}: {}", account.getId(), e.getMessage());
+            progress.fail(ErrorMessages.UNREADABLE_STATEMENT);
+            throw new InvalidTransactionException(ErrorMessages.UNREADABLE_STATEMENT);
+        } catch (RuntimeException e) {
+            progress.fail(e.getMessage());
+            throw e;
+        }
+
+        progress.status = StatementImportProgressDTO.Status.COMPLETED;
+        logger.info("Imported {} of {} statement rows into account {} in {} ms, skipping {} duplicates",
+                progress.rowsImported, progress.rowsRead, account.getId(),
+                Duration.ofNanos(System.nanoTime() - started).toMillis(), progress.duplicatesSkipped);
+        return progress.toDTO();
+    }
+
+    /**
+     * Progress of the running or most recent import into the account on this node.
+     */
+    public StatementImportProgressDTO getImportProgress(String accountNumber, UserPrincipal currentUser) {
+        Account account = findOwnedActiveAccount(accountNumber, currentUser);
+        Progress progress = progressByAccount.getIfPresent(account.getId());
+        if (progress == null) {
+            throw new InvalidRequestException(ErrorMessages.NO_STATEMENT_IMPORT);
+        }
+        return progress.toDTO();
+    }
+
+    private Account findOwnedActiveAccount(String accountNumber, UserPrincipal currentUser) {
+        if (!AccountNumbers.isValid(accountNumber)) {
+            throw new InvalidRequestException(ErrorMessages.INVALID_ACCOUNT_NUMBER);
+        }
+        return accountRepository.findByAccountNumber(accountNumber)
+                .filter(account -> account.getStatus() == Account.AccountStatus.ACTIVE
+                        && account.getUser().getId().equals(currentUser.getId()))
+                .orElseThrow(() -> new AccountNotFoundException("Account with account number " + accountNumber + " not found"));
+    }
+
+    private static StatementReader open(Format format, InputStream statement) {
+        InputStreamReader reader = new InputStreamReader(statement, StandardCharsets.UTF_8);
+        return format == Format.OFX ? new OfxStatementReader(reader) : new CsvStatementReader(reader);
+    }
+
+    private void load(Account account, StatementReader reader, Progress progress) {
+        Boolean locked = jdbcTemplate.queryForObject(IMPORT_LOCK, Boolean.class, (int) (long) account.getId());
+        if (!Boolean.TRUE.equals(locked)) {
+            throw new InvalidTransactionException(ErrorMessages.STATEMENT_IMPORT_IN_PROGRESS);
+        }
+        progressByAccount.put(account.getId(), progress);
+
+        LongIntHashMap existing = existingBookings(account.getId());
+        IdAllocator ids = new IdAllocator((chunkSize + Transaction.ID_ALLOCATION_SIZE - 1) / Transaction.ID_ALLOCATION_SIZE);
+        LocalDate today = LocalDate.now();
+        StringBuilder chunk = new StringBuilder(chunkSize * 96);
+        StringBuilder historyChunk = new StringBuilder(chunkSize * 96);
+        Set<YearMonth> months = new HashSet<>();
+        List<YearMonth> newMonths = new ArrayList<>();
+        int rows = 0;
+        try {
+            CopyManager copyManager = DataSourceUtils.getConnection(dataSource).unwrap(PGConnection.class).getCopyAPI();
+            for (StatementRow row = reader.next(); row != null; row = reader.next()) {
+                progress.rowsRead++;
+                validate(row, today);
+                long key = row.key();
+                int matches = existing.getOrDefault(key, 0);
+                if (matches > 0) {
+                    existing.put(key, matches - 1);
+                    progress.duplicatesSkipped++;
+                    continue;
+                }
+                long id = ids.next();
+                YearMonth month = YearMonth.from(row.date());
+                if (months.add(month)) {
+                    newMonths.add(month);
+                }
+                appendCopyRow(chunk, id, account, row);
+                TransactionHistoryService.appendCopyRow(historyChunk, account.getId(), row.date().atStartOfDay(), id,
+                        Transaction.TransactionType.STATEMENT, row.amount(), account.getCurrency(), row.description());
+                if (++rows == chunkSize) {
+                    copyChunk(copyManager, chunk, historyChunk, newMonths);
+                    progress.rowsImported += rows;
+                    rows = 0;
+                }
+            }
+            if (rows > 0) {
+                copyChunk(copyManager, chunk, historyChunk, newMonths);
+                progress.rowsImported += rows;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (SQLException e) {
+            throw jdbcTemplate.getExceptionTranslator().translate("Statement import", COPY, e);
+        }
+    }
+
+    private void copyChunk(CopyManager copyManager, StringBuilder chunk, StringBuilder historyChunk,
+                           List<YearMonth> newMonths) throws SQLException, IOException {
+        transactionHistoryPartitions.createMissingPartitions(newMonths);
+        newMonths.clear();
+        copyManager.copyIn(COPY, new StringReader(chunk.toString()));
+        copyManager.copyIn(TransactionHistoryService.COPY, new StringReader(historyChunk.toString()));
+        chunk.setLength(0);
+        historyChunk.setLength(0);
+    }
+
+    /**
+     * Multiset of the account's recorded bookings, keyed by {@link StatementRow#key}, streamed
+     * through a cursor.
+     */
+    private LongIntHashMap existingBookings(Long accountId) {
+        LongIntHashMap bookings = new LongIntHashMap(1024);
+        jdbcTemplate.query(EXISTING_BOOKINGS, (RowCallbackHandler) rs -> {
+            long key = StatementRow.key(rs.getDate(1).toLocalDate(), rs.getBigDecimal(2), rs.getString(3));
+            bookings.put(key, bookings.getOrDefault(key, 0) + 1);
+        }, accountId);
+        return bookings;
+    }
+
+    private static void validate(StatementRow row, LocalDate today) {
+        if (row.date().isAfter(today)) {
+            throw new InvalidTransactionException("Line " + row.line() + ": " + ErrorMessages.INVALID_STATEMENT_DATE);
+        }
+        BigDecimal amount = row.amount();
+        if (amount.signum() == 0 || amount.stripTrailingZeros().scale() > 2 || amount.precision() - amount.scale() > 17) {
+            throw new InvalidTransactionException("Line " + row.line() + ": " + ErrorMessages.INVALID_STATEMENT_AMOUNT);
+        }
+        if (row.description() != null && row.description().length() > MAX_DESCRIPTION_LENGTH) {
+            throw new InvalidTransactionException("Line " + row.line() + ": " + ErrorMessages.INVALID_TRANSFER_DESCRIPTION);
+        }
+    }
+
+    /**
+     * One CSV line matching {@link #COPY}; an unquoted empty field is NULL.
+     */
+    private static void appendCopyRow(StringBuilder chunk, long id, Account account, StatementRow row) {
+        boolean debit = row.amount().signum() < 0;
+        chunk.append(id).append(',').append(Transaction.TransactionType.STATEMENT.name()).append(',');
+        if (debit) {
+            chunk.append(account.getId());
+        }
+        chunk.append(',');
+        if (!debit) {
+            chunk.append(account.getId());
+        }
+        chunk.append(',').append(row.amount().abs().toPlainString())
+                .append(',').append(account.getCurrency())
+                .append(',');
+        if (row.description() != null) {
+            chunk.append('"').append(row.description().replace("\"", "\"\"")).append('"');
+        }
+        chunk.append(',').append(row.date()).append(" 00:00:00\n");
+    }
+
+    /**
+     * Hands out ids the way Hibernate's pooled optimizer does: each sequence value {@code hi}
+     * owns {@code hi - 49 .. hi}, so rows written here never collide with entities saved through
+     * JPA. Sequence values are fetched many at a time.
+     */
+    private final class IdAllocator {
+
+        private final int blocksPerFetch;
+        private long[] blocks = new long[0];
+        private int block;
+        private long next = 1;
+        private long last;
+
+        private IdAllocator(int blocksPerFetch) {
+            this.blocksPerFetch = blocksPerFetch;
+        }
+
+        long next() {
+            while (next > last) {
+                if (block == blocks.length) {
+                    blocks = jdbcTemplate.queryForList(NEXT_ID_BLOCKS, Long.class, blocksPerFetch).stream()
+                            .mapToLong(Long::longValue)
+                            .toArray();
+                    block = 0;
+                }
+                long hi = blocks[block++];
+                // The first value of a fresh sequence does not own a full block
+                if (hi >= Transaction.ID_ALLOCATION_SIZE) {
+                    next = hi - Transaction.ID_ALLOCATION_SIZE + 1;
+                    last = hi;
+                }
+            }
+            return next++;
+        }
+    }
+
+    /**
+     * Written only by the importing thread and read by progress requests.
+     */
+    private static final class Progress {
+
+        private volatile StatementImportProgressDTO.Status status = StatementImportProgressDTO.Status.RUNNING;
+        private volatile long rowsRead;
+        private volatile long rowsImported;
+        private volatile long duplicatesSkipped;
+        private volatile String error;
+
+        void fail(String message) {
+            error = message;
+            status = StatementImportProgressDTO.Status.FAILED;
+        }
+
+        StatementImportProgressDTO toDTO() {
+            return new StatementImportProgressDTO(status, rowsRead, rowsImported, duplicatesSkipped, error);
+        }
+    }
+}
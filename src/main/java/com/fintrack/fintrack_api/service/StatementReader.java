@@ -0,0 +1,19 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.exception.InvalidTransactionException;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Pull parser over a bank statement that holds at most one booking in memory at a time.
+ */
+interface StatementReader extends Closeable {
+
+    /**
+     * Returns the next booking, or {@code null} at the end of the statement.
+     *
+     * @throws InvalidTransactionException if the statement is malformed, naming the line
+     */
+    StatementRow next() throws IOException;
+}
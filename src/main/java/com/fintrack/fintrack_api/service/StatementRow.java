@@ -0,0 +1,44 @@
+package com.fintrack.fintrack_api.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One booking read from a bank statement, as seen from the account: negative amounts leave it.
+ *
+ * @param line line of the file the booking starts on, for error messages
+ */
+record StatementRow(long line, LocalDate date, BigDecimal amount, String description) {
+
+    long key() {
+        return key(date, amount, description);
+    }
+
+    /**
+     * 64-bit hash of (date, amount, description) used to recognise bookings that are already
+     * recorded. Amounts are compared in cents and descriptions after trimming.
+     */
+    static long key(LocalDate date, BigDecimal amount, String description) {
+        long hash = mix(date.toEpochDay() * 0x9E3779B97F4A7C15L ^ amount.movePointRight(2).longValue());
+        if (description != null) {
+            String trimmed = description.strip();
+            for (int i = 0; i < trimmed.length(); i++) {
+                hash ^= trimmed.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+        }
+        return mix(hash);
+    }
+
+    /**
+     * MurmurHash3 64-bit finalizer.
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,223 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.configuration.TransactionHistoryPartitions;
+import com.fintrack.fintrack_api.dto.request.TransactionHistoryFilterDTO;
+import com.fintrack.fintrack_api.dto.response.CursorPageResponseDTO;
+import com.fintrack.fintrack_api.dto.response.TransactionHistoryEntryDTO;
+import com.fintrack.fintrack_api.exception.AccountNotFoundException;
+import com.fintrack.fintrack_api.exception.InvalidRequestException;
+import com.fintrack.fintrack_api.model.Account;
+import com.fintrack.fintrack_api.model.Transaction;
+import com.fintrack.fintrack_api.security.UserPrincipal;
+import com.fintrack.fintrack_api.util.AccountNumbers;
+import com.fintrack.fintrack_api.util.ErrorMessages;
+import com.fintrack.fintrack_api.util.KeysetCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Per-account booking history, newest first with keyset pagination on {@code (booked_at, id)}.
+ * <p>
+ * Reads go to {@code transaction_history}, which holds one row per account side of every
+ * transaction and is range-partitioned by month (see {@link TransactionHistoryPartitions}). Every
+ * query carries both date bounds, so only the partitions of the requested range are scanned, and
+ * the covering primary key answers it from the index alone. Latency therefore depends on the page
+ * and the range, not on how much history the table holds.
+ * <p>
+ * Writers record their transactions here in the same database transaction that inserts them.
+ */
+@Service
+public class TransactionHistoryService {
+
+    static final String COPY = "COPY transaction_history (account_id, booked_at, transaction_id, type, amount, " +
+            "currency, counterparty_account_number, category, description) FROM STDIN (FORMAT csv)";
+
+    private static final String INSERT = "INSERT INTO transaction_history (account_id, booked_at, transaction_id, " +
+            "type, amount, currency, counterparty_account_number, category, description) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String OWNED_ACCOUNT = "SELECT id FROM accounts WHERE account_number = ? AND user_id = ?";
+
+    private static final String SELECT = """
+            SELECT transaction_id, type, booked_at, amount, currency, counterparty_account_number, category, description
+            FROM transaction_history""";
+
+    private static final RowMapper<TransactionHistoryEntryDTO> ROW_MAPPER = (rs, rowNum) -> new TransactionHistoryEntryDTO(
+            rs.getLong(1),
+            Transaction.TransactionType.valueOf(rs.getString(2)),
+            rs.getObject(3, LocalDateTime.class),
+            rs.getBigDecimal(4),
+            rs.getString(5),
+            rs.getString(6),
+            rs.getString(7),
+            rs.getString(8));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int defaultRangeMonths;
+    private final int maxRangeMonths;
+
+    public TransactionHistoryService(DataSource dataSource,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${app.transactions.history.default-range-months}") int defaultRangeMonths,
+                                     @Value("${app.transactions.history.max-range-months}") int maxRangeMonths) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.defaultRangeMonths = defaultRangeMonths;
+        this.maxRangeMonths = maxRangeMonths;
+    }
+
+    public CursorPageResponseDTO<TransactionHistoryEntryDTO> getHistory(String accountNumber,
+                                                                        TransactionHistoryFilterDTO filter,
+                                                                        String cursor,
+                                                                        UserPrincipal currentUser) {
+        if (!AccountNumbers.isValid(accountNumber)) {
+            throw new InvalidRequestException(ErrorMessages.INVALID_ACCOUNT_NUMBER);
+        }
+        validateFilter(filter);
+        LocalDate to = filter.to() != null ? filter.to() : LocalDate.now();
+        LocalDate from = filter.from() != null ? filter.from() : to.minusMonths(defaultRangeMonths).plusDays(1);
+        if (from.isAfter(to) || from.isBefore(to.minusMonths(maxRangeMonths))) {
+            throw new InvalidRequestException(ErrorMessages.INVALID_HISTORY_RANGE);
+        }
+        KeysetCursor after = StringUtils.hasText(cursor) ? KeysetCursor.decode(cursor) : null;
+        int size = filter.size();
+
+        List<TransactionHistoryEntryDTO> rows = readOnlyTransaction.execute(status -> {
+            List<Long> accountIds = jdbcTemplate.queryForList(OWNED_ACCOUNT, Long.class, accountNumber, currentUser.getId());
+            if (accountIds.isEmpty()) {
+                throw new AccountNotFoundException("Account with account number " + accountNumber + " not found");
+            }
+            List<Object> parameters = new ArrayList<>(12);
+            String sql = buildQuery(accountIds.get(0), from.atStartOfDay(), to.plusDays(1).atStartOfDay(), filter,
+                    after, size + 1, parameters);
+            return jdbcTemplate.query(sql, ROW_MAPPER, parameters.toArray());
+        });
+
+        boolean hasNext = rows.size() > size;
+        List<TransactionHistoryEntryDTO> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            TransactionHistoryEntryDTO last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.bookedAt(), last.transactionId()).encode();
+        }
+        return new CursorPageResponseDTO<>(page, size, nextCursor, hasNext, null);
+    }
+
+    public void record(Transaction transaction) {
+        recordAll(List.of(transaction));
+    }
+
+    /**
+     * Writes a history row for each account side of the transactions, which must already have
+     * their ids. Joins the caller's database transaction.
+     */
+    public void recordAll(Collection<Transaction> transactions) {
+        List<Object[]> rows = new ArrayList<>(transactions.size() * 2);
+        for (Transaction transaction : transactions) {
+            Account source = transaction.getSourceAccount();
+            Account target = transaction.getTargetAccount();
+            if (source != null) {
+                rows.add(row(transaction, source, transaction.getAmount().negate(), target));
+            }
+            if (target != null) {
+                rows.add(row(transaction, target, transaction.getAmount(), source));
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, rows);
+        }
+    }
+
+    /**
+     * The date bounds are always present, also when a cursor narrows the range further, because
+     * Postgres can only skip partitions on plain comparisons of {@code booked_at}.
+     */
+    static String buildQuery(long accountId, LocalDateTime from, LocalDateTime toExclusive,
+                             TransactionHistoryFilterDTO filter, KeysetCursor after, int limit,
+                             List<Object> parameters) {
+        StringBuilder sql = new StringBuilder(SELECT)
+                .append(" WHERE account_id = ? AND booked_at >= ? AND booked_at < ?");
+        parameters.add(accountId);
+        parameters.add(from);
+        parameters.add(toExclusive);
+        if (after != null) {
+            sql.append(" AND booked_at <= ? AND (booked_at, transaction_id) < (?, ?)");
+            parameters.add(after.createdAt());
+            parameters.add(after.createdAt());
+            parameters.add(after.id());
+        }
+        if (filter.category() != null) {
+            sql.append(" AND category = ?");
+            parameters.add(filter.category().strip());
+        }
+        if (filter.minAmount() != null) {
+            sql.append(" AND amount >= ?");
+            parameters.add(filter.minAmount());
+        }
+        if (filter.maxAmount() != null) {
+            sql.append(" AND amount <= ?");
+            parameters.add(filter.maxAmount());
+        }
+        sql.append(" ORDER BY booked_at DESC, transaction_id DESC LIMIT ?");
+        parameters.add(limit);
+        return sql.toString();
+    }
+
+    /**
+     * One CSV line matching {@link #COPY} for a booking without a counterparty or category; an
+     * unquoted empty field is NULL.
+     */
+    static void appendCopyRow(StringBuilder chunk, long accountId, LocalDateTime bookedAt, long transactionId,
+                              Transaction.TransactionType type, BigDecimal amount, String currency,
+                              String description) {
+        chunk.append(accountId)
+                .append(',').append(bookedAt.toLocalDate()).append(' ').append(bookedAt.toLocalTime())
+                .append(',').append(transactionId)
+                .append(',').append(type.name())
+                .append(',').append(amount.toPlainString())
+                .append(',').append(currency)
+                .append(",,,");
+        if (description != null) {
+            chunk.append('"').append(description.replace("\"", "\"\"")).append('"');
+        }
+        chunk.append('\n');
+    }
+
+    private static Object[] row(Transaction transaction, Account account, BigDecimal amount, Account counterparty) {
+        return new Object[]{
+                account.getId(),
+                transaction.getCreatedAt(),
+                transaction.getId(),
+                transaction.getType().name(),
+                amount,
+                transaction.getCurrency(),
+                counterparty == null ? null : counterparty.getAccountNumber(),
+                transaction.getCategory(),
+                transaction.getDescription()};
+    }
+
+    private static void validateFilter(TransactionHistoryFilterDTO filter) {
+        if (filter.category() != null && filter.category().strip().length() > Transaction.MAX_CATEGORY_LENGTH) {
+            throw new InvalidRequestException(ErrorMessages.INVALID_CATEGORY);
+        }
+        if (filter.minAmount() != null && filter.maxAmount() != null
+                && filter.minAmount().compareTo(filter.maxAmount()) > 0) {
+            throw new InvalidRequestException(ErrorMessages.INVALID_AMOUNT_RANGE);
+        }
+    }
+}
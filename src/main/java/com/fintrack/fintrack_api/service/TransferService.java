@@ -0,0 +1,148 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.dto.request.TransferRequestDTO;
+import com.fintrack.fintrack_api.dto.response.TransactionResponseDTO;
+import com.fintrack.fintrack_api.exception.AccountNotFoundException;
+import com.fintrack.fintrack_api.exception.InsufficientFundsException;
+import com.fintrack.fintrack_api.exception.InvalidRequestException;
+import com.fintrack.fintrack_api.exception.InvalidTransactionException;
+import com.fintrack.fintrack_api.exception.TransactionNotFoundException;
+import com.fintrack.fintrack_api.mapper.TransactionMapper;
+import com.fintrack.fintrack_api.model.Account;
+import com.fintrack.fintrack_api.model.Transaction;
+import com.fintrack.fintrack_api.repository.AccountRepository;
+import com.fintrack.fintrack_api.repository.TransactionRepository;
+import com.fintrack.fintrack_api.security.UserPrincipal;
+import com.fintrack.fintrack_api.util.AccountNumbers;
+import com.fintrack.fintrack_api.util.ErrorMessages;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+
+/**
+ * Moves money between two accounts by recording a {@link Transaction}, its ledger entry and its
+ * history rows in one database transaction.
+ * <p>
+ * The source account is locked for the no-negative rule: first its in-process lock stripe, then
+ * its row. The target row is only share-locked, which keeps it from being deactivated before the
+ * credit commits while other credits to it proceed, so transfers into a popular account still do
+ * not wait on each other. Rows are locked in account number order, so opposite transfers between
+ * the same accounts cannot deadlock.
+ */
+@Service
+public class TransferService {
+
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionMapper transactionMapper;
+    private final ActiveAccountsCache activeAccountsCache;
+    private final LedgerService ledgerService;
+    private final TransactionHistoryService transactionHistoryService;
+    private final AccountLockStripes accountLockStripes;
+    private final TransactionTemplate transactionTemplate;
+
+    public TransferService(AccountRepository accountRepository,
+                           TransactionRepository transactionRepository,
+                           TransactionMapper transactionMapper,
+                           ActiveAccountsCache activeAccountsCache,
+                           LedgerService ledgerService,
+                           TransactionHistoryService transactionHistoryService,
+                           AccountLockStripes accountLockStripes,
+                           PlatformTransactionManager transactionManager) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.transactionMapper = transactionMapper;
+        this.activeAccountsCache = activeAccountsCache;
+        this.ledgerService = ledgerService;
+        this.transactionHistoryService = transactionHistoryService;
+        this.accountLockStripes = accountLockStripes;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public TransactionResponseDTO transfer(TransferRequestDTO request, UserPrincipal currentUser) {
+        validateTransferRequest(request);
+
+        try (AccountLockStripes.Held ignored = accountLockStripes.lock(request.sourceAccountNumber())) {
+            return transactionTemplate.execute(status -> executeTransfer(request, currentUser));
+        }
+    }
+
+    public TransactionResponseDTO getTransactionById(Long id, UserPrincipal currentUser) {
+        if (id == null) {
+            throw new InvalidRequestException(ErrorMessages.NULL_ID);
+        }
+        return transactionRepository.findTransactionViewByIdAndUserId(id, currentUser.getId())
+                .orElseThrow(() -> new TransactionNotFoundException("Transaction with ID " + id + " not found"));
+    }
+
+    private TransactionResponseDTO executeTransfer(TransferRequestDTO request, UserPrincipal currentUser) {
+        Account source;
+        Account target;
+        if (request.sourceAccountNumber().compareTo(request.targetAccountNumber()) < 0) {
+            source = accountRepository.findByAccountNumberForUpdate(request.sourceAccountNumber()).orElse(null);
+            target = accountRepository.findByAccountNumberForShare(request.targetAccountNumber()).orElse(null);
+        } else {
+            target = accountRepository.findByAccountNumberForShare(request.targetAccountNumber()).orElse(null);
+            source = accountRepository.findByAccountNumberForUpdate(request.sourceAccountNumber()).orElse(null);
+        }
+
+        if (source == null || source.getStatus() != Account.AccountStatus.ACTIVE
+                || !source.getUser().getId().equals(currentUser.getId())) {
+            throw new AccountNotFoundException("Account with account number " + request.sourceAccountNumber() + " not found");
+        }
+        if (target == null || target.getStatus() != Account.AccountStatus.ACTIVE) {
+            throw new AccountNotFoundException("Account with account number " + request.targetAccountNumber() + " not found");
+        }
+        if (!source.getCurrency().equals(target.getCurrency())) {
+            throw new InvalidTransactionException(ErrorMessages.TRANSFER_CURRENCY_MISMATCH);
+        }
+
+        BigDecimal amount = request.amount();
+        if (!source.allowsNegativeBalance() && ledgerService.currentBalance(source).compareTo(amount) < 0) {
+            throw new InsufficientFundsException(ErrorMessages.INSUFFICIENT_FUNDS);
+        }
+
+        Transaction transaction = transactionRepository.save(Transaction.builder()
+                .type(Transaction.TransactionType.TRANSFER)
+                .sourceAccount(source)
+                .targetAccount(target)
+                .amount(amount)
+                .currency(source.getCurrency())
+                .description(request.description())
+                .category(StringUtils.hasText(request.category()) ? request.category().strip() : null)
+                .build());
+        ledgerService.recordTransfer(transaction);
+        transactionHistoryService.record(transaction);
+
+        activeAccountsCache.invalidateAfterCommit(source.getUser().getId());
+        activeAccountsCache.invalidateAfterCommit(target.getUser().getId());
+        return transactionMapper.toTransactionResponseDTO(transaction);
+    }
+
+    private void validateTransferRequest(TransferRequestDTO request) {
+        if (request == null) {
+            throw new InvalidRequestException(ErrorMessages.INVALID_REQUEST_BODY);
+        }
+        if (!AccountNumbers.isValid(request.sourceAccountNumber()) || !AccountNumbers.isValid(request.targetAccountNumber())) {
+            throw new InvalidRequestException(ErrorMessages.INVALID_ACCOUNT_NUMBER);
+        }
+        if (request.sourceAccountNumber().equals(request.targetAccountNumber())) {
+            throw new InvalidTransactionException(ErrorMessages.TRANSFER_SAME_ACCOUNT);
+        }
+        BigDecimal amount = request.amount();
+        if (amount == null || amount.signum() <= 0 || amount.stripTrailingZeros().scale() > 2) {
+            throw new InvalidTransactionException(ErrorMessages.INVALID_TRANSFER_AMOUNT);
+        }
+        if (request.description() != null && request.description().length() > MAX_DESCRIPTION_LENGTH) {
+            throw new InvalidRequestException(ErrorMessages.INVALID_TRANSFER_DESCRIPTION);
+        }
+        if (request.category() != null && request.category().strip().length() > Transaction.MAX_CATEGORY_LENGTH) {
+            throw new InvalidRequestException(ErrorMessages.INVALID_CATEGORY);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.configuration.UserSearchIndexes;
+import com.fintrack.fintrack_api.dto.response.AdminUserProfileResponseDTO;
+import com.fintrack.fintrack_api.dto.response.CursorPageResponseDTO;
+import com.fintrack.fintrack_api.exception.InvalidRequestException;
+import com.fintrack.fintrack_api.mapper.UserMapper;
+import com.fintrack.fintrack_api.repository.projection.UserAdminProfileRow;
+import com.fintrack.fintrack_api.util.ErrorMessages;
+import com.fintrack.fintrack_api.util.KeysetCursor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Admin search over users by partial email, first name, last name or phone number, newest first
+ * with keyset pagination.
+ * <p>
+ * Terms shorter than three characters match as prefixes, served by the {@code text_pattern_ops}
+ * indexes; longer terms match anywhere in the value, served by the trigram indexes. Fuzzy search
+ * additionally matches names by trigram similarity, which tolerates typos.
+ */
+@Service
+public class UserSearchService {
+
+    public static final int MAX_QUERY_LENGTH = 100;
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Trigram indexes need at least one full trigram in the pattern
+    private static final int MIN_CONTAINS_LENGTH = 3;
+
+    private static final String SELECT = """
+            SELECT id, email, first_name, last_name, phone_number, created_at, updated_at, enabled, role_mask
+            FROM users""";
+
+    private static final RowMapper<UserAdminProfileRow> ROW_MAPPER = (rs, rowNum) -> new UserAdminProfileRow(
+            rs.getLong(1),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getString(4),
+            rs.getString(5),
+            rs.getObject(6, LocalDateTime.class),
+            rs.getObject(7, LocalDateTime.class),
+            rs.getBoolean(8),
+            rs.getInt(9));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final UserMapper userMapper;
+    private final UserSearchIndexes userSearchIndexes;
+
+    public UserSearchService(DataSource dataSource,
+                             PlatformTransactionManager transactionManager,
+                             UserMapper userMapper,
+                             UserSearchIndexes userSearchIndexes) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.userMapper = userMapper;
+        this.userSearchIndexes = userSearchIndexes;
+    }
+
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public CursorPageResponseDTO<AdminUserProfileResponseDTO> searchUsers(String query,
+                                                                          String cursor,
+                                                                          int size,
+                                                                          boolean fuzzy) {
+        String term = query == null ? "" : query.strip().toLowerCase(Locale.ROOT);
+        if (term.isEmpty() || term.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidRequestException(ErrorMessages.INVALID_SEARCH_QUERY);
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            size = DEFAULT_PAGE_SIZE;
+        }
+        KeysetCursor after = StringUtils.hasText(cursor) ? KeysetCursor.decode(cursor) : null;
+
+        List<Object> parameters = new ArrayList<>(10);
+        String sql = buildQuery(term, after, size + 1, fuzzy && userSearchIndexes.isTrigramAvailable(), parameters);
+        List<UserAdminProfileRow> rows = readOnlyTransaction.execute(status ->
+                jdbcTemplate.query(sql, ROW_MAPPER, parameters.toArray()));
+
+        boolean hasNext = rows.size() > size;
+        List<UserAdminProfileRow> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            UserAdminProfileRow last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.createdAt(), last.id()).encode();
+        }
+
+        List<AdminUserProfileResponseDTO> content = page.stream()
+                .map(userMapper::toAdminUserProfileResponseDTO)
+                .toList();
+        return new CursorPageResponseDTO<>(content, size, nextCursor, hasNext, null);
+    }
+
+    static String buildQuery(String term, KeysetCursor after, int limit, boolean fuzzy, List<Object> parameters) {
+        String escaped = escapeLike(term);
+        String pattern = term.length() < MIN_CONTAINS_LENGTH ? escaped + "%" : "%" + escaped + "%";
+
+        StringBuilder sql = new StringBuilder(SELECT)
+                .append(" WHERE (lower(email) LIKE ? OR lower(first_name) LIKE ? OR lower(last_name) LIKE ?");
+        parameters.add(pattern);
+        parameters.add(pattern);
+        parameters.add(pattern);
+        if (isPhoneNumberFragment(term)) {
+            sql.append(" OR phone_number LIKE ?");
+            parameters.add(pattern);
+        }
+        if (fuzzy && term.length() >= MIN_CONTAINS_LENGTH) {
+            sql.append(" OR lower(first_name) % ? OR lower(last_name) % ?");
+            parameters.add(term);
+            parameters.add(term);
+        }
+        sql.append(')');
+
+        if (after != null) {
+            sql.append(" AND (created_at, id) < (?, ?)");
+            parameters.add(after.createdAt());
+            parameters.add(after.id());
+        }
+        sql.append(" ORDER BY created_at DESC, id DESC LIMIT ?");
+        parameters.add(limit);
+        return sql.toString();
+    }
+
+    private static boolean isPhoneNumberFragment(String term) {
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if ((c < '0' || c > '9') && !(c == '+' && i == 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Escapes {@code LIKE} wildcards with the default backslash escape character.
+     */
+    private static String escapeLike(String term) {
+        StringBuilder escaped = new StringBuilder(term.length() + 4);
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (c == '%' || c == '_' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -9,12 +9,18 @@ import com.fintrack.fintrack_api.exception.UserNotFoundException;
 import com.fintrack.fintrack_api.mapper.UserMapper;
 import com.fintrack.fintrack_api.model.Users;
 import com.fintrack.fintrack_api.repository.UserRepository;
+import com.fintrack.fintrack_api.repository.projection.UserAdminProfileRow;
+import com.fintrack.fintrack_api.security.TokenEpochRegistry;
+import com.fintrack.fintrack_api.security.UserDetailsCache;
 import com.fintrack.fintrack_api.util.ErrorMessages;
+import com.fintrack.fintrack_api.util.UserFields;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Locale;
 import java.util.Optional;
 
 @Service
@@ -24,12 +30,29 @@ public class UserService {
     private final BCryptPasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final UserMapper userMapper;
-
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final UserDetailsCache userDetailsCache;
+    private final UserUniquenessFilter userUniquenessFilter;
+
+    /**
+     * Inserts the user directly and lets the unique constraints on email and phone number reject
+     * duplicates, so the happy path is a single statement and concurrent signups cannot both win.
+     * The password is hashed before the insert, while no connection is held. Field formats are
+     * checked once, on the request DTO, and not again here.
+     */
     public Users registerUser(Users user) {
-        validateUser(user);
-        checkForExistingUser(user.getEmail(), user.getPhoneNumber());
+        requireUser(user);
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        Users savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw toUserAlreadyExists(e);
+        }
+        userUniquenessFilter.addEmail(user.getEmail());
+        userUniquenessFilter.addPhoneNumber(user.getPhoneNumber());
+        userDetailsCache.evict(user.getEmail());
+        return savedUser;
     }
 
     public Optional<Users> findByEmail(String email) {
@@ -37,13 +60,21 @@ public class UserService {
         return userRepository.findByEmail(email);
     }
 
-    public UserProfileResponseDTO getCurrentUserProfile(Users user) {
-        validateUser(user);
-        return userMapper.toUserProfileResponseDTO(user);
+    /**
+     * Reads only the profile columns, without loading the user entity.
+     */
+    public UserProfileResponseDTO getUserProfileByEmail(String email) {
+        validateEmail(email);
+        return userRepository.findProfileByEmail(email)
+                .orElseThrow(() -> new UserNotFoundException(ErrorMessages.USER_NOT_FOUND));
     }
 
+    /**
+     * Only the request is validated; the current user was loaded from the database and its
+     * stored fields are not checked again.
+     */
     public UserProfileResponseDTO updateCurrentUserProfile(Users user, UpdateProfileRequestDTO request) {
-        validateUser(user);
+        requireUser(user);
         if (request == null) {
             throw new InvalidRequestException(ErrorMessages.INVALID_REQUEST_BODY);
         }
@@ -56,7 +87,14 @@ public class UserService {
         user.setLastName(request.lastName());
         user.setPhoneNumber(request.phoneNumber());
 
-        user = userRepository.save(user);
+        try {
+            user = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // Another node may have taken the number after our filter was last rebuilt
+            throw toUserAlreadyExists(e);
+        }
+        userUniquenessFilter.addPhoneNumber(user.getPhoneNumber());
+        userDetailsCache.evict(user.getEmail());
         return userMapper.toUserProfileResponseDTO(user);
     }
 
@@ -65,9 +103,9 @@ public class UserService {
         if (id == null) {
             throw new InvalidRequestException(ErrorMessages.NULL_ID);
         }
-        Users user = userRepository.findById(id)
+        UserAdminProfileRow row = userRepository.findAdminProfileById(id)
                 .orElseThrow(() -> new UserNotFoundException(ErrorMessages.USER_NOT_FOUND));
-        return userMapper.toAdminUserProfileResponseDTO(user);
+        return userMapper.toAdminUserProfileResponseDTO(row);
     }
 
     @PreAuthorize("hasAuthority('ADMIN')")
@@ -78,49 +116,69 @@ public class UserService {
         Users user = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException(ErrorMessages.USER_NOT_FOUND));
         user.setEnabled(false);
+        revokeTokens(user);
+    }
+
+    /**
+     * Bumps the user's token epoch so every token issued before this call is rejected. Intended
+     * for deactivation and credential changes.
+     */
+    public void revokeTokens(Users user) {
+        user.setTokenEpoch(user.getTokenEpoch() + 1);
         userRepository.save(user);
+        tokenEpochRegistry.updateAfterCommit(user.getId(), user.getTokenEpoch());
+        userDetailsCache.evict(user.getEmail());
     }
 
-    private void validateUser(Users user) {
+    private void requireUser(Users user) {
         if (user == null) {
             throw new InvalidRequestException(ErrorMessages.NULL_USER);
         }
-        validateEmail(user.getEmail());
-        validatePassword(user.getPassword());
-        validateName(user.getFirstName(), ErrorMessages.FORBIDDEN_USER_FIRST_NAME_LENGTH);
-        validateName(user.getLastName(), ErrorMessages.FORBIDDEN_USER_LAST_NAME_LENGTH);
-        validatePhoneNumber(user.getPhoneNumber());
     }
 
     private void validateEmail(String email) {
-        if (email == null || !email.matches(".+@.+\\..+")) {
+        if (!UserFields.isValidEmail(email)) {
             throw new InvalidRequestException(ErrorMessages.INVALID_EMAIL_FORMAT);
         }
     }
 
-    private void validatePassword(String password) {
-        if (password == null || password.length() < 8 || password.length() > 128) {
-            throw new InvalidRequestException(ErrorMessages.FORBIDDEN_PASSWORD_LENGTH);
-        }
-    }
-
     private void validateName(String name, String errorMessage) {
-        if (name == null || name.length() < 2 || name.length() > 50) {
+        if (!UserFields.isValidName(name)) {
             throw new InvalidRequestException(errorMessage);
         }
     }
 
     private void validatePhoneNumber(String phoneNumber) {
-        if (phoneNumber == null || !phoneNumber.matches("^\\+[1-9]\\d{6,14}$")) {
+        if (!UserFields.isValidPhoneNumber(phoneNumber)) {
             throw new InvalidRequestException(ErrorMessages.INVALID_PHONE_NUMBER);
         }
     }
 
+    /**
+     * Maps a unique-constraint violation on insert to the duplicate field. Matches the key as
+     * reported by Postgres ({@code Key (email)=...}) and H2 ({@code USERS(EMAIL ...)}), since
+     * existing constraints carry generated names.
+     */
+    private static RuntimeException toUserAlreadyExists(DataIntegrityViolationException e) {
+        String detail = e.getMostSpecificCause().getMessage().toLowerCase(Locale.ROOT);
+        if (detail.contains("(email)") || detail.contains("users(email")) {
+            return new UserAlreadyExistsException(ErrorMessages.DUPLICATE_EMAIL);
+        }
+        if (detail.contains("(phone_number)") || detail.contains("users(phone_number")) {
+            return new UserAlreadyExistsException(ErrorMessages.DUPLICATE_PHONE_NUMBER);
+        }
+        return e;
+    }
+
+    /**
+     * Only values the uniqueness filter cannot rule out are checked against the database.
+     */
     private void checkForExistingUser(String email, String phoneNumber) {
-        if (userRepository.existsByEmail(email)) {
+        if (email != null && userUniquenessFilter.mightContainEmail(email) && userRepository.existsByEmail(email)) {
             throw new UserAlreadyExistsException(ErrorMessages.DUPLICATE_EMAIL);
         }
-        if (userRepository.existsByPhoneNumber(phoneNumber)) {
+        if (phoneNumber != null && userUniquenessFilter.mightContainPhoneNumber(phoneNumber)
+                && userRepository.existsByPhoneNumber(phoneNumber)) {
             throw new UserAlreadyExistsException(ErrorMessages.DUPLICATE_PHONE_NUMBER);
         }
     }
@@ -0,0 +1,146 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Bloom filters over every registered email and phone number. A negative answer means the value is
+ * certainly not taken and the uniqueness query can be skipped; a positive answer still has to be
+ * confirmed by the database.
+ * <p>
+ * Values registered on this node are added immediately. Values registered on other nodes only show
+ * up after the next rebuild, so callers must still treat a unique-constraint violation on write as
+ * a duplicate. Until the first build completes every check answers "maybe".
+ */
+@Component
+public class UserUniquenessFilter {
+
+    public static final String METRIC_PREFIX = "users.uniqueness-filter";
+
+    private static final Logger logger = LoggerFactory.getLogger(UserUniquenessFilter.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long minimumExpectedInsertions;
+    private final double falsePositiveRate;
+
+    private final Counter negativeChecks;
+    private final Counter positiveChecks;
+
+    private volatile Filters current;
+    private volatile Filters building;
+
+    public UserUniquenessFilter(DataSource dataSource,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.users.uniqueness-filter.expected-insertions}") long minimumExpectedInsertions,
+                                @Value("${app.users.uniqueness-filter.false-positive-rate}") double falsePositiveRate,
+                                @Value("${app.users.uniqueness-filter.fetch-size}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        // Read-write on purpose: the rebuild must see the primary, not a lagging replica
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.minimumExpectedInsertions = minimumExpectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+
+        this.negativeChecks = Counter.builder(METRIC_PREFIX + ".checks")
+                .tag("outcome", "negative")
+                .description("Uniqueness checks answered without a database query")
+                .register(meterRegistry);
+        this.positiveChecks = Counter.builder(METRIC_PREFIX + ".checks")
+                .tag("outcome", "maybe")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".footprint", this, filter -> filter.footprintBytes())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void initialize() {
+        rebuild();
+    }
+
+    /**
+     * Streams all emails and phone numbers into fresh filters sized for the current user count and
+     * swaps them in. Values added while the rebuild runs go to both the old and the new filters.
+     */
+    @Scheduled(fixedDelayString = "${app.users.uniqueness-filter.rebuild-interval-ms}",
+            initialDelayString = "${app.users.uniqueness-filter.rebuild-interval-ms}")
+    public void rebuild() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Long users = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+                long expectedInsertions = Math.max(minimumExpectedInsertions, 2 * (users == null ? 0 : users));
+                Filters next = new Filters(
+                        BloomFilter.create(expectedInsertions, falsePositiveRate),
+                        BloomFilter.create(expectedInsertions, falsePositiveRate));
+                building = next;
+                jdbcTemplate.query("SELECT email, phone_number FROM users", (RowCallbackHandler) rs -> {
+                    next.emails.put(rs.getString(1));
+                    next.phoneNumbers.put(rs.getString(2));
+                });
+                current = next;
+            });
+        } catch (RuntimeException e) {
+            logger.error("Failed to rebuild user uniqueness filters: {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    public boolean mightContainEmail(String email) {
+        Filters filters = current;
+        return record(filters == null || filters.emails.mightContain(email));
+    }
+
+    public boolean mightContainPhoneNumber(String phoneNumber) {
+        Filters filters = current;
+        return record(filters == null || filters.phoneNumbers.mightContain(phoneNumber));
+    }
+
+    public void addEmail(String email) {
+        add(email, true);
+    }
+
+    public void addPhoneNumber(String phoneNumber) {
+        add(phoneNumber, false);
+    }
+
+    public long footprintBytes() {
+        Filters filters = current;
+        return filters == null ? 0 : filters.emails.footprintBytes() + filters.phoneNumbers.footprintBytes();
+    }
+
+    private void add(String value, boolean email) {
+        if (value == null) {
+            return;
+        }
+        for (Filters filters : new Filters[]{current, building}) {
+            if (filters != null) {
+                (email ? filters.emails : filters.phoneNumbers).put(value);
+            }
+        }
+    }
+
+    private boolean record(boolean maybe) {
+        (maybe ? positiveChecks : negativeChecks).increment();
+        return maybe;
+    }
+
+    private record Filters(BloomFilter emails, BloomFilter phoneNumbers) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.fintrack.fintrack_api.util;
+
+import com.fintrack.fintrack_api.model.Account;
+
+/**
+ * Layout of FinTrack account numbers: institution code {@code FTS}, one type letter, the
+ * four-digit year, a six-digit yearly sequence and two MOD 97-10 check digits, e.g.
+ * {@code FTSC2025000001xx}.
+ */
+public final class AccountNumbers {
+
+    public static final String INSTITUTION_CODE = "FTS";
+    public static final int LENGTH = 16;
+
+    private static final int TYPE_INDEX = 3;
+    private static final int YEAR_INDEX = 4;
+    private static final int SEQUENCE_INDEX = 8;
+    private static final int CHECK_INDEX = 14;
+
+    private AccountNumbers() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static char typeCode(Account.AccountType type) {
+        return switch (type) {
+            case CHECKING -> 'C';
+            case SAVINGS -> 'S';
+            case CREDIT_CARD -> 'D';
+        };
+    }
+
+    public static String format(Account.AccountType type, int year, long sequence) {
+        char[] chars = new char[LENGTH];
+        INSTITUTION_CODE.getChars(0, INSTITUTION_CODE.length(), chars, 0);
+        chars[TYPE_INDEX] = typeCode(type);
+        writeDigits(chars, YEAR_INDEX, SEQUENCE_INDEX, year);
+        writeDigits(chars, SEQUENCE_INDEX, CHECK_INDEX, sequence);
+        writeDigits(chars, CHECK_INDEX, LENGTH, Mod97.checkDigits(chars, 0, CHECK_INDEX));
+        return new String(chars);
+    }
+
+    /**
+     * Cheap structural and checksum validation, meant to run before any lookup by account number.
+     */
+    public static boolean isValid(String accountNumber) {
+        if (accountNumber == null || accountNumber.length() != LENGTH || !accountNumber.startsWith(INSTITUTION_CODE)) {
+            return false;
+        }
+        char type = accountNumber.charAt(TYPE_INDEX);
+        if (type != 'C' && type != 'S' && type != 'D') {
+            return false;
+        }
+        for (int i = YEAR_INDEX; i < LENGTH; i++) {
+            char c = accountNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return Mod97.isValid(accountNumber);
+    }
+
+    private static void writeDigits(char[] chars, int from, int to, long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative value in account number: " + value);
+        }
+        for (int i = to - 1; i >= from; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        if (value != 0) {
+            throw new IllegalArgumentException("Value does not fit into " + (to - from) + " account number digits");
+        }
+    }
+}
@@ -13,6 +13,30 @@ public class ErrorMessages {
     public static final String INVALID_PHONE_NUMBER = "Phone number should be valid";
     public static final String INVALID_REQUEST_BODY = "Request body should be valid";
     public static final String NULL_ID = "ID should not be null";
+    public static final String NULL_ACCOUNT_TYPE = "Account type should not be null";
+    public static final String INVALID_ACCOUNT_NUMBER = "Account number should be valid";
+    public static final String NULL_ACCOUNT_VERSION = "Account version should not be null";
+    public static final String STALE_ACCOUNT_VERSION = "Account was changed by another request, reload it and try again";
+    public static final String UNKNOWN_FILTER_EMAIL = "No user exists with the filtered email";
+    public static final String INVALID_CURSOR = "Pagination cursor should be valid";
+    public static final String INVALID_SEARCH_QUERY = "Search query must be between 1 and 100 characters";
+    public static final String INVALID_TRANSFER_AMOUNT = "Transfer amount must be positive with at most 2 decimal places";
+    public static final String INVALID_TRANSFER_DESCRIPTION = "Description must be at most 255 characters";
+    public static final String TRANSFER_SAME_ACCOUNT = "Source and target accounts must differ";
+    public static final String TRANSFER_CURRENCY_MISMATCH = "Source and target accounts must use the same currency";
+    public static final String INSUFFICIENT_FUNDS = "Insufficient funds in source account";
+    public static final String INVALID_CARD_TRANSACTION_AMOUNT = "Card transaction amount must be non-zero with at most 2 decimal places";
+    public static final String INVALID_CURRENCY = "Currency code must be 3 uppercase letters";
+    public static final String INGESTION_UNAVAILABLE = "Ingestion is temporarily unavailable, please try again later";
+    public static final String INVALID_STATEMENT_AMOUNT = "Statement amount must be non-zero with at most 2 decimal places";
+    public static final String INVALID_STATEMENT_DATE = "Statement date must not be in the future";
+    public static final String STATEMENT_IMPORT_IN_PROGRESS = "Another statement import is running for this account";
+    public static final String UNREADABLE_STATEMENT = "Statement file could not be read";
+    public static final String NO_STATEMENT_IMPORT = "No statement import has run for this account recently";
+    public static final String INVALID_CATEGORY = "Category must be at most 50 characters";
+    public static final String INVALID_HISTORY_RANGE = "History date range should be valid";
+    public static final String INVALID_AMOUNT_RANGE = "Minimum amount must not exceed maximum amount";
+    public static final String LOGIN_CAPACITY_EXCEEDED = "Too many concurrent login attempts, please try again later";
 
     private ErrorMessages() {
         throw new UnsupportedOperationException("This is a constants class and cannot be instantiated");
@@ -0,0 +1,46 @@
+package com.fintrack.fintrack_api.util;
+
+import com.fintrack.fintrack_api.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a page ordered by {@code (created_at DESC, id DESC)}, or by another
+ * timestamp such as {@code booked_at}. Clients get it as an opaque URL-safe token and send it back
+ * unchanged to fetch the next page.
+ */
+public record KeysetCursor(LocalDateTime createdAt, long id) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode() {
+        return ENCODER.encodeToString((toEpochMicros(createdAt) + ":" + id).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String value = new String(DECODER.decode(token), StandardCharsets.US_ASCII);
+            int separator = value.indexOf(':');
+            long micros = Long.parseLong(value, 0, separator, 10);
+            long id = Long.parseLong(value, separator + 1, value.length(), 10);
+            return new KeysetCursor(fromEpochMicros(micros), id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestException(ErrorMessages.INVALID_CURSOR);
+        }
+    }
+
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000,
+                ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,311 @@
+package com.fintrack.fintrack_api.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of opaque records, written through memory-mapped segment files of a fixed
+ * size. Each record is its payload length, a CRC32C of the payload and the payload itself. A
+ * record that does not fit the rest of the current segment starts the next one.
+ * <p>
+ * Appended records survive a crash of the process as soon as {@link #append} returns, since they
+ * are in the page cache. With {@code forceOnAppend} they are also flushed to the device before
+ * it returns, so they survive a crash of the machine. On {@link #open} the last segment is
+ * scanned and a torn or unchecksummed tail is cut off.
+ * <p>
+ * Appends may come from any thread. Reads are meant for a single consumer that tracks its own
+ * {@link Position} and calls {@link #release} once records are no longer needed.
+ */
+public class MappedJournal implements Closeable {
+
+    private static final int HEADER_BYTES = 8;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String ID_FILE = "journal.id";
+
+    public record Position(long segment, int offset) implements Comparable<Position> {
+
+        @Override
+        public int compareTo(Position other) {
+            int bySegment = Long.compare(segment, other.segment);
+            return bySegment != 0 ? bySegment : Integer.compare(offset, other.offset);
+        }
+    }
+
+    /**
+     * Records read in order, and the position right after the last of them.
+     */
+    public record Batch(List<byte[]> records, Position next) {
+    }
+
+    private record Head(Position position, MappedByteBuffer buffer) {
+    }
+
+    private final Path directory;
+    private final String id;
+    private final int segmentSize;
+    private final boolean forceOnAppend;
+    private final CRC32C appendChecksum = new CRC32C();
+
+    private MappedByteBuffer active;
+    private long activeSegment;
+    private int activeOffset;
+    private boolean closed;
+
+    private volatile Head head;
+
+    private final Object readLock = new Object();
+    private final CRC32C readChecksum = new CRC32C();
+    private long readSegment = -1;
+    private ByteBuffer readBuffer;
+
+    private MappedJournal(Path directory, String id, int segmentSize, boolean forceOnAppend) {
+        this.directory = directory;
+        this.id = id;
+        this.segmentSize = segmentSize;
+        this.forceOnAppend = forceOnAppend;
+    }
+
+    /**
+     * Opens the journal in {@code directory}, creating it if needed, and recovers the end of the
+     * last segment.
+     */
+    public static MappedJournal open(Path directory, int segmentSize, boolean forceOnAppend) throws IOException {
+        if (segmentSize <= HEADER_BYTES) {
+            throw new IllegalArgumentException("Segment size must exceed " + HEADER_BYTES + " bytes: " + segmentSize);
+        }
+        Files.createDirectories(directory);
+        Path idFile = directory.resolve(ID_FILE);
+        if (!Files.exists(idFile)) {
+            Path temporary = Files.writeString(directory.resolve(ID_FILE + ".tmp"), UUID.randomUUID().toString(),
+                    StandardCharsets.US_ASCII);
+            Files.move(temporary, idFile, StandardCopyOption.ATOMIC_MOVE);
+        }
+        MappedJournal journal = new MappedJournal(directory, Files.readString(idFile, StandardCharsets.US_ASCII).trim(),
+                segmentSize, forceOnAppend);
+        journal.recover();
+        return journal;
+    }
+
+    /**
+     * Identity of this journal directory, stable across restarts, for consumers that keep their
+     * read position elsewhere.
+     */
+    public String id() {
+        return id;
+    }
+
+    /**
+     * The oldest position still held by the journal.
+     */
+    public Position tail() throws IOException {
+        List<Long> segments = segments();
+        return new Position(segments.isEmpty() ? activeSegment : segments.get(0), 0);
+    }
+
+    /**
+     * The position right after the last appended record.
+     */
+    public Position head() {
+        return head.position();
+    }
+
+    public void append(byte[] payload) throws IOException {
+        append(List.of(payload));
+    }
+
+    /**
+     * Appends the records in order and, with {@code forceOnAppend}, flushes them with one force per
+     * touched segment. Either all records are appended or, if one is too large, none is.
+     */
+    public synchronized void append(List<byte[]> payloads) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed");
+        }
+        for (byte[] payload : payloads) {
+            if (payload.length == 0 || payload.length > segmentSize - HEADER_BYTES) {
+                throw new IllegalArgumentException("Record of " + payload.length + " bytes does not fit a segment");
+            }
+        }
+
+        int forceFrom = activeOffset;
+        for (byte[] payload : payloads) {
+            if (activeOffset + HEADER_BYTES + payload.length > active.capacity()) {
+                force(forceFrom);
+                roll();
+                forceFrom = 0;
+            }
+            appendChecksum.reset();
+            appendChecksum.update(payload);
+            active.putInt(activeOffset + 4, (int) appendChecksum.getValue());
+            active.put(activeOffset + HEADER_BYTES, payload);
+            // Written last, so a reader never sees a length ahead of its payload
+            active.putInt(activeOffset, payload.length);
+            activeOffset += HEADER_BYTES + payload.length;
+        }
+        force(forceFrom);
+        head = new Head(new Position(activeSegment, activeOffset), active);
+    }
+
+    /**
+     * Reads up to {@code maxRecords} records starting at {@code from}, never past {@link #head()}.
+     */
+    public Batch read(Position from, int maxRecords) throws IOException {
+        synchronized (readLock) {
+            Head current = head;
+            List<byte[]> records = new ArrayList<>(Math.min(maxRecords, 1024));
+            Position position = from;
+            while (records.size() < maxRecords && position.compareTo(current.position()) < 0) {
+                if (position.segment() == current.position().segment()) {
+                    byte[] record = readRecord(current.buffer(), position.offset());
+                    if (record == null) {
+                        throw new IllegalStateException("Corrupt journal record at " + position);
+                    }
+                    records.add(record);
+                    position = new Position(position.segment(), position.offset() + HEADER_BYTES + record.length);
+                    continue;
+                }
+
+                ByteBuffer buffer = closedSegment(position.segment());
+                byte[] record = buffer == null ? null : readRecord(buffer, position.offset());
+                if (record == null) {
+                    // Past the last record of a finished or already released segment
+                    position = new Position(position.segment() + 1, 0);
+                } else {
+                    records.add(record);
+                    position = new Position(position.segment(), position.offset() + HEADER_BYTES + record.length);
+                }
+            }
+            return new Batch(records, position);
+        }
+    }
+
+    /**
+     * Deletes the segments that lie entirely before {@code position}.
+     */
+    public void release(Position position) throws IOException {
+        synchronized (readLock) {
+            for (long segment : segments()) {
+                if (segment >= position.segment() || segment >= head.position().segment()) {
+                    break;
+                }
+                Files.deleteIfExists(segmentPath(segment));
+                if (segment == readSegment) {
+                    readSegment = -1;
+                    readBuffer = null;
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            active.force();
+        }
+    }
+
+    private void recover() throws IOException {
+        List<Long> segments = segments();
+        if (segments.isEmpty()) {
+            activeSegment = 0;
+            active = map(activeSegment);
+            activeOffset = 0;
+        } else {
+            activeSegment = segments.get(segments.size() - 1);
+            active = map(activeSegment);
+            activeOffset = 0;
+            byte[] record;
+            while ((record = readRecord(active, activeOffset)) != null) {
+                activeOffset += HEADER_BYTES + record.length;
+            }
+            // Clear whatever a crash left behind, so the next append starts on zeroed bytes
+            for (int offset = activeOffset; offset < active.capacity(); offset++) {
+                active.put(offset, (byte) 0);
+            }
+            active.force();
+        }
+        head = new Head(new Position(activeSegment, activeOffset), active);
+    }
+
+    private void roll() throws IOException {
+        activeSegment++;
+        active = map(activeSegment);
+        activeOffset = 0;
+    }
+
+    private void force(int from) {
+        if (forceOnAppend && activeOffset > from) {
+            active.force(from, activeOffset - from);
+        }
+    }
+
+    private MappedByteBuffer map(long segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // An existing segment keeps its size, so segments written under another setting still read
+            long size = channel.size() > 0 ? channel.size() : segmentSize;
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private ByteBuffer closedSegment(long segment) throws IOException {
+        if (segment != readSegment) {
+            Path path = segmentPath(segment);
+            if (!Files.exists(path)) {
+                return null;
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                readBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            readSegment = segment;
+        }
+        return readBuffer;
+    }
+
+    /**
+     * Returns the record at {@code offset}, or {@code null} if there is no intact record there.
+     * Only called under the read lock, or from {@link #recover} before the journal is shared.
+     */
+    private byte[] readRecord(ByteBuffer buffer, int offset) {
+        if (offset + HEADER_BYTES > buffer.capacity()) {
+            return null;
+        }
+        int length = buffer.getInt(offset);
+        if (length <= 0 || length > buffer.capacity() - offset - HEADER_BYTES) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        buffer.get(offset + HEADER_BYTES, payload);
+        readChecksum.reset();
+        readChecksum.update(payload);
+        return (int) readChecksum.getValue() == buffer.getInt(offset + 4) ? payload : null;
+    }
+
+    private List<Long> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%020d%s", segment, SEGMENT_SUFFIX));
+    }
+}
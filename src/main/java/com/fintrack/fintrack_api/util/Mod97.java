@@ -0,0 +1,74 @@
+package com.fintrack.fintrack_api.util;
+
+/**
+ * ISO 7064 MOD 97-10 check digit engine, as used by IBAN. Letters count as two digits
+ * ({@code A}/{@code a} = 10 ... {@code Z}/{@code z} = 35). The remainder is accumulated char by
+ * char, so no intermediate strings or big integers are allocated.
+ */
+public final class Mod97 {
+
+    public static final int INVALID = -1;
+
+    private Mod97() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * @return the remainder of {@code value[from, to)} modulo 97, or {@link #INVALID} if it contains
+     * anything other than ASCII letters and digits
+     */
+    public static int remainder(CharSequence value, int from, int to) {
+        int remainder = 0;
+        for (int i = from; i < to && remainder != INVALID; i++) {
+            remainder = step(remainder, value.charAt(i));
+        }
+        return remainder;
+    }
+
+    public static int remainder(char[] value, int from, int to) {
+        int remainder = 0;
+        for (int i = from; i < to && remainder != INVALID; i++) {
+            remainder = step(remainder, value[i]);
+        }
+        return remainder;
+    }
+
+    /**
+     * @return the two check digits (2..98) to append to {@code base[from, to)}, or {@link #INVALID}
+     */
+    public static int checkDigits(CharSequence base, int from, int to) {
+        return checkDigitsFor(remainder(base, from, to));
+    }
+
+    public static int checkDigits(char[] base, int from, int to) {
+        return checkDigitsFor(remainder(base, from, to));
+    }
+
+    /**
+     * @return whether {@code value}, check digits included, satisfies the MOD 97-10 check
+     */
+    public static boolean isValid(CharSequence value) {
+        return remainder(value, 0, value.length()) == 1;
+    }
+
+    private static int checkDigitsFor(int remainder) {
+        if (remainder == INVALID) {
+            return INVALID;
+        }
+        // Appending "00" multiplies the remainder by 100
+        return 98 - (remainder * 100) % 97;
+    }
+
+    private static int step(int remainder, char c) {
+        if (c >= '0' && c <= '9') {
+            return (remainder * 10 + (c - '0')) % 97;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return (remainder * 100 + (c - 'A' + 10)) % 97;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return (remainder * 100 + (c - 'a' + 10)) % 97;
+        }
+        return INVALID;
+    }
+}
@@ -0,0 +1,85 @@
+package com.fintrack.fintrack_api.util;
+
+/**
+ * Validation rules for user fields, shared by {@code UserService} and the Jakarta constraints in
+ * {@code com.fintrack.fintrack_api.validation}. Emails and phone numbers are checked with single-pass
+ * scanners instead of regular expressions, so validation allocates nothing.
+ */
+public final class UserFields {
+
+    public static final int MIN_NAME_LENGTH = 2;
+    public static final int MAX_NAME_LENGTH = 50;
+    public static final int MIN_PASSWORD_LENGTH = 8;
+    public static final int MAX_PASSWORD_LENGTH = 128;
+    public static final int MAX_EMAIL_LENGTH = 254;
+
+    // E.164: '+', a non-zero country code digit and 6 to 14 further digits
+    private static final int MIN_PHONE_NUMBER_LENGTH = 8;
+    private static final int MAX_PHONE_NUMBER_LENGTH = 16;
+
+    private UserFields() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Accepts {@code local@domain.tld}: one {@code @} with a non-empty local part, and a domain
+     * containing a dot that is neither its first nor its last character. Whitespace and control
+     * characters are rejected anywhere.
+     */
+    public static boolean isValidEmail(CharSequence email) {
+        if (email == null) {
+            return false;
+        }
+        int length = email.length();
+        if (length < 5 || length > MAX_EMAIL_LENGTH) {
+            return false;
+        }
+        int at = -1;
+        int lastDot = -1;
+        for (int i = 0; i < length; i++) {
+            char c = email.charAt(i);
+            if (c <= ' ' || c == '\u007f' || Character.isWhitespace(c)) {
+                return false;
+            }
+            if (c == '@') {
+                if (at >= 0) {
+                    return false;
+                }
+                at = i;
+            } else if (c == '.' && at >= 0) {
+                lastDot = i;
+            }
+        }
+        return at > 0 && lastDot > at + 1 && lastDot < length - 1;
+    }
+
+    /**
+     * Accepts E.164 numbers, equivalent to {@code ^\+[1-9]\d{6,14}$}.
+     */
+    public static boolean isValidPhoneNumber(CharSequence phoneNumber) {
+        if (phoneNumber == null) {
+            return false;
+        }
+        int length = phoneNumber.length();
+        if (length < MIN_PHONE_NUMBER_LENGTH || length > MAX_PHONE_NUMBER_LENGTH
+                || phoneNumber.charAt(0) != '+' || phoneNumber.charAt(1) == '0') {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            char c = phoneNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isValidName(String name) {
+        return name != null && name.length() >= MIN_NAME_LENGTH && name.length() <= MAX_NAME_LENGTH;
+    }
+
+    public static boolean isValidPassword(String password) {
+        return password != null && password.length() >= MIN_PASSWORD_LENGTH
+                && password.length() <= MAX_PASSWORD_LENGTH;
+    }
+}
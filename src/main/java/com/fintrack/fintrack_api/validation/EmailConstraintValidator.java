@@ -0,0 +1,13 @@
+package com.fintrack.fintrack_api.validation;
+
+import com.fintrack.fintrack_api.util.UserFields;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class EmailConstraintValidator implements ConstraintValidator<ValidEmail, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || UserFields.isValidEmail(value);
+    }
+}
@@ -0,0 +1,28 @@
+package com.fintrack.fintrack_api.validation;
+
+import com.fintrack.fintrack_api.util.ErrorMessages;
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated phone number must pass {@link com.fintrack.fintrack_api.util.UserFields#isValidPhoneNumber}.
+ * {@code null} is valid; combine with {@code @NotBlank} where the field is required.
+ */
+@Documented
+@Constraint(validatedBy = PhoneNumberConstraintValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidPhoneNumber {
+
+    String message() default ErrorMessages.INVALID_PHONE_NUMBER;
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
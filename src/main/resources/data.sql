@@ -0,0 +1,17 @@
+-- Idempotent schema patches applied after Hibernate's schema update (dev profile).
+-- Production applies the same statements as part of its release.
+
+-- accounts.id moved from IDENTITY to the pooled accounts_seq (increment 50). Make sure the
+-- sequence starts above every existing id without ever moving it backwards.
+SELECT setval('accounts_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM accounts), (SELECT last_value FROM accounts_seq)));
+
+-- ledger_postings.folded was replaced by fold checkpoints on accounts and postings, so postings are
+-- never updated. Folded postings keep checkpoint 0, which every account's checkpoint already covers;
+-- unfolded ones become pending at checkpoint 1. Does nothing once the old column is gone.
+DO 'BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = ''ledger_postings'' AND column_name = ''folded'') THEN
+        UPDATE ledger_postings SET fold_checkpoint = 1 WHERE NOT folded AND account_id IS NOT NULL;
+        ALTER TABLE ledger_postings DROP COLUMN folded;
+    END IF;
+END';
@@ -0,0 +1,79 @@
+package com.fintrack.fintrack_api.benchmark;
+
+import com.fintrack.fintrack_api.dto.request.CreateAccountRequestDTO;
+import com.fintrack.fintrack_api.dto.response.AccountResponseDTO;
+import com.fintrack.fintrack_api.dto.response.BulkAccountResultDTO;
+import com.fintrack.fintrack_api.model.Account;
+import com.fintrack.fintrack_api.security.UserPrincipal;
+import com.fintrack.fintrack_api.service.AccountService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares creating {@code accounts} accounts with one bulk request against the same number of
+ * single-account requests, on a real Postgres database (see {@link BenchmarkApplication}). Both
+ * go through {@link AccountService}, so each includes number allocation, the opening balance
+ * ledger entry and the cache invalidation. The bulk path reserves one number range and sends its
+ * inserts as JDBC batches, and is expected to be at least ten times faster per account.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class AccountCreationBenchmark {
+
+    @Param({"100", "1000"})
+    public int accounts;
+
+    private ConfigurableApplicationContext context;
+    private AccountService accountService;
+    private UserPrincipal owner;
+    private List<CreateAccountRequestDTO> requests;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("account_creation_benchmark");
+        accountService = context.getBean(AccountService.class);
+        owner = BenchmarkApplication.owner(context, "accounts@bench.example.com");
+
+        Account.AccountType[] types = Account.AccountType.values();
+        requests = new ArrayList<>(accounts);
+        for (int i = 0; i < accounts; i++) {
+            requests.add(new CreateAccountRequestDTO("Benchmark " + i, types[i % types.length], "USD"));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BulkAccountResultDTO> bulk() {
+        return accountService.createAccounts(requests, owner);
+    }
+
+    @Benchmark
+    public void single(Blackhole blackhole) {
+        for (CreateAccountRequestDTO request : requests) {
+            AccountResponseDTO account = accountService.createAccount(request, owner);
+            blackhole.consume(account);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AccountCreationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,63 @@
+package com.fintrack.fintrack_api.benchmark;
+
+import com.fintrack.fintrack_api.FinTrackApiApplication;
+import com.fintrack.fintrack_api.model.Users;
+import com.fintrack.fintrack_api.model.enums.Role;
+import com.fintrack.fintrack_api.repository.UserRepository;
+import com.fintrack.fintrack_api.security.UserPrincipal;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.EnumSet;
+
+/**
+ * Starts the application without its web server against the database given by
+ * {@code -Dbenchmark.jdbc.url}, {@code .user} and {@code .password}, for benchmarks that go
+ * through JPA and need the real repositories, transactions and batching settings. Hibernate
+ * creates the tables in the benchmark's own schema, so the database must be a disposable one.
+ * Add {@code reWriteBatchedInserts=true} to the URL, as in production.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String schema) {
+        String url = System.getProperty("benchmark.jdbc.url");
+        if (url == null) {
+            throw new IllegalStateException("Set -Dbenchmark.jdbc.url to a disposable Postgres database");
+        }
+        // Command line arguments take precedence over application.yml and its dev profile
+        return new SpringApplicationBuilder(FinTrackApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + url,
+                        "--spring.datasource.username=" + System.getProperty("benchmark.jdbc.user", "postgres"),
+                        "--spring.datasource.password=" + System.getProperty("benchmark.jdbc.password", ""),
+                        "--spring.datasource.hikari.connection-init-sql=CREATE SCHEMA IF NOT EXISTS " + schema
+                                + "; SET search_path TO " + schema,
+                        "--spring.jpa.properties.hibernate.default_schema=" + schema,
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.sql.init.mode=never",
+                        "--logging.level.root=WARN");
+    }
+
+    /**
+     * Returns the principal of a user created on first use, which owns everything the benchmark
+     * writes.
+     */
+    static UserPrincipal owner(ConfigurableApplicationContext context, String email) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        Users user = userRepository.findByEmail(email).orElseGet(() -> userRepository.save(Users.builder()
+                .email(email)
+                .password("not-a-password-hash")
+                .firstName("Benchmark")
+                .lastName("Owner")
+                .phoneNumber("+1555" + String.format("%07d", Math.floorMod(email.hashCode(), 10_000_000)))
+                .roles(EnumSet.of(Role.USER))
+                .enabled(true)
+                .build()));
+        return new UserPrincipal(user);
+    }
+}
@@ -0,0 +1,89 @@
+package com.fintrack.fintrack_api.benchmark;
+
+import com.fintrack.fintrack_api.util.MappedJournal;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Throughput of appending card feed sized records to a {@link MappedJournal} on local disk, one
+ * record per call and in requests of 100, with and without forcing each append to the device.
+ * The journal lives under {@code -Dbenchmark.journal.dir} (default: the temp directory); fully
+ * written segments are deleted after every iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournalAppendBenchmark {
+
+    private static final int RECORD_BYTES = 96;
+    private static final int REQUEST_SIZE = 100;
+
+    @Param({"false", "true"})
+    public boolean forceOnAppend;
+
+    private Path directory;
+    private MappedJournal journal;
+    private byte[] record;
+    private List<byte[]> request;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path parent = Path.of(System.getProperty("benchmark.journal.dir", System.getProperty("java.io.tmpdir")));
+        directory = Files.createTempDirectory(parent, "journal-benchmark");
+        journal = MappedJournal.open(directory, 64 * 1024 * 1024, forceOnAppend);
+        record = new byte[RECORD_BYTES];
+        for (int i = 0; i < RECORD_BYTES; i++) {
+            record[i] = (byte) ('a' + i % 26);
+        }
+        request = new ArrayList<>(REQUEST_SIZE);
+        for (int i = 0; i < REQUEST_SIZE; i++) {
+            request.add(record);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void releaseWrittenSegments() throws IOException {
+        journal.release(journal.head());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void appendOne() throws IOException {
+        journal.append(record);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUEST_SIZE)
+    public void appendRequestOf100() throws IOException {
+        journal.append(request);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JournalAppendBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
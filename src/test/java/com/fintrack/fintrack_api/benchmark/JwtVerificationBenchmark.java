@@ -0,0 +1,103 @@
+package com.fintrack.fintrack_api.benchmark;
+
+import com.fintrack.fintrack_api.security.VerifiedToken;
+import com.fintrack.fintrack_api.security.VerifiedTokenCache;
+import com.fintrack.fintrack_api.service.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former double-parse JWT verification against the single-parse pipeline, with and
+ * without the verified-token cache.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.fintrack.fintrack_api.benchmark.JwtVerificationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final long EXPIRATION_MS = 86_400_000L;
+
+    private String secret;
+    private String token;
+    private JwtService uncachedService;
+    private JwtService cachedService;
+
+    @Setup
+    public void setUp() {
+        secret = Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded());
+        token = Jwts.builder()
+                .subject("user@testexample.com")
+                .claim(VerifiedToken.ROLES_CLAIM, List.of("USER"))
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + EXPIRATION_MS))
+                .signWith(legacyKey())
+                .compact();
+
+        uncachedService = jwtService(0);
+        cachedService = jwtService(10_000);
+    }
+
+    @Benchmark
+    public boolean legacyDoubleParse() {
+        String username = legacyParse(token).getSubject();
+        return legacyParse(token).getSubject().equals(username);
+    }
+
+    @Benchmark
+    public VerifiedToken singleParse() {
+        return uncachedService.verifyJwtToken(token);
+    }
+
+    @Benchmark
+    public VerifiedToken cachedVerification() {
+        return cachedService.verifyJwtToken(token);
+    }
+
+    private Claims legacyParse(String jwt) {
+        return Jwts.parser()
+                .verifyWith(legacyKey())
+                .build()
+                .parseSignedClaims(jwt)
+                .getPayload();
+    }
+
+    private SecretKey legacyKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    }
+
+    private JwtService jwtService(long cacheSize) {
+        // Token epochs are only consulted by validateJwtToken, which is not part of this comparison
+        JwtService service = new JwtService(
+                new VerifiedTokenCache(cacheSize, EXPIRATION_MS, new SimpleMeterRegistry()), null);
+        ReflectionTestUtils.setField(service, "jwtSecret", secret);
+        ReflectionTestUtils.setField(service, "jwtExpirationMs", (int) EXPIRATION_MS);
+        ReflectionTestUtils.invokeMethod(service, "initKey");
+        return service;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
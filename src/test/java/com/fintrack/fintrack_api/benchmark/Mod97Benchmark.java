@@ -0,0 +1,77 @@
+package com.fintrack.fintrack_api.benchmark;
+
+import com.fintrack.fintrack_api.model.Account;
+import com.fintrack.fintrack_api.util.AccountNumbers;
+import com.fintrack.fintrack_api.util.Mod97;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former BigInteger based check digit calculation with the incremental
+ * {@link Mod97} engine, for generation and for validation of a full account number.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Mod97Benchmark {
+
+    private String base;
+    private String accountNumber;
+
+    @Setup
+    public void setUp() {
+        accountNumber = AccountNumbers.format(Account.AccountType.SAVINGS, 2025, 1558);
+        base = accountNumber.substring(0, 14);
+    }
+
+    @Benchmark
+    public String legacyBigIntegerCheckDigits() {
+        StringBuilder numericBase = new StringBuilder();
+        for (char c : base.toCharArray()) {
+            if (Character.isLetter(c)) {
+                numericBase.append(10 + Character.toUpperCase(c) - 'A');
+            } else {
+                numericBase.append(c);
+            }
+        }
+        numericBase.append("00");
+
+        BigInteger bigInt = new BigInteger(numericBase.toString());
+        int checksum = 98 - bigInt.mod(BigInteger.valueOf(97)).intValue();
+        return String.format("%02d", checksum);
+    }
+
+    @Benchmark
+    public int mod97CheckDigits() {
+        return Mod97.checkDigits(base, 0, base.length());
+    }
+
+    @Benchmark
+    public String legacyGenerate() {
+        return base.substring(0, 8) + String.format("%06d", 1558L) + legacyBigIntegerCheckDigits();
+    }
+
+    @Benchmark
+    public String mod97Generate() {
+        return AccountNumbers.format(Account.AccountType.SAVINGS, 2025, 1558);
+    }
+
+    @Benchmark
+    public boolean mod97Validate() {
+        return AccountNumbers.isValid(accountNumber);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(Mod97Benchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,131 @@
+package com.fintrack.fintrack_api.benchmark;
+
+import com.fintrack.fintrack_api.dto.request.CreateAccountRequestDTO;
+import com.fintrack.fintrack_api.dto.response.AccountResponseDTO;
+import com.fintrack.fintrack_api.dto.response.AdminUserProfileResponseDTO;
+import com.fintrack.fintrack_api.mapper.AccountMapper;
+import com.fintrack.fintrack_api.mapper.UserMapper;
+import com.fintrack.fintrack_api.model.Account;
+import com.fintrack.fintrack_api.repository.AccountRepository;
+import com.fintrack.fintrack_api.repository.UserRepository;
+import com.fintrack.fintrack_api.security.UserPrincipal;
+import com.fintrack.fintrack_api.service.AccountService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the account and admin profile reads before and after they moved to DTO projections,
+ * on a real Postgres database (see {@link BenchmarkApplication}). The {@code entity} methods
+ * replay the old paths: a read-write transaction loads managed entities, Hibernate snapshots
+ * them for dirty checking and flushes on commit, and the mappers copy them into DTOs. The
+ * {@code projection} methods call the read-only repository queries the services use now, bypassing
+ * the active accounts cache. {@link #main} adds the GC profiler, whose {@code gc.alloc.rate.norm}
+ * is the allocation per read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class ProjectionReadBenchmark {
+
+    @Param({"5", "50"})
+    public int accounts;
+
+    private ConfigurableApplicationContext context;
+    private AccountRepository accountRepository;
+    private UserRepository userRepository;
+    private AccountMapper accountMapper;
+    private UserMapper userMapper;
+    private EntityManager entityManager;
+    private TransactionTemplate transaction;
+    private Long userId;
+    private Long accountId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("projection_read_benchmark");
+        accountRepository = context.getBean(AccountRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        accountMapper = context.getBean(AccountMapper.class);
+        userMapper = context.getBean(UserMapper.class);
+        entityManager = context.getBean(EntityManager.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        UserPrincipal owner = BenchmarkApplication.owner(context, "projection-" + accounts + "@bench.example.com");
+        userId = owner.getId();
+        int existing = accountRepository.findActiveAccountViewsByUserId(userId).size();
+        List<CreateAccountRequestDTO> requests = new ArrayList<>();
+        for (int i = existing; i < accounts; i++) {
+            requests.add(new CreateAccountRequestDTO("Benchmark " + i, Account.AccountType.CHECKING, "USD"));
+        }
+        if (!requests.isEmpty()) {
+            context.getBean(AccountService.class).createAccounts(requests, owner);
+        }
+        accountId = accountRepository.findActiveAccountViewsByUserId(userId).get(0).id();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<AccountResponseDTO> activeAccountsEntity() {
+        return transaction.execute(status -> entityManager.createQuery(
+                        "SELECT a FROM Account a WHERE a.user.id = :userId AND a.status = 'ACTIVE'", Account.class)
+                .setParameter("userId", userId)
+                .getResultList().stream()
+                .map(accountMapper::toAccountResponseDTO)
+                .toList());
+    }
+
+    @Benchmark
+    public List<AccountResponseDTO> activeAccountsProjection() {
+        return accountRepository.findActiveAccountViewsByUserId(userId);
+    }
+
+    @Benchmark
+    public AccountResponseDTO accountByIdEntity() {
+        return transaction.execute(status -> accountMapper.toAccountResponseDTO(entityManager.createQuery(
+                        "SELECT a FROM Account a WHERE a.id = :id AND a.user.id = :userId AND a.status = 'ACTIVE'", Account.class)
+                .setParameter("id", accountId)
+                .setParameter("userId", userId)
+                .getSingleResult()));
+    }
+
+    @Benchmark
+    public AccountResponseDTO accountByIdProjection() {
+        return accountRepository.findActiveAccountViewByIdAndUserId(accountId, userId).orElseThrow();
+    }
+
+    @Benchmark
+    public AdminUserProfileResponseDTO adminProfileEntity() {
+        return transaction.execute(status ->
+                userMapper.toAdminUserProfileResponseDTO(userRepository.findById(userId).orElseThrow()));
+    }
+
+    @Benchmark
+    public AdminUserProfileResponseDTO adminProfileProjection() {
+        return userMapper.toAdminUserProfileResponseDTO(userRepository.findAdminProfileById(userId).orElseThrow());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ProjectionReadBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
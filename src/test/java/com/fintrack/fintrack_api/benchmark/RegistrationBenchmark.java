@@ -0,0 +1,104 @@
+package com.fintrack.fintrack_api.benchmark;
+
+import com.fintrack.fintrack_api.model.Users;
+import com.fintrack.fintrack_api.model.enums.Role;
+import com.fintrack.fintrack_api.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares registration throughput of the former probe-then-insert path ({@code existsByEmail},
+ * {@code existsByPhoneNumber}, then the insert) with the current insert that lets the unique
+ * constraints reject duplicates, on a real Postgres database (see {@link BenchmarkApplication})
+ * with concurrent signups. {@code duplicatePercent} of the signups reuse a taken email, which the
+ * probe path rejects with one query and the insert path with a failed, rolled back insert.
+ * <p>
+ * Passwords arrive already hashed: BCrypt runs outside the database work on both paths and would
+ * otherwise hide the difference between them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(8)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class RegistrationBenchmark {
+
+    private static final String DOMAIN = "@registration.bench.example.com";
+    private static final String TAKEN_EMAIL = "taken" + DOMAIN;
+    private static final String PASSWORD_HASH = "$2a$12$benchmarkbenchmarkbenchuJ0y7tN1pBfN3bOq2F5yZkQ8xW6eK.";
+
+    @Param({"0", "10"})
+    public int duplicatePercent;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private final AtomicLong signups = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("registration_benchmark");
+        userRepository = context.getBean(UserRepository.class);
+        context.getBean(JdbcTemplate.class).update("DELETE FROM users WHERE email LIKE ?", "%" + DOMAIN);
+        userRepository.save(user(TAKEN_EMAIL, "+19999999999"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean probeThenInsert() {
+        Users user = nextSignup();
+        if (userRepository.existsByEmail(user.getEmail()) || userRepository.existsByPhoneNumber(user.getPhoneNumber())) {
+            return false;
+        }
+        userRepository.save(user);
+        return true;
+    }
+
+    @Benchmark
+    public boolean insertAndCatch() {
+        try {
+            userRepository.save(nextSignup());
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private Users nextSignup() {
+        long n = signups.incrementAndGet();
+        String email = n % 100 < duplicatePercent ? TAKEN_EMAIL : "user" + n + DOMAIN;
+        return user(email, "+1" + String.format("%010d", n));
+    }
+
+    private static Users user(String email, String phoneNumber) {
+        return Users.builder()
+                .email(email)
+                .password(PASSWORD_HASH)
+                .firstName("Benchmark")
+                .lastName("Signup")
+                .phoneNumber(phoneNumber)
+                .roles(EnumSet.of(Role.USER))
+                .enabled(true)
+                .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RegistrationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
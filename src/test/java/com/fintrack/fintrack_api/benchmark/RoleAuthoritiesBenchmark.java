@@ -0,0 +1,72 @@
+package com.fintrack.fintrack_api.benchmark;
+
+import com.fintrack.fintrack_api.model.Users;
+import com.fintrack.fintrack_api.model.enums.Role;
+import com.fintrack.fintrack_api.security.UserSnapshot;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building a principal's authorities from the former list of role strings with the
+ * shared per-mask authorities, plus an admin check on each representation. The removed
+ * {@code user_roles} join is a database cost and is not part of this comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoleAuthoritiesBenchmark {
+
+    private List<String> legacyRoles;
+    private Users user;
+
+    @Setup
+    public void setUp() {
+        legacyRoles = List.of(Role.USER.getValue(), Role.ADMIN.getValue());
+        user = Users.builder()
+                .id(1L)
+                .email("admin@testexample.com")
+                .password("hash")
+                .roles(EnumSet.of(Role.USER, Role.ADMIN))
+                .enabled(true)
+                .build();
+    }
+
+    @Benchmark
+    public List<GrantedAuthority> legacyStringAuthorities() {
+        return List.copyOf(legacyRoles).stream()
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+
+    @Benchmark
+    public List<GrantedAuthority> maskAuthorities() {
+        return UserSnapshot.of(user).authorities();
+    }
+
+    @Benchmark
+    public boolean legacyStringAdminCheck() {
+        return legacyRoles.contains(Role.ADMIN.getValue());
+    }
+
+    @Benchmark
+    public boolean maskAdminCheck() {
+        return user.getRoles().contains(Role.ADMIN);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RoleAuthoritiesBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
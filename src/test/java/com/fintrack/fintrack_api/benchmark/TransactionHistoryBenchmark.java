@@ -0,0 +1,181 @@
+package com.fintrack.fintrack_api.benchmark;
+
+import com.fintrack.fintrack_api.configuration.TransactionHistoryPartitions;
+import com.fintrack.fintrack_api.dto.request.TransactionHistoryFilterDTO;
+import com.fintrack.fintrack_api.dto.response.CursorPageResponseDTO;
+import com.fintrack.fintrack_api.dto.response.TransactionHistoryEntryDTO;
+import com.fintrack.fintrack_api.model.Account;
+import com.fintrack.fintrack_api.model.Users;
+import com.fintrack.fintrack_api.model.enums.Role;
+import com.fintrack.fintrack_api.security.UserPrincipal;
+import com.fintrack.fintrack_api.service.TransactionHistoryService;
+import com.fintrack.fintrack_api.util.AccountNumbers;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples transaction history latency against a real Postgres database, so the report includes
+ * p99. Point it at a disposable database with {@code -Dbenchmark.jdbc.url}, {@code .user} and
+ * {@code .password}; everything lives in its own {@code history_benchmark} schema. The history is
+ * topped up to {@code -Dbenchmark.history.rows} rows (default 100M) spread evenly over the last
+ * five years and {@code -Dbenchmark.history.accounts} accounts (default 100K), then vacuumed so
+ * index-only scans apply, before measuring.
+ * <p>
+ * {@code monthsBack} moves a one month window into the past: with pruning, a month five years
+ * old costs the same as the current one. Running again with fewer rows, after dropping the
+ * schema, shows that latency does not grow with the size of the table either.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class TransactionHistoryBenchmark {
+
+    private static final String SCHEMA = "history_benchmark";
+    private static final int HISTORY_MONTHS = 60;
+    private static final long SEED_BATCH_ROWS = 5_000_000L;
+
+    @Param({"0", "24", "48"})
+    public int monthsBack;
+
+    private HikariDataSource dataSource;
+    private TransactionHistoryService transactionHistoryService;
+    private UserPrincipal owner;
+    private List<String> accountNumbers;
+
+    @Setup
+    public void setUp() {
+        String url = System.getProperty("benchmark.jdbc.url");
+        if (url == null) {
+            throw new IllegalStateException("Set -Dbenchmark.jdbc.url to a disposable Postgres database");
+        }
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(System.getProperty("benchmark.jdbc.user", "postgres"));
+        dataSource.setPassword(System.getProperty("benchmark.jdbc.password", ""));
+        dataSource.setConnectionInitSql("CREATE SCHEMA IF NOT EXISTS " + SCHEMA + "; SET search_path TO " + SCHEMA);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        int accounts = Integer.getInteger("benchmark.history.accounts", 100_000);
+        accountNumbers = seedAccounts(jdbcTemplate, accounts);
+        new TransactionHistoryPartitions(jdbcTemplate, transactionManager, 3, 5000).initialize();
+        seedHistory(jdbcTemplate, Long.getLong("benchmark.history.rows", 100_000_000L), accounts);
+
+        transactionHistoryService = new TransactionHistoryService(dataSource, transactionManager, 12, HISTORY_MONTHS);
+        owner = new UserPrincipal(Users.builder()
+                .id(1L)
+                .email("history@bench.example.com")
+                .roles(EnumSet.of(Role.USER))
+                .enabled(true)
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public CursorPageResponseDTO<TransactionHistoryEntryDTO> monthPage() {
+        LocalDate to = LocalDate.now().minusMonths(monthsBack);
+        return history(TransactionHistoryFilterDTO.builder().from(to.minusMonths(1)).to(to));
+    }
+
+    @Benchmark
+    public CursorPageResponseDTO<TransactionHistoryEntryDTO> defaultRange() {
+        return history(TransactionHistoryFilterDTO.builder());
+    }
+
+    @Benchmark
+    public CursorPageResponseDTO<TransactionHistoryEntryDTO> categoryOverYear() {
+        return history(TransactionHistoryFilterDTO.builder().category("travel"));
+    }
+
+    @Benchmark
+    public CursorPageResponseDTO<TransactionHistoryEntryDTO> largeDebitsOverYear() {
+        return history(TransactionHistoryFilterDTO.builder().maxAmount(new BigDecimal("-90.00")));
+    }
+
+    private CursorPageResponseDTO<TransactionHistoryEntryDTO> history(
+            TransactionHistoryFilterDTO.TransactionHistoryFilterDTOBuilder filter) {
+        String accountNumber = accountNumbers.get(ThreadLocalRandom.current().nextInt(accountNumbers.size()));
+        return transactionHistoryService.getHistory(accountNumber, filter.size(20).build(), null, owner);
+    }
+
+    /**
+     * Accounts all belong to user 1. The one transaction dated at the start of the history makes
+     * the monthly partitions start there, so the seeded history has a partition for every month.
+     */
+    private static List<String> seedAccounts(JdbcTemplate jdbcTemplate, int accounts) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS accounts (id BIGINT PRIMARY KEY, account_number VARCHAR(16), user_id BIGINT)");
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS transactions (
+                    id BIGINT PRIMARY KEY, type VARCHAR(16), source_account_id BIGINT, target_account_id BIGINT,
+                    amount NUMERIC(19, 2), currency VARCHAR(3), description VARCHAR(255), category VARCHAR(50),
+                    created_at TIMESTAMP(6))""");
+        List<String> accountNumbers = new ArrayList<>(accounts);
+        List<Object[]> rows = new ArrayList<>(accounts);
+        for (int i = 1; i <= accounts; i++) {
+            String accountNumber = AccountNumbers.format(Account.AccountType.CHECKING, 2025, i);
+            accountNumbers.add(accountNumber);
+            rows.add(new Object[]{(long) i, accountNumber});
+        }
+        Integer existing = jdbcTemplate.queryForObject("SELECT count(*) FROM accounts", Integer.class);
+        if (existing == null || existing < accounts) {
+            jdbcTemplate.execute("TRUNCATE accounts");
+            jdbcTemplate.batchUpdate("INSERT INTO accounts VALUES (?, ?, 1)", rows);
+            jdbcTemplate.update("""
+                    INSERT INTO transactions VALUES (0, 'CARD', 1, NULL, 1, 'USD', NULL, NULL,
+                        date_trunc('month', now()) - make_interval(months => ?))
+                    ON CONFLICT DO NOTHING""", HISTORY_MONTHS);
+        }
+        return accountNumbers;
+    }
+
+    /**
+     * Card payments in time order, each account getting every {@code accounts}-th one, written in
+     * batches so no single transaction grows huge.
+     */
+    private static void seedHistory(JdbcTemplate jdbcTemplate, long rows, int accounts) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(transaction_id), 0) FROM transaction_history", Long.class);
+        if (existing == null || existing >= rows) {
+            return;
+        }
+        for (long first = existing + 1; first <= rows; first += SEED_BATCH_ROWS) {
+            jdbcTemplate.update("""
+                    INSERT INTO transaction_history (account_id, booked_at, transaction_id, type, amount, currency,
+                                                     counterparty_account_number, category, description)
+                    SELECT 1 + g % ?,
+                           date_trunc('month', now()) - make_interval(months => ?)
+                               + (g::float8 / ?) * (now() - (date_trunc('month', now()) - make_interval(months => ?))),
+                           g, 'CARD', -((g % 10000) / 100.0 + 0.01), 'USD', NULL,
+                           (ARRAY['groceries','travel','rent','eating-out','fuel','utilities','health','other'])[1 + g % 8],
+                           'Merchant ' || (g % 1000)
+                    FROM generate_series(?, ?) AS g
+                    """, accounts, HISTORY_MONTHS, rows, HISTORY_MONTHS, first, Math.min(rows, first + SEED_BATCH_ROWS - 1));
+        }
+        jdbcTemplate.execute("VACUUM ANALYZE transaction_history");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TransactionHistoryBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,110 @@
+package com.fintrack.fintrack_api.benchmark;
+
+import com.fintrack.fintrack_api.configuration.UserSearchIndexes;
+import com.fintrack.fintrack_api.dto.response.AdminUserProfileResponseDTO;
+import com.fintrack.fintrack_api.dto.response.CursorPageResponseDTO;
+import com.fintrack.fintrack_api.mapper.UserMapperImpl;
+import com.fintrack.fintrack_api.service.UserSearchService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples admin user search latency against a real Postgres database, so the report includes
+ * p99. Point it at a disposable database with {@code -Dbenchmark.jdbc.url}, {@code .user} and
+ * {@code .password}; the users table is topped up to {@code -Dbenchmark.users} rows (default 5M)
+ * of synthetic data, and the search indexes are created, before measuring.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class UserSearchBenchmark {
+
+    private HikariDataSource dataSource;
+    private UserSearchService userSearchService;
+    private String deepCursor;
+
+    @Setup
+    public void setUp() {
+        String url = System.getProperty("benchmark.jdbc.url");
+        if (url == null) {
+            throw new IllegalStateException("Set -Dbenchmark.jdbc.url to a disposable Postgres database");
+        }
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(System.getProperty("benchmark.jdbc.user", "postgres"));
+        dataSource.setPassword(System.getProperty("benchmark.jdbc.password", ""));
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        seed(jdbcTemplate, Long.getLong("benchmark.users", 5_000_000L));
+        UserSearchIndexes indexes = new UserSearchIndexes(jdbcTemplate);
+        indexes.run(null);
+        jdbcTemplate.execute("ANALYZE users");
+
+        userSearchService = new UserSearchService(dataSource, new DataSourceTransactionManager(dataSource),
+                new UserMapperImpl(), indexes);
+        deepCursor = userSearchService.searchUsers("user1", null, 100, false).nextCursor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public CursorPageResponseDTO<AdminUserProfileResponseDTO> emailFragment() {
+        return userSearchService.searchUsers("er4242", null, 20, false);
+    }
+
+    @Benchmark
+    public CursorPageResponseDTO<AdminUserProfileResponseDTO> shortPrefix() {
+        return userSearchService.searchUsers("jo", null, 20, false);
+    }
+
+    @Benchmark
+    public CursorPageResponseDTO<AdminUserProfileResponseDTO> phoneFragment() {
+        return userSearchService.searchUsers("5550042", null, 20, false);
+    }
+
+    @Benchmark
+    public CursorPageResponseDTO<AdminUserProfileResponseDTO> fuzzyName() {
+        return userSearchService.searchUsers("jonathn", null, 20, true);
+    }
+
+    @Benchmark
+    public CursorPageResponseDTO<AdminUserProfileResponseDTO> nextPage() {
+        return userSearchService.searchUsers("user1", deepCursor, 20, false);
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, long users) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM users", Long.class);
+        if (existing == null || existing >= users) {
+            return;
+        }
+        jdbcTemplate.update("""
+                INSERT INTO users (email, password, first_name, last_name, phone_number, role_mask, enabled,
+                                   token_epoch, created_at, updated_at)
+                SELECT 'user' || g || '@bench.example.com', 'x',
+                       (ARRAY['John','Jonathan','Anna','Maria','Joseph','Olivia'])[1 + g % 6],
+                       (ARRAY['Smith','Jones','Brown','Taylor','Wilson','Johnson'])[1 + (g / 6) % 6] || (g % 1000),
+                       '+1555' || lpad(g::text, 9, '0'), 1, TRUE, 0,
+                       TIMESTAMP '2020-01-01' + g * INTERVAL '1 second', NULL
+                FROM generate_series(?, ?) AS g
+                """, existing + 1, users);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserSearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,101 @@
+package com.fintrack.fintrack_api.benchmark;
+
+import com.fintrack.fintrack_api.dto.request.UpdateProfileRequestDTO;
+import com.fintrack.fintrack_api.dto.request.UserRegistrationRequestDTO;
+import com.fintrack.fintrack_api.util.UserFields;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former {@code String.matches} field checks with the shared scanners for the
+ * registration and profile-update requests, plus full Bean Validation of each request DTO as done
+ * by {@code @Valid} at the controller.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private UserRegistrationRequestDTO registration;
+    private UpdateProfileRequestDTO profileUpdate;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        registration = new UserRegistrationRequestDTO(
+                "new.user@testexample.com", "correct-horse-battery", "Name", "Surname", "+15550001234");
+        profileUpdate = new UpdateProfileRequestDTO("Name", "Surname", "+15550004321");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public boolean legacyRegistrationChecks() {
+        return registration.email().matches(".+@.+\\..+")
+                && lengthBetween(registration.password(), 8, 128)
+                && lengthBetween(registration.firstName(), 2, 50)
+                && lengthBetween(registration.lastName(), 2, 50)
+                && registration.phoneNumber().matches("^\\+[1-9]\\d{6,14}$");
+    }
+
+    @Benchmark
+    public boolean scannerRegistrationChecks() {
+        return UserFields.isValidEmail(registration.email())
+                && UserFields.isValidPassword(registration.password())
+                && UserFields.isValidName(registration.firstName())
+                && UserFields.isValidName(registration.lastName())
+                && UserFields.isValidPhoneNumber(registration.phoneNumber());
+    }
+
+    @Benchmark
+    public boolean legacyProfileUpdateChecks() {
+        return lengthBetween(profileUpdate.firstName(), 2, 50)
+                && lengthBetween(profileUpdate.lastName(), 2, 50)
+                && profileUpdate.phoneNumber().matches("^\\+[1-9]\\d{6,14}$");
+    }
+
+    @Benchmark
+    public boolean scannerProfileUpdateChecks() {
+        return UserFields.isValidName(profileUpdate.firstName())
+                && UserFields.isValidName(profileUpdate.lastName())
+                && UserFields.isValidPhoneNumber(profileUpdate.phoneNumber());
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserRegistrationRequestDTO>> beanValidationRegistration() {
+        return validator.validate(registration);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UpdateProfileRequestDTO>> beanValidationProfileUpdate() {
+        return validator.validate(profileUpdate);
+    }
+
+    private static boolean lengthBetween(String value, int min, int max) {
+        return value != null && value.length() >= min && value.length() <= max;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserValidationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
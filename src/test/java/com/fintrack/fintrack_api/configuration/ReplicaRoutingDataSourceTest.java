@@ -0,0 +1,130 @@
+package com.fintrack.fintrack_api.configuration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = embeddedDatabase("primary");
+        replica = embeddedDatabase("replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        new JdbcTemplate(primary).execute("SHUTDOWN");
+        new JdbcTemplate(replica).execute("SHUTDOWN");
+    }
+
+    @Test
+    void readOnlyTransaction_UsesReplica() {
+        // Arrange
+        Routing routing = routing(Map.of("replica-0", replica));
+
+        // Act
+        String server = routing.read();
+
+        // Assert
+        assertEquals("replica", server);
+    }
+
+    @Test
+    void readWriteTransaction_UsesPrimary() {
+        // Arrange
+        Routing routing = routing(Map.of("replica-0", replica));
+
+        // Act
+        String server = routing.write();
+
+        // Assert
+        assertEquals("primary", server);
+    }
+
+    @Test
+    void readAfterOwnWrite_UsesPrimary() {
+        // Arrange
+        Routing routing = routing(Map.of("replica-0", replica));
+        authenticate("writer@testexample.com");
+        routing.write();
+
+        // Act
+        String ownRead = routing.read();
+        authenticate("other@testexample.com");
+        String otherRead = routing.read();
+
+        // Assert
+        assertEquals("primary", ownRead);
+        assertEquals("replica", otherRead);
+    }
+
+    @Test
+    void noHealthyReplica_FallsBackToPrimary() {
+        // Arrange
+        DataSource unreachable = new DriverManagerDataSource("jdbc:h2:mem:missing;IFEXISTS=TRUE", "sa", "");
+        Routing routing = routing(Map.of("replica-0", unreachable));
+
+        // Act
+        routing.dataSource().checkReplicas();
+        String server = routing.read();
+
+        // Assert
+        assertEquals(List.of(), routing.dataSource().getHealthyReplicas());
+        assertEquals("primary", server);
+    }
+
+    private Routing routing(Map<String, DataSource> replicas) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary, replicas, Duration.ofMinutes(1));
+        return new Routing(routingDataSource, new LazyConnectionDataSourceProxy(routingDataSource));
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    private static DataSource embeddedDatabase(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE server (name VARCHAR(16))");
+        jdbcTemplate.update("INSERT INTO server VALUES (?)", name);
+        return dataSource;
+    }
+
+    private record Routing(ReplicaRoutingDataSource dataSource, DataSource proxy) {
+
+        String read() {
+            return query(true);
+        }
+
+        String write() {
+            return query(false);
+        }
+
+        private String query(boolean readOnly) {
+            TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(proxy));
+            transaction.setReadOnly(readOnly);
+            return transaction.execute(status ->
+                    new JdbcTemplate(proxy).queryForObject("SELECT name FROM server", String.class));
+        }
+    }
+}
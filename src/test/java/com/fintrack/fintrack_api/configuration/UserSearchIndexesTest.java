@@ -0,0 +1,122 @@
+package com.fintrack.fintrack_api.configuration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The catalog queries are stubbed; what Postgres does with the statements is not simulated.
+ */
+class UserSearchIndexesTest {
+
+    private static final List<String> TRIGRAM_INDEXES = List.of("idx_users_email_trgm", "idx_users_first_name_trgm",
+            "idx_users_last_name_trgm", "idx_users_phone_number_trgm");
+
+    private JdbcTemplate jdbcTemplate;
+    private UserSearchIndexes userSearchIndexes;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        userSearchIndexes = new UserSearchIndexes(jdbcTemplate);
+    }
+
+    @Test
+    void run_AllIndexesBuiltAndValid_ReportsTrigramAvailable() {
+        // Arrange
+        TRIGRAM_INDEXES.forEach(index -> stubValid(index, List.of(), List.of(true)));
+
+        // Act
+        userSearchIndexes.run(null);
+
+        // Assert
+        assertTrue(userSearchIndexes.isTrigramAvailable());
+        verify(jdbcTemplate, never()).execute(startsWith("DROP INDEX"));
+        verify(jdbcTemplate).execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_email_trgm "
+                + "ON users USING gin (lower(email) gin_trgm_ops)");
+    }
+
+    @Test
+    void run_InvalidIndexLeftByFailedBuild_DropsAndRebuildsIt() {
+        // Arrange
+        TRIGRAM_INDEXES.forEach(index -> stubValid(index, List.of(true), List.of(true)));
+        stubValid("idx_users_last_name_trgm", List.of(false), List.of(true));
+
+        // Act
+        userSearchIndexes.run(null);
+
+        // Assert
+        assertTrue(userSearchIndexes.isTrigramAvailable());
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("DROP INDEX CONCURRENTLY IF EXISTS idx_users_last_name_trgm");
+        inOrder.verify(jdbcTemplate).execute(startsWith("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_last_name_trgm "));
+        verify(jdbcTemplate, never()).execute("DROP INDEX CONCURRENTLY IF EXISTS idx_users_email_trgm");
+    }
+
+    @Test
+    void run_InvalidIndexBeingBuiltElsewhere_KeepsItAndReportsTrigramUnavailable() {
+        // Arrange
+        TRIGRAM_INDEXES.forEach(index -> stubValid(index, List.of(true), List.of(true)));
+        stubValid("idx_users_email_trgm", List.of(false), List.of(false));
+        when(jdbcTemplate.queryForObject(startsWith("SELECT EXISTS"), eq(Boolean.class), eq("idx_users_email_trgm")))
+                .thenReturn(true);
+
+        // Act
+        userSearchIndexes.run(null);
+
+        // Assert
+        assertFalse(userSearchIndexes.isTrigramAvailable());
+        verify(jdbcTemplate, never()).execute(startsWith("DROP INDEX"));
+    }
+
+    @Test
+    void run_IndexStillInvalidAfterCreate_ReportsTrigramUnavailable() {
+        // Arrange
+        TRIGRAM_INDEXES.forEach(index -> stubValid(index, List.of(), List.of(true)));
+        stubValid("idx_users_phone_number_trgm", List.of(), List.of(false));
+
+        // Act
+        userSearchIndexes.run(null);
+
+        // Assert
+        assertFalse(userSearchIndexes.isTrigramAvailable());
+    }
+
+    @Test
+    void run_ExtensionUnavailable_ReportsTrigramUnavailable() {
+        // Arrange
+        doThrow(new BadSqlGrammarException("pg_trgm", "CREATE EXTENSION", new SQLException("permission denied")))
+                .when(jdbcTemplate).execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+
+        // Act
+        userSearchIndexes.run(null);
+
+        // Assert
+        assertFalse(userSearchIndexes.isTrigramAvailable());
+        verify(jdbcTemplate, never()).execute(startsWith("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_email_trgm"));
+    }
+
+    /**
+     * Stubs {@code pg_index.indisvalid} as seen before the index is created and after.
+     */
+    private void stubValid(String index, List<Boolean> before, List<Boolean> after) {
+        when(jdbcTemplate.queryForList(startsWith("SELECT i.indisvalid"), eq(Boolean.class), eq(index)))
+                .thenReturn(before, after);
+    }
+}
@@ -0,0 +1,73 @@
+package com.fintrack.fintrack_api.controller;
+
+import com.fintrack.fintrack_api.exception.advisor.GlobalExceptionHandler;
+import com.fintrack.fintrack_api.service.AccountExportService;
+import com.fintrack.fintrack_api.service.AccountService;
+import com.fintrack.fintrack_api.service.StatementImportService;
+import com.fintrack.fintrack_api.service.TransactionHistoryService;
+import com.fintrack.fintrack_api.util.ErrorMessages;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Renames are native updates that bypass the entity's constraints, so the request body is the
+ * only place the name is checked.
+ */
+class AccountControllerTest {
+
+    private static final String ACCOUNT_NUMBER_PATH = "/api/accounts/accountNumber/FTCH202500000017";
+
+    private AccountService accountService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        accountService = mock(AccountService.class);
+        AccountController controller = new AccountController(accountService, mock(AccountExportService.class),
+                mock(StatementImportService.class), mock(TransactionHistoryService.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/accounts/id/3", ACCOUNT_NUMBER_PATH})
+    void updateAccount_MissingName_Returns400WithoutCallingService(String path) throws Exception {
+        // Act & Assert
+        mockMvc.perform(put(path).contentType(MediaType.APPLICATION_JSON).content("{\"version\": 1}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.name").exists());
+        verifyNoInteractions(accountService);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"A", "  ", "AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA"})
+    void updateAccountById_NameOutOfBounds_Returns400WithoutCallingService(String name) throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/api/accounts/id/3").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"" + name + "\", \"version\": 1}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.name").exists());
+        verifyNoInteractions(accountService);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/accounts/id/3", ACCOUNT_NUMBER_PATH})
+    void updateAccount_MissingVersion_Returns400WithoutCallingService(String path) throws Exception {
+        // Act & Assert
+        mockMvc.perform(put(path).contentType(MediaType.APPLICATION_JSON).content("{\"name\": \"Holidays\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.version").value(ErrorMessages.NULL_ACCOUNT_VERSION));
+        verifyNoInteractions(accountService);
+    }
+}
@@ -0,0 +1,108 @@
+package com.fintrack.fintrack_api.dto.request;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Registrations are validated only here, at the request boundary; neither the service nor the
+ * entity checks the fields again.
+ */
+class UserRegistrationRequestDTOTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void validate_ValidRequest_HasNoViolations() {
+        // Act & Assert
+        assertTrue(validator.validate(valid()).isEmpty());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("invalidRequests")
+    void validate_InvalidField_IsRejected(String field, UserRegistrationRequestDTO request) {
+        // Act
+        Set<ConstraintViolation<UserRegistrationRequestDTO>> violations = validator.validate(request);
+
+        // Assert
+        assertFalse(violations.isEmpty());
+        violations.forEach(violation -> assertEquals(field, violation.getPropertyPath().toString()));
+    }
+
+    static Stream<Arguments> invalidRequests() {
+        UserRegistrationRequestDTO valid = valid();
+        return Stream.of(
+                Arguments.of("email", withEmail(valid, "invalid-email")),
+                Arguments.of("email", withEmail(valid, null)),
+                Arguments.of("email", withEmail(valid, "")),
+                Arguments.of("password", withPassword(valid, "short")),
+                Arguments.of("password", withPassword(valid, "a".repeat(129))),
+                Arguments.of("password", withPassword(valid, null)),
+                Arguments.of("firstName", withNames(valid, null, valid.lastName())),
+                Arguments.of("firstName", withNames(valid, "", valid.lastName())),
+                Arguments.of("firstName", withNames(valid, "A", valid.lastName())),
+                Arguments.of("firstName", withNames(valid, "A".repeat(51), valid.lastName())),
+                Arguments.of("lastName", withNames(valid, valid.firstName(), null)),
+                Arguments.of("lastName", withNames(valid, valid.firstName(), "")),
+                Arguments.of("lastName", withNames(valid, valid.firstName(), "B")),
+                Arguments.of("lastName", withNames(valid, valid.firstName(), "B".repeat(51))),
+                Arguments.of("phoneNumber", withPhoneNumber(valid, null)),
+                Arguments.of("phoneNumber", withPhoneNumber(valid, "")),
+                Arguments.of("phoneNumber", withPhoneNumber(valid, "+123456")),
+                Arguments.of("phoneNumber", withPhoneNumber(valid, "+1234567890123456")),
+                Arguments.of("phoneNumber", withPhoneNumber(valid, "1234567890")),
+                Arguments.of("phoneNumber", withPhoneNumber(valid, "+12345a7890")),
+                Arguments.of("phoneNumber", withPhoneNumber(valid, "+123-456-7890")));
+    }
+
+    private static UserRegistrationRequestDTO valid() {
+        return new UserRegistrationRequestDTO("user@testexample.com", "password", "Name", "Surname", "+1234567890");
+    }
+
+    private static UserRegistrationRequestDTO withEmail(UserRegistrationRequestDTO request, String email) {
+        return new UserRegistrationRequestDTO(email, request.password(), request.firstName(), request.lastName(),
+                request.phoneNumber());
+    }
+
+    private static UserRegistrationRequestDTO withPassword(UserRegistrationRequestDTO request, String password) {
+        return new UserRegistrationRequestDTO(request.email(), password, request.firstName(), request.lastName(),
+                request.phoneNumber());
+    }
+
+    private static UserRegistrationRequestDTO withNames(UserRegistrationRequestDTO request, String firstName,
+                                                        String lastName) {
+        return new UserRegistrationRequestDTO(request.email(), request.password(), firstName, lastName,
+                request.phoneNumber());
+    }
+
+    private static UserRegistrationRequestDTO withPhoneNumber(UserRegistrationRequestDTO request, String phoneNumber) {
+        return new UserRegistrationRequestDTO(request.email(), request.password(), request.firstName(),
+                request.lastName(), phoneNumber);
+    }
+}
@@ -0,0 +1,117 @@
+package com.fintrack.fintrack_api.security;
+
+import com.fintrack.fintrack_api.exception.ServiceUnavailableException;
+import com.fintrack.fintrack_api.util.ErrorMessages;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Uses a pool of one thread and one queue slot, so two blocked logins saturate it.
+ */
+class LoginExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LoginExecutor loginExecutor;
+
+    @AfterEach
+    void tearDown() {
+        loginExecutor.destroy();
+    }
+
+    @Test
+    void execute_PoolSaturated_ThrowsServiceUnavailableAndCountsRejection() throws Exception {
+        // Arrange
+        loginExecutor = new LoginExecutor(1, 1, 10_000, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> loginExecutor.execute(() -> {
+            running.countDown();
+            awaitQuietly(release);
+            return "first";
+        }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> loginExecutor.execute(() -> "queued"));
+        awaitQueued(1);
+
+        // Act
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                () -> loginExecutor.execute(() -> "rejected"));
+
+        // Assert
+        assertEquals(ErrorMessages.LOGIN_CAPACITY_EXCEEDED, exception.getMessage());
+        assertEquals(1.0, meterRegistry.get("auth.login.rejected").counter().count());
+        release.countDown();
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_TaskTooSlow_ThrowsServiceUnavailableAndInterruptsTask() throws Exception {
+        // Arrange
+        loginExecutor = new LoginExecutor(1, 1, 100, meterRegistry);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // Act
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                () -> loginExecutor.execute(() -> {
+                    try {
+                        new CountDownLatch(1).await();
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                    return "late";
+                }));
+
+        // Assert
+        assertEquals(ErrorMessages.LOGIN_CAPACITY_EXCEEDED, exception.getMessage());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(1.0, meterRegistry.get("auth.login.rejected").counter().count());
+        assertEquals("next", loginExecutor.execute(() -> "next"));
+    }
+
+    @Test
+    void execute_BadCredentials_RethrowsUnchanged() {
+        // Arrange
+        loginExecutor = new LoginExecutor(1, 1, 10_000, meterRegistry);
+        BadCredentialsException badCredentials = new BadCredentialsException("Bad credentials");
+
+        // Act
+        BadCredentialsException exception = assertThrows(BadCredentialsException.class,
+                () -> loginExecutor.execute(() -> {
+                    throw badCredentials;
+                }));
+
+        // Assert
+        assertSame(badCredentials, exception);
+        assertEquals(0.0, meterRegistry.get("auth.login.rejected").counter().count());
+    }
+
+    private void awaitQueued(int tasks) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "auth.login").gauge().value() < tasks) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Login task was not queued");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
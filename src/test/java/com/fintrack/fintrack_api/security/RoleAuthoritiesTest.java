@@ -0,0 +1,46 @@
+package com.fintrack.fintrack_api.security;
+
+import com.fintrack.fintrack_api.model.enums.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RoleAuthoritiesTest {
+
+    @Test
+    void roles_EveryCombination_MatchesRoleFromMask() {
+        for (Set<Role> expected : Set.of(EnumSet.noneOf(Role.class), EnumSet.of(Role.USER), EnumSet.of(Role.ADMIN),
+                EnumSet.allOf(Role.class))) {
+            // Act
+            int mask = Role.toMask(expected);
+
+            // Assert
+            assertEquals(expected, RoleAuthorities.roles(mask));
+            assertEquals(Role.toValues(expected),
+                    RoleAuthorities.authorities(mask).stream().map(GrantedAuthority::getAuthority).toList());
+        }
+    }
+
+    @Test
+    void roles_UnknownBits_AreIgnoredAndShareTheSameInstance() {
+        // Arrange
+        int admin = Role.ADMIN.getMask();
+
+        // Act & Assert
+        assertSame(RoleAuthorities.roles(admin), RoleAuthorities.roles(admin | 1 << 30));
+        assertSame(RoleAuthorities.authorities(admin), RoleAuthorities.authorities(admin | 1 << 30));
+        assertEquals(EnumSet.allOf(Role.class), RoleAuthorities.roles(-1));
+    }
+
+    @Test
+    void roles_ReturnedSet_IsUnmodifiable() {
+        // Act & Assert
+        assertThrows(UnsupportedOperationException.class, () -> RoleAuthorities.roles(0).add(Role.ADMIN));
+    }
+}
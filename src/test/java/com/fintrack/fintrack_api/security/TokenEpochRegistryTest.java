@@ -0,0 +1,155 @@
+package com.fintrack.fintrack_api.security;
+
+import com.fintrack.fintrack_api.repository.UserRepository;
+import com.fintrack.fintrack_api.repository.projection.UserTokenEpochView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenEpochRegistryTest {
+
+    private static final long REFRESH_INTERVAL_MS = 60_000;
+
+    private UserRepository userRepository;
+    private TokenEpochRegistry tokenEpochRegistry;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        tokenEpochRegistry = new TokenEpochRegistry(userRepository, REFRESH_INTERVAL_MS, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void loadAll_BumpedUsers_AreRevokedOthersAtZero() {
+        // Arrange
+        when(userRepository.findByTokenEpochGreaterThan(0)).thenReturn(List.of(view(1L, 2), view(2L, 1)));
+
+        // Act
+        tokenEpochRegistry.loadAll();
+
+        // Assert
+        assertEquals(2, tokenEpochRegistry.currentEpoch(1L));
+        assertFalse(tokenEpochRegistry.isCurrent(1L, 1));
+        assertTrue(tokenEpochRegistry.isCurrent(1L, 2));
+        assertEquals(0, tokenEpochRegistry.currentEpoch(3L));
+        assertTrue(tokenEpochRegistry.isCurrent(3L, 0));
+    }
+
+    @Test
+    void refresh_QueriesFromPreviousStartMinusOneInterval() {
+        // Arrange
+        when(userRepository.findByTokenEpochGreaterThan(0)).thenReturn(List.of());
+        when(userRepository.findByUpdatedAtGreaterThanEqual(any())).thenReturn(List.of(view(5L, 3)));
+        LocalDateTime beforeLoad = LocalDateTime.now();
+        tokenEpochRegistry.loadAll();
+        LocalDateTime afterLoad = LocalDateTime.now();
+
+        // Act
+        tokenEpochRegistry.refresh();
+
+        // Assert
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(userRepository).findByUpdatedAtGreaterThanEqual(since.capture());
+        Duration overlap = Duration.ofMillis(REFRESH_INTERVAL_MS);
+        assertFalse(since.getValue().isBefore(beforeLoad.minus(overlap)));
+        assertFalse(since.getValue().isAfter(afterLoad.minus(overlap)));
+        assertEquals(3, tokenEpochRegistry.currentEpoch(5L));
+    }
+
+    @Test
+    void refresh_AfterFailure_RetriesTheSameWindow() {
+        // Arrange
+        when(userRepository.findByTokenEpochGreaterThan(0)).thenReturn(List.of());
+        when(userRepository.findByUpdatedAtGreaterThanEqual(any()))
+                .thenThrow(new IllegalStateException("connection refused"))
+                .thenReturn(List.of(view(5L, 1)));
+        tokenEpochRegistry.loadAll();
+
+        // Act
+        tokenEpochRegistry.refresh();
+        tokenEpochRegistry.refresh();
+
+        // Assert
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(userRepository, times(2)).findByUpdatedAtGreaterThanEqual(since.capture());
+        assertEquals(since.getAllValues().get(0), since.getAllValues().get(1));
+        assertEquals(1, tokenEpochRegistry.currentEpoch(5L));
+    }
+
+    @Test
+    void updateAfterCommit_InTransaction_AppliesOnlyOnCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        tokenEpochRegistry.updateAfterCommit(1L, 1);
+        int beforeCommit = tokenEpochRegistry.currentEpoch(1L);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertEquals(0, beforeCommit);
+        assertEquals(1, tokenEpochRegistry.currentEpoch(1L));
+    }
+
+    @Test
+    void updateAfterCommit_RolledBack_LeavesEpochUnchanged() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        tokenEpochRegistry.updateAfterCommit(1L, 1);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Assert
+        assertEquals(0, tokenEpochRegistry.currentEpoch(1L));
+        assertTrue(tokenEpochRegistry.isCurrent(1L, 0));
+    }
+
+    @Test
+    void updateAfterCommit_OutsideTransaction_AppliesImmediately() {
+        // Act
+        tokenEpochRegistry.updateAfterCommit(1L, 4);
+
+        // Assert
+        assertEquals(4, tokenEpochRegistry.currentEpoch(1L));
+    }
+
+    private static UserTokenEpochView view(long id, int tokenEpoch) {
+        return new UserTokenEpochView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public int getTokenEpoch() {
+                return tokenEpoch;
+            }
+        };
+    }
+}
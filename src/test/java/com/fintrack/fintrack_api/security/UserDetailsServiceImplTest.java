@@ -0,0 +1,93 @@
+package com.fintrack.fintrack_api.security;
+
+import com.fintrack.fintrack_api.model.Users;
+import com.fintrack.fintrack_api.model.enums.Role;
+import com.fintrack.fintrack_api.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class UserDetailsServiceImplTest {
+
+    private static final String EMAIL = "claims@testexample.com";
+
+    private UserService userService;
+    private UserDetailsServiceImpl userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        userService = mock(UserService.class);
+        userDetailsService = new UserDetailsServiceImpl(userService,
+                new UserDetailsCache(100, 60_000, new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void loadUserFromToken_Claims_BuildsPrincipalWithoutLoadingUser() {
+        // Arrange
+        VerifiedToken token = token(List.of("USER", "ADMIN"));
+
+        // Act
+        UserPrincipal principal = userDetailsService.loadUserFromToken(token);
+
+        // Assert
+        assertEquals(7L, principal.getId());
+        assertEquals(EMAIL, principal.getUsername());
+        assertEquals(3, principal.getTokenEpoch());
+        assertEquals(EnumSet.of(Role.USER, Role.ADMIN), principal.getRoles());
+        assertEquals(List.of("USER", "ADMIN"),
+                principal.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        assertTrue(principal.isEnabled());
+        assertFalse(principal.isUserLoaded());
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void loadUserFromToken_GetUser_LoadsEntityOnce() {
+        // Arrange
+        Users user = Users.builder().id(7L).email(EMAIL).roles(EnumSet.of(Role.USER)).enabled(true).build();
+        when(userService.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        UserPrincipal principal = userDetailsService.loadUserFromToken(token(List.of("USER")));
+
+        // Act
+        Users first = principal.getUser();
+        Users second = principal.getUser();
+
+        // Assert
+        assertSame(user, first);
+        assertSame(user, second);
+        assertTrue(principal.isUserLoaded());
+        verify(userService, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void loadUserFromToken_GetUserOfDeletedUser_Throws() {
+        // Arrange
+        when(userService.findByEmail(EMAIL)).thenReturn(Optional.empty());
+        UserPrincipal principal = userDetailsService.loadUserFromToken(token(List.of("USER")));
+
+        // Act & Assert
+        assertThrows(UsernameNotFoundException.class, principal::getUser);
+    }
+
+    private static VerifiedToken token(List<String> roles) {
+        return new VerifiedToken(EMAIL, 7L, 3, roles, Instant.now(), Instant.now().plusSeconds(60));
+    }
+}
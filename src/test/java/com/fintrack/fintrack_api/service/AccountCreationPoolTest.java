@@ -0,0 +1,165 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.dto.request.CreateAccountRequestDTO;
+import com.fintrack.fintrack_api.dto.response.AccountResponseDTO;
+import com.fintrack.fintrack_api.mapper.AccountMapperImpl;
+import com.fintrack.fintrack_api.model.Account;
+import com.fintrack.fintrack_api.model.Users;
+import com.fintrack.fintrack_api.model.enums.Role;
+import com.fintrack.fintrack_api.repository.AccountNumberBlockRepository;
+import com.fintrack.fintrack_api.repository.AccountRepository;
+import com.fintrack.fintrack_api.repository.LedgerEntryRepository;
+import com.fintrack.fintrack_api.repository.LedgerPostingRepository;
+import com.fintrack.fintrack_api.repository.UserRepository;
+import com.fintrack.fintrack_api.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Creates accounts from more threads than the connection pool has connections, with a block
+ * size small enough that many creations hit a refill. A refill that needed a second connection
+ * while its caller held one would wait out the connection timeout and fail the creation.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:account-creation-pool;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=" + AccountCreationPoolTest.POOL_SIZE,
+        "spring.datasource.hikari.connection-timeout=2000",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never",
+        "spring.jpa.show-sql=false",
+        "app.accounts.number-block-size=5"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AccountService.class, AccountNumberGeneratorService.class, AccountNumberBlockAllocator.class,
+        AccountMapperImpl.class, LedgerService.class, AccountCreationPoolTest.TestBeans.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccountCreationPoolTest {
+
+    static final int POOL_SIZE = 4;
+
+    private static final int THREADS = POOL_SIZE * 4;
+    private static final int ACCOUNTS_PER_THREAD = 20;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountNumberBlockRepository accountNumberBlockRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private LedgerPostingRepository ledgerPostingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private ActiveAccountsCache activeAccountsCache;
+
+    private UserPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        principal = new UserPrincipal(userRepository.save(Users.builder()
+                .email("pool@testexample.com")
+                .password("password")
+                .firstName("Name")
+                .lastName("Surname")
+                .phoneNumber("+15550006666")
+                .roles(EnumSet.of(Role.USER))
+                .enabled(true)
+                .build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ledgerPostingRepository.deleteAll();
+        ledgerEntryRepository.deleteAll();
+        accountRepository.deleteAll();
+        accountNumberBlockRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void createAccount_MoreThreadsThanConnections_CreatesEveryAccount() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<String> accountNumbers = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>(THREADS);
+
+        // Act
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ACCOUNTS_PER_THREAD; i++) {
+                        AccountResponseDTO account = accountService.createAccount(
+                                new CreateAccountRequestDTO("Account", Account.AccountType.SAVINGS, "USD"), principal);
+                        assertTrue(accountNumbers.add(account.accountNumber()));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(THREADS * ACCOUNTS_PER_THREAD, accountNumbers.size());
+        assertEquals(THREADS * ACCOUNTS_PER_THREAD, accountRepository.count());
+    }
+
+    @TestConfiguration
+    static class TestBeans {
+
+        @Bean
+        BCryptPasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+
+        @Bean
+        LocalValidatorFactoryBean validator() {
+            return new LocalValidatorFactoryBean();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.dto.request.AccountFilterRequestDTO;
+import com.fintrack.fintrack_api.dto.response.AccountResponseDTO;
+import com.fintrack.fintrack_api.dto.response.CursorPageResponseDTO;
+import com.fintrack.fintrack_api.mapper.AccountMapperImpl;
+import com.fintrack.fintrack_api.model.Account;
+import com.fintrack.fintrack_api.model.Users;
+import com.fintrack.fintrack_api.model.enums.Role;
+import com.fintrack.fintrack_api.repository.AccountRepository;
+import com.fintrack.fintrack_api.repository.UserRepository;
+import com.fintrack.fintrack_api.repository.specification.AccountSpecifications;
+import com.fintrack.fintrack_api.util.AccountNumbers;
+import com.fintrack.fintrack_api.util.KeysetCursor;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Walks the keyset listing over accounts that share creation timestamps, so every page boundary
+ * that falls inside a tie depends on the id half of the {@code (created_at, id) < (?, ?)}
+ * continuation.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.sql.init.mode=never",
+        "spring.jpa.show-sql=false"
+})
+@Import({AccountService.class, AccountMapperImpl.class, LedgerService.class,
+        AccountCursorPaginationTest.PasswordEncoderConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccountCursorPaginationTest {
+
+    private static final LocalDateTime NEWEST = LocalDateTime.of(2025, 5, 1, 12, 0, 0, 250_000_000);
+    private static final LocalDateTime TIED = LocalDateTime.of(2025, 4, 1, 8, 30);
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private AccountNumberGeneratorService accountNumberGeneratorService;
+
+    @MockitoBean
+    private ActiveAccountsCache activeAccountsCache;
+
+    @MockitoBean
+    private Validator validator;
+
+    private List<Account> accounts;
+
+    @BeforeEach
+    void setUp() {
+        Users user = userRepository.save(Users.builder()
+                .email("cursor@testexample.com")
+                .password("password")
+                .firstName("Name")
+                .lastName("Surname")
+                .phoneNumber("+15550006666")
+                .roles(EnumSet.of(Role.USER))
+                .enabled(true)
+                .build());
+        accounts = new ArrayList<>();
+        for (int i = 1; i <= 7; i++) {
+            accounts.add(accountRepository.save(Account.builder()
+                    .accountNumber(AccountNumbers.format(i % 2 == 0 ? Account.AccountType.SAVINGS : Account.AccountType.CHECKING, 2025, i))
+                    .name("Account " + i)
+                    .type(i % 2 == 0 ? Account.AccountType.SAVINGS : Account.AccountType.CHECKING)
+                    .balance(BigDecimal.ZERO)
+                    .currency("USD")
+                    .user(user)
+                    .build()));
+        }
+        // One newer account, then five sharing a timestamp, then one older
+        setCreatedAt(accounts.get(0), NEWEST);
+        for (int i = 1; i <= 5; i++) {
+            setCreatedAt(accounts.get(i), TIED);
+        }
+        setCreatedAt(accounts.get(6), TIED.minusDays(3));
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountRepository.deleteAll();
+        userRepository.deleteAll(userRepository.findAll().stream()
+                .filter(user -> user.getEmail().endsWith("@testexample.com"))
+                .toList());
+    }
+
+    @Test
+    void getAccountsByCursor_PagesSplitInsideTies_ReturnEveryAccountOnceInOrder() {
+        // Arrange
+        List<Long> expected = accounts.stream()
+                .sorted(Comparator.comparing(Account::getCreatedAt).thenComparing(Account::getId).reversed())
+                .map(Account::getId)
+                .toList();
+
+        // Act
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageResponseDTO<AccountResponseDTO> page = accountService.getAccountsByCursor(
+                    AccountFilterRequestDTO.builder().size(2).build(), cursor, false);
+            page.content().forEach(account -> ids.add(account.id()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(expected, ids);
+        assertEquals(4, pages);
+    }
+
+    @Test
+    void after_CursorInsideTie_KeepsOnlyOlderRowsAndSmallerIdsAtSameTimestamp() {
+        // Arrange
+        Account middle = accounts.get(3);
+        KeysetCursor cursor = new KeysetCursor(middle.getCreatedAt(), middle.getId());
+
+        // Act
+        List<Long> ids = accountRepository.findBy(AccountSpecifications.after(cursor), query -> query
+                        .sortBy(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")))
+                        .all())
+                .stream().map(Account::getId).toList();
+
+        // Assert
+        assertEquals(List.of(accounts.get(2).getId(), accounts.get(1).getId(), accounts.get(6).getId()), ids);
+    }
+
+    @Test
+    void getAccountsByCursor_FilterWithCursor_ContinuesWithinFilter() {
+        // Arrange
+        AccountFilterRequestDTO savings = AccountFilterRequestDTO.builder().type(Account.AccountType.SAVINGS).size(2).build();
+        CursorPageResponseDTO<AccountResponseDTO> first = accountService.getAccountsByCursor(savings, null, false);
+
+        // Act
+        CursorPageResponseDTO<AccountResponseDTO> second = accountService.getAccountsByCursor(savings, first.nextCursor(), false);
+
+        // Assert
+        assertEquals(List.of(accounts.get(5).getId(), accounts.get(3).getId()),
+                first.content().stream().map(AccountResponseDTO::id).toList());
+        assertEquals(List.of(accounts.get(1).getId()), second.content().stream().map(AccountResponseDTO::id).toList());
+        assertFalse(second.hasNext());
+        assertNull(second.nextCursor());
+    }
+
+    private void setCreatedAt(Account account, LocalDateTime createdAt) {
+        jdbcTemplate.update("UPDATE accounts SET created_at = ? WHERE id = ?", createdAt, account.getId());
+        account.setCreatedAt(createdAt);
+    }
+
+    @TestConfiguration
+    static class PasswordEncoderConfiguration {
+
+        @Bean
+        BCryptPasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintrack.fintrack_api.dto.request.AccountFilterRequestDTO;
+import com.fintrack.fintrack_api.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Exports more rows than fit in the heap of the surefire {@code large-export} fork ({@code -Xmx64m}),
+ * so buffering the result anywhere between the cursor and the response fails with an
+ * {@link OutOfMemoryError}. The database is file-backed with lazy query execution, so H2 itself
+ * does not hold the rows in the same heap.
+ */
+@Tag("large-export")
+class AccountExportLargeResultTest {
+
+    private static final int ROWS = 500_000;
+
+    @TempDir
+    Path directory;
+
+    private DataSource dataSource;
+    private AccountExportService accountExportService;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:file:" + directory.resolve("export")
+                + ";MODE=PostgreSQL;LAZY_QUERY_EXECUTION=TRUE;CACHE_SIZE=4096", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        AccountExportServiceTest.createTables(jdbcTemplate);
+        jdbcTemplate.execute("CREATE INDEX ledger_postings_account_id ON ledger_postings (account_id)");
+        jdbcTemplate.update("INSERT INTO users VALUES (1, 'large@example.com')");
+        jdbcTemplate.update("""
+                INSERT INTO accounts
+                SELECT X, 'CHK' || LPAD(CAST(X AS VARCHAR), 13, '0'), 'Account, number ' || X, 'CHECKING',
+                       100.00, 'USD', 'ACTIVE', 1, TIMESTAMP '2025-01-01 00:00:00', 0
+                FROM SYSTEM_RANGE(1, ?)""", ROWS);
+        jdbcTemplate.update("INSERT INTO ledger_postings SELECT X, 1.00, 1 FROM SYSTEM_RANGE(1, ?)", ROWS / 10);
+
+        accountExportService = new AccountExportService(dataSource, new DataSourceTransactionManager(dataSource),
+                mock(UserRepository.class), new ObjectMapper(), 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(dataSource).execute("SHUTDOWN");
+    }
+
+    @Test
+    void export_Ndjson_StreamsEveryRowInBoundedMemory() throws IOException {
+        // Arrange
+        CountingOutputStream out = new CountingOutputStream();
+
+        // Act
+        accountExportService.export(AccountFilterRequestDTO.builder().build(), AccountExportService.Format.NDJSON, out);
+
+        // Assert
+        assertEquals(ROWS, out.lines());
+    }
+
+    @Test
+    void export_Csv_StreamsEveryRowInBoundedMemory() throws IOException {
+        // Arrange
+        CountingOutputStream out = new CountingOutputStream();
+
+        // Act
+        accountExportService.export(AccountFilterRequestDTO.builder().build(), AccountExportService.Format.CSV, out);
+
+        // Assert
+        assertEquals(ROWS + 1, out.lines());
+    }
+}
@@ -0,0 +1,219 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintrack.fintrack_api.controller.AccountController;
+import com.fintrack.fintrack_api.dto.request.AccountFilterRequestDTO;
+import com.fintrack.fintrack_api.exception.InvalidRequestException;
+import com.fintrack.fintrack_api.exception.advisor.GlobalExceptionHandler;
+import com.fintrack.fintrack_api.model.Account;
+import com.fintrack.fintrack_api.repository.UserRepository;
+import com.fintrack.fintrack_api.util.AccountNumbers;
+import com.fintrack.fintrack_api.util.ErrorMessages;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the export SQL against H2 in PostgreSQL mode and the endpoint through a standalone
+ * MockMvc. {@code AccountExportLargeResultTest} streams a large export in a small heap.
+ */
+class AccountExportServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final String CSV_HEADER = "id,accountNumber,name,type,balance,currency,status,userEmail,createdAt";
+
+    private DataSource dataSource;
+    private AccountExportService accountExportService;
+    private final Map<Long, String> accountNumbers = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:account-export;MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        createTables(jdbcTemplate);
+        jdbcTemplate.update("INSERT INTO users VALUES (1, 'anna@example.com'), (2, 'bob@example.com')");
+        insert(jdbcTemplate, 1, "Plain", Account.AccountType.CHECKING, "100.00", "ACTIVE", 1);
+        insert(jdbcTemplate, 2, "Rent, \"flat\" 2", Account.AccountType.SAVINGS, "0.00", "ACTIVE", 1);
+        insert(jdbcTemplate, 3, "Line\nbreak", Account.AccountType.CREDIT_CARD, "-20.00", "INACTIVE", 2);
+        insert(jdbcTemplate, 4, "Simple", Account.AccountType.SAVINGS, "7.25", "INACTIVE", 2);
+        insert(jdbcTemplate, 5, "Other", Account.AccountType.CHECKING, "1.00", "ACTIVE", 2);
+        // Only the pending posting counts, the folded one is already in the balance column
+        jdbcTemplate.update("INSERT INTO ledger_postings VALUES (1, 5.50, 1), (1, 1000.00, 0)");
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.existsByEmail(anyString()))
+                .thenAnswer(invocation -> Set.of("anna@example.com", "bob@example.com").contains(invocation.<String>getArgument(0)));
+        accountExportService = new AccountExportService(dataSource, new DataSourceTransactionManager(dataSource),
+                userRepository, new ObjectMapper(), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(dataSource).execute("SHUTDOWN");
+    }
+
+    @Test
+    void export_Ndjson_WritesOneObjectPerAccountWithPendingPostings() throws IOException {
+        // Arrange
+        CountingOutputStream counting = new CountingOutputStream();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        accountExportService.export(filter().build(), AccountExportService.Format.NDJSON, counting);
+        accountExportService.export(filter().build(), AccountExportService.Format.NDJSON, out);
+
+        // Assert
+        assertEquals(5, counting.lines());
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<Long, JsonNode> rows = new HashMap<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            JsonNode row = objectMapper.readTree(line);
+            rows.put(row.get("id").asLong(), row);
+        }
+        assertEquals(0, new BigDecimal("105.50").compareTo(rows.get(1L).get("balance").decimalValue()));
+        assertEquals(accountNumbers.get(1L), rows.get(1L).get("accountNumber").asText());
+        assertEquals("anna@example.com", rows.get(1L).get("userEmail").asText());
+        assertEquals("2025-01-01T12:00", rows.get(1L).get("createdAt").asText());
+        assertEquals("Line\nbreak", rows.get(3L).get("name").asText());
+    }
+
+    @Test
+    void export_CsvWithFilters_WritesOnlyMatchingRows() throws IOException {
+        // Act
+        long savings = csvRows(filter().type(Account.AccountType.SAVINGS).build());
+        long inactiveOfBob = csvRows(filter().status(Account.AccountStatus.INACTIVE).email("bob@example.com").type(Account.AccountType.SAVINGS).build());
+        long activeOfAnna = csvRows(filter().status(Account.AccountStatus.ACTIVE).email("anna@example.com").build());
+        long byNumber = csvRows(filter().accountNumber(accountNumbers.get(5L)).build());
+        long none = csvRows(filter().type(Account.AccountType.CREDIT_CARD).status(Account.AccountStatus.ACTIVE).build());
+
+        // Assert
+        assertEquals(2, savings);
+        assertEquals(1, inactiveOfBob);
+        assertEquals(2, activeOfAnna);
+        assertEquals(1, byNumber);
+        assertEquals(0, none);
+    }
+
+    @Test
+    void export_CsvSpecialCharacters_AreQuotedAndEscaped() throws IOException {
+        // Act
+        String quoted = csv(filter().accountNumber(accountNumbers.get(2L)).build());
+        String multiline = csv(filter().accountNumber(accountNumbers.get(3L)).build());
+        String plain = csv(filter().accountNumber(accountNumbers.get(4L)).build());
+
+        // Assert
+        assertEquals(CSV_HEADER + "\n2," + accountNumbers.get(2L) + ",\"Rent, \"\"flat\"\" 2\",SAVINGS,0.00,USD,ACTIVE,"
+                + "anna@example.com,2025-01-01T12:00\n", quoted);
+        assertEquals(CSV_HEADER + "\n3," + accountNumbers.get(3L) + ",\"Line\nbreak\",CREDIT_CARD,-20.00,USD,INACTIVE,"
+                + "bob@example.com,2025-01-01T12:00\n", multiline);
+        assertEquals(CSV_HEADER + "\n4," + accountNumbers.get(4L) + ",Simple,SAVINGS,7.25,USD,INACTIVE,"
+                + "bob@example.com,2025-01-01T12:00\n", plain);
+    }
+
+    @Test
+    void validateFilter_UnknownEmail_Throws() {
+        // Act & Assert
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> accountExportService.validateFilter(filter().email("nobody@example.com").build()));
+        assertEquals(ErrorMessages.UNKNOWN_FILTER_EMAIL, exception.getMessage());
+    }
+
+    @Test
+    void exportEndpoint_UnknownEmail_ReturnsBadRequestBeforeStreaming() throws Exception {
+        // Act & Assert
+        mockMvc().perform(get("/api/accounts/all/export").param("email", "nobody@example.com"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value(ErrorMessages.UNKNOWN_FILTER_EMAIL));
+    }
+
+    @Test
+    void exportEndpoint_Csv_StreamsAttachment() throws Exception {
+        // Arrange
+        MockMvc mockMvc = mockMvc();
+        MvcResult started = mockMvc.perform(get("/api/accounts/all/export")
+                        .param("format", "CSV")
+                        .param("email", "anna@example.com"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Act & Assert
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"accounts.csv\""))
+                .andExpect(result -> assertEquals(3,
+                        result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n").length));
+    }
+
+    private MockMvc mockMvc() {
+        AccountController controller = new AccountController(mock(AccountService.class), accountExportService,
+                mock(StatementImportService.class), mock(TransactionHistoryService.class));
+        return MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    private long csvRows(AccountFilterRequestDTO filter) throws IOException {
+        CountingOutputStream counting = new CountingOutputStream();
+        accountExportService.export(filter, AccountExportService.Format.CSV, counting);
+        return counting.lines() - 1;
+    }
+
+    private String csv(AccountFilterRequestDTO filter) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        accountExportService.export(filter, AccountExportService.Format.CSV, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static AccountFilterRequestDTO.AccountFilterRequestDTOBuilder filter() {
+        return AccountFilterRequestDTO.builder();
+    }
+
+    static void createTables(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, email VARCHAR(255))");
+        jdbcTemplate.execute("""
+                CREATE TABLE accounts (
+                    id BIGINT PRIMARY KEY, account_number VARCHAR(16), name VARCHAR(50), type VARCHAR(16),
+                    balance NUMERIC(19, 2), currency VARCHAR(3), status VARCHAR(16), user_id BIGINT,
+                    created_at TIMESTAMP(6), fold_checkpoint BIGINT)""");
+        jdbcTemplate.execute("CREATE TABLE ledger_postings (account_id BIGINT, amount NUMERIC(19, 2), fold_checkpoint BIGINT)");
+    }
+
+    private void insert(JdbcTemplate jdbcTemplate, long id, String name, Account.AccountType type, String balance,
+                        String status, long userId) {
+        String accountNumber = AccountNumbers.format(type, 2025, id);
+        accountNumbers.put(id, accountNumber);
+        jdbcTemplate.update("INSERT INTO accounts VALUES (?, ?, ?, ?, ?, 'USD', ?, ?, ?, 0)",
+                id, accountNumber, name, type.name(), new BigDecimal(balance), status, userId, CREATED_AT);
+    }
+}
@@ -0,0 +1,182 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.model.Account;
+import com.fintrack.fintrack_api.model.AccountNumberBlock;
+import com.fintrack.fintrack_api.model.Users;
+import com.fintrack.fintrack_api.model.enums.Role;
+import com.fintrack.fintrack_api.repository.AccountNumberBlockRepository;
+import com.fintrack.fintrack_api.repository.AccountRepository;
+import com.fintrack.fintrack_api.repository.UserRepository;
+import com.fintrack.fintrack_api.util.AccountNumbers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Runs several generator instances, each standing in for a node, against the real allocator and
+ * {@code account_number_blocks} table. Every test starts without an allocation row for the year,
+ * so the first reservations race to create it from the highest sequence already in use.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.sql.init.mode=never",
+        "spring.jpa.show-sql=false"
+})
+@Import({AccountNumberBlockAllocator.class, AccountNumberAllocationConcurrencyTest.PasswordEncoderConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccountNumberAllocationConcurrencyTest {
+
+    private static final int YEAR = Year.now().getValue();
+    private static final long HIGHEST_EXISTING_SEQUENCE = 41;
+    private static final int BLOCK_SIZE = 10;
+
+    @Autowired
+    private AccountNumberBlockAllocator accountNumberBlockAllocator;
+
+    @MockitoSpyBean
+    private AccountNumberBlockRepository accountNumberBlockRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        Users user = userRepository.save(Users.builder()
+                .email("numbers@testexample.com")
+                .password("password")
+                .firstName("Name")
+                .lastName("Surname")
+                .phoneNumber("+15550007777")
+                .roles(EnumSet.of(Role.USER))
+                .enabled(true)
+                .build());
+        accountRepository.save(Account.builder()
+                .accountNumber(AccountNumbers.format(Account.AccountType.CHECKING, YEAR, HIGHEST_EXISTING_SEQUENCE))
+                .name("Existing account")
+                .type(Account.AccountType.CHECKING)
+                .balance(BigDecimal.ZERO)
+                .currency("USD")
+                .user(user)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountNumberBlockRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll(userRepository.findAll().stream()
+                .filter(user -> user.getEmail().endsWith("@testexample.com"))
+                .toList());
+    }
+
+    @Test
+    void generateAccountNumber_ConcurrentNodesWithoutRow_HandOutDisjointSequences() throws Exception {
+        // Arrange
+        List<AccountNumberGeneratorService> nodes = List.of(newNode(), newNode(), newNode(), newNode());
+        int threads = 8;
+        int numbersPerThread = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<Long> sequences = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>(threads);
+
+        // Act
+        try {
+            for (int t = 0; t < threads; t++) {
+                AccountNumberGeneratorService node = nodes.get(t % nodes.size());
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < numbersPerThread; i++) {
+                        String accountNumber = node.generateAccountNumber(Account.AccountType.SAVINGS);
+                        assertTrue(sequences.add(Long.parseLong(accountNumber.substring(8, 14))));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(threads * numbersPerThread, sequences.size());
+        assertTrue(sequences.stream().allMatch(sequence -> sequence > HIGHEST_EXISTING_SEQUENCE));
+        AccountNumberBlock block = accountNumberBlockRepository.findById(YEAR).orElseThrow();
+        assertTrue(block.getNextValue() > sequences.stream().mapToLong(Long::longValue).max().orElseThrow());
+        verify(accountNumberBlockRepository, atLeast(threads * numbersPerThread / BLOCK_SIZE)).findByYearForUpdate(YEAR);
+    }
+
+    @Test
+    void generateAccountNumber_RowCreatedByAnotherNode_RetriesOnExistingRow() {
+        // Arrange
+        AccountNumberGeneratorService first = newNode();
+        AccountNumberGeneratorService late = newNode();
+        String firstNumber = first.generateAccountNumber(Account.AccountType.CHECKING);
+        // The late node looked for the row before the first one committed it
+        Answer<?> repository = mockingDetails(accountNumberBlockRepository).getMockCreationSettings().getDefaultAnswer();
+        doReturn(Optional.empty()).doAnswer(repository).when(accountNumberBlockRepository).findByYearForUpdate(anyInt());
+
+        // Act
+        String lateNumber = late.generateAccountNumber(Account.AccountType.CHECKING);
+
+        // Assert
+        assertEquals(HIGHEST_EXISTING_SEQUENCE + 1, Long.parseLong(firstNumber.substring(8, 14)));
+        assertEquals(HIGHEST_EXISTING_SEQUENCE + 1 + BLOCK_SIZE, Long.parseLong(lateNumber.substring(8, 14)));
+        assertEquals(HIGHEST_EXISTING_SEQUENCE + 1 + 2 * BLOCK_SIZE,
+                accountNumberBlockRepository.findById(YEAR).orElseThrow().getNextValue());
+    }
+
+    private AccountNumberGeneratorService newNode() {
+        AccountNumberGeneratorService generator = new AccountNumberGeneratorService(accountNumberBlockAllocator);
+        ReflectionTestUtils.setField(generator, "blockSize", BLOCK_SIZE);
+        return generator;
+    }
+
+    @TestConfiguration
+    static class PasswordEncoderConfiguration {
+
+        @Bean
+        BCryptPasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.model.Account;
+import com.fintrack.fintrack_api.util.AccountNumbers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigInteger;
+import java.time.Year;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountNumberGeneratorServiceTest {
+
+    private static final int BLOCK_SIZE = 50;
+
+    @Mock
+    private AccountNumberBlockAllocator accountNumberBlockAllocator;
+
+    private final AtomicLong nextFreeSequence = new AtomicLong(1);
+
+    @BeforeEach
+    void setUp() {
+        // Mirrors the row-locked allocation table: every reservation gets a disjoint range
+        lenient().when(accountNumberBlockAllocator.reserve(anyInt(), anyInt()))
+                .thenAnswer(invocation -> nextFreeSequence.getAndAdd(invocation.<Integer>getArgument(1)));
+    }
+
+    @Test
+    void testGenerateAccountNumber_Format() {
+        // Arrange
+        AccountNumberGeneratorService generator = newGenerator();
+
+        // Act
+        String accountNumber = generator.generateAccountNumber(Account.AccountType.SAVINGS);
+
+        // Assert
+        assertEquals(16, accountNumber.length());
+        assertTrue(accountNumber.startsWith("FTSS" + Year.now().getValue() + "000001"));
+        assertTrue(accountNumber.substring(14).chars().allMatch(Character::isDigit));
+        assertTrue(AccountNumbers.isValid(accountNumber));
+    }
+
+    @Test
+    void testGenerateAccountNumber_CheckDigitsMatchBigIntegerMod97() {
+        // Arrange
+        AccountNumberGeneratorService generator = newGenerator();
+
+        for (Account.AccountType type : Account.AccountType.values()) {
+            // Act
+            String accountNumber = generator.generateAccountNumber(type);
+
+            // Assert
+            StringBuilder numeric = new StringBuilder();
+            for (char c : accountNumber.substring(0, 14).toCharArray()) {
+                numeric.append(Character.isLetter(c) ? String.valueOf(10 + c - 'A') : String.valueOf(c));
+            }
+            int expected = 98 - new BigInteger(numeric.append("00").toString()).mod(BigInteger.valueOf(97)).intValue();
+            assertEquals(String.format("%02d", expected), accountNumber.substring(14));
+        }
+    }
+
+    @Test
+    void testIsValid_RejectsMalformedAndTamperedNumbers() {
+        // Arrange
+        String valid = newGenerator().generateAccountNumber(Account.AccountType.CHECKING);
+        char lastDigit = valid.charAt(15);
+        String tampered = valid.substring(0, 15) + (char) (lastDigit == '9' ? '0' : lastDigit + 1);
+
+        // Act & Assert
+        assertTrue(AccountNumbers.isValid(valid));
+        assertFalse(AccountNumbers.isValid(tampered));
+        assertFalse(AccountNumbers.isValid(valid.substring(1)));
+        assertFalse(AccountNumbers.isValid("XYZ" + valid.substring(3)));
+        assertFalse(AccountNumbers.isValid(valid.replace('C', 'X')));
+        assertFalse(AccountNumbers.isValid(null));
+    }
+
+    @Test
+    void testGenerateAccountNumber_ReservesOneBlockPerBlockSize() {
+        // Arrange
+        AccountNumberGeneratorService generator = newGenerator();
+
+        // Act
+        for (int i = 0; i < BLOCK_SIZE * 3; i++) {
+            generator.generateAccountNumber(Account.AccountType.CHECKING);
+        }
+
+        // Assert
+        verify(accountNumberBlockAllocator, times(3)).reserve(Year.now().getValue(), BLOCK_SIZE);
+    }
+
+    @Test
+    void testGenerateAccountNumber_ConcurrentNodesProduceUniqueNumbers() throws Exception {
+        // Arrange
+        List<AccountNumberGeneratorService> nodes = List.of(newGenerator(), newGenerator(), newGenerator());
+        int threads = 24;
+        int numbersPerThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<String> accountNumbers = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            AccountNumberGeneratorService node = nodes.get(t % nodes.size());
+            Account.AccountType type = Account.AccountType.values()[t % Account.AccountType.values().length];
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < numbersPerThread; i++) {
+                    assertTrue(accountNumbers.add(node.generateAccountNumber(type)));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(threads * numbersPerThread, accountNumbers.size());
+        Set<String> sequences = new HashSet<>();
+        accountNumbers.forEach(number -> sequences.add(number.substring(8, 14)));
+        assertEquals(threads * numbersPerThread, sequences.size());
+        verify(accountNumberBlockAllocator, atLeast(threads * numbersPerThread / BLOCK_SIZE))
+                .reserve(eq(Year.now().getValue()), eq(BLOCK_SIZE));
+    }
+
+    @Test
+    void testGenerateAccountNumbers_ReservesSingleRange() {
+        // Arrange
+        AccountNumberGeneratorService generator = newGenerator();
+        List<Account.AccountType> types = Collections.nCopies(BLOCK_SIZE * 4, Account.AccountType.SAVINGS);
+
+        // Act
+        List<String> accountNumbers = generator.generateAccountNumbers(types);
+
+        // Assert
+        assertEquals(types.size(), new HashSet<>(accountNumbers).size());
+        assertTrue(accountNumbers.stream().allMatch(AccountNumbers::isValid));
+        verify(accountNumberBlockAllocator, times(1)).reserve(Year.now().getValue(), types.size());
+    }
+
+    @Test
+    void testGenerateAccountNumber_SequenceExhausted() {
+        // Arrange
+        AccountNumberGeneratorService generator = newGenerator();
+        nextFreeSequence.set(1_000_000L);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> generator.generateAccountNumber(Account.AccountType.CREDIT_CARD));
+    }
+
+    private AccountNumberGeneratorService newGenerator() {
+        AccountNumberGeneratorService generator = new AccountNumberGeneratorService(accountNumberBlockAllocator);
+        ReflectionTestUtils.setField(generator, "blockSize", BLOCK_SIZE);
+        return generator;
+    }
+}
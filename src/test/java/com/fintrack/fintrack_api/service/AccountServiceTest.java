@@ -0,0 +1,284 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.dto.request.UpdateAccountRequestDTO;
+import com.fintrack.fintrack_api.dto.response.AccountResponseDTO;
+import com.fintrack.fintrack_api.exception.AccountNotFoundException;
+import com.fintrack.fintrack_api.exception.AccountVersionConflictException;
+import com.fintrack.fintrack_api.exception.InvalidRequestException;
+import com.fintrack.fintrack_api.mapper.AccountMapper;
+import com.fintrack.fintrack_api.mapper.AccountMapperImpl;
+import com.fintrack.fintrack_api.model.Account;
+import com.fintrack.fintrack_api.model.Users;
+import com.fintrack.fintrack_api.model.enums.Role;
+import com.fintrack.fintrack_api.repository.AccountRepository;
+import com.fintrack.fintrack_api.repository.UserRepository;
+import com.fintrack.fintrack_api.repository.projection.AccountBalanceRow;
+import com.fintrack.fintrack_api.security.UserPrincipal;
+import com.fintrack.fintrack_api.util.AccountNumbers;
+import com.fintrack.fintrack_api.util.ErrorMessages;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * The guarded renames are native {@code UPDATE ... RETURNING} statements, which only Postgres
+ * runs; these tests cover what the service does with the returned row or its absence.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 1, 9, 30);
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private AccountMapper accountMapper = new AccountMapperImpl();
+
+    @Mock
+    private AccountNumberGeneratorService accountNumberGeneratorService;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private ActiveAccountsCache activeAccountsCache;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @InjectMocks
+    private AccountService accountService;
+
+    private Users user;
+    private UserPrincipal currentUser;
+    private String accountNumber;
+
+    @BeforeEach
+    void setUp() {
+        user = Users.builder()
+                .id(7L)
+                .email("owner@testexample.com")
+                .roles(EnumSet.of(Role.USER))
+                .enabled(true)
+                .build();
+        currentUser = new UserPrincipal(user);
+        accountNumber = AccountNumbers.format(Account.AccountType.SAVINGS, 2025, 12);
+    }
+
+    @Test
+    void updateAccountById_CurrentVersion_MapsReturnedRowWithPendingPostings() {
+        // Arrange
+        when(accountRepository.renameActiveAccountById(eq(3L), eq(7L), eq(4L), eq("Holidays"), any()))
+                .thenReturn(Optional.of(updatedAccount()));
+        when(ledgerService.withPendingPostings(any(AccountResponseDTO.class)))
+                .thenAnswer(invocation -> invocation.<AccountResponseDTO>getArgument(0).withBalance(new BigDecimal("125.00")));
+
+        // Act
+        AccountResponseDTO result = accountService.updateAccountById(3L, new UpdateAccountRequestDTO("Holidays", 4L), currentUser);
+
+        // Assert
+        assertEquals(3L, result.id());
+        assertEquals(accountNumber, result.accountNumber());
+        assertEquals("Holidays", result.name());
+        assertEquals(Account.AccountType.SAVINGS, result.type());
+        assertEquals(new BigDecimal("125.00"), result.balance());
+        assertEquals("EUR", result.currency());
+        assertEquals(Account.AccountStatus.ACTIVE, result.status());
+        assertEquals("owner@testexample.com", result.userEmail());
+        assertEquals(CREATED_AT, result.createdAt());
+        assertEquals(5L, result.version());
+        verify(activeAccountsCache).invalidateAfterCommit(7L);
+        verify(accountRepository, never()).existsByIdAndUserAndStatus(any(), any(), any());
+    }
+
+    @Test
+    void updateAccountById_StaleVersion_ThrowsConflict() {
+        // Arrange
+        when(accountRepository.renameActiveAccountById(eq(3L), eq(7L), eq(4L), eq("Holidays"), any()))
+                .thenReturn(Optional.empty());
+        when(userRepository.getReferenceById(7L)).thenReturn(user);
+        when(accountRepository.existsByIdAndUserAndStatus(3L, user, Account.AccountStatus.ACTIVE)).thenReturn(true);
+
+        // Act & Assert
+        AccountVersionConflictException exception = assertThrows(AccountVersionConflictException.class,
+                () -> accountService.updateAccountById(3L, new UpdateAccountRequestDTO("Holidays", 4L), currentUser));
+        assertEquals(ErrorMessages.STALE_ACCOUNT_VERSION, exception.getMessage());
+        verifyNoInteractions(activeAccountsCache);
+    }
+
+    @Test
+    void updateAccountById_NoMatchingAccount_ThrowsNotFound() {
+        // Arrange
+        when(accountRepository.renameActiveAccountById(eq(3L), eq(7L), eq(4L), eq("Holidays"), any()))
+                .thenReturn(Optional.empty());
+        when(userRepository.getReferenceById(7L)).thenReturn(user);
+        when(accountRepository.existsByIdAndUserAndStatus(3L, user, Account.AccountStatus.ACTIVE)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(AccountNotFoundException.class,
+                () -> accountService.updateAccountById(3L, new UpdateAccountRequestDTO("Holidays", 4L), currentUser));
+        verifyNoInteractions(activeAccountsCache);
+    }
+
+    @Test
+    void updateAccountByAccountNumber_CurrentVersion_PassesVersionToGuardedUpdate() {
+        // Arrange
+        when(accountRepository.renameActiveAccountByAccountNumber(eq(accountNumber), eq(7L), eq(4L), eq("Holidays"), any()))
+                .thenReturn(Optional.of(updatedAccount()));
+        when(ledgerService.withPendingPostings(any(AccountResponseDTO.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        AccountResponseDTO result = accountService.updateAccountByAccountNumber(accountNumber,
+                new UpdateAccountRequestDTO("Holidays", 4L), currentUser);
+
+        // Assert
+        assertEquals(5L, result.version());
+        assertEquals(new BigDecimal("100.00"), result.balance());
+        verify(activeAccountsCache).invalidateAfterCommit(7L);
+    }
+
+    @Test
+    void updateAccountByAccountNumber_StaleVersion_ThrowsConflict() {
+        // Arrange
+        when(accountRepository.renameActiveAccountByAccountNumber(eq(accountNumber), eq(7L), eq(4L), eq("Holidays"), any()))
+                .thenReturn(Optional.empty());
+        when(userRepository.getReferenceById(7L)).thenReturn(user);
+        when(accountRepository.existsByAccountNumberAndUserAndStatus(accountNumber, user, Account.AccountStatus.ACTIVE))
+                .thenReturn(true);
+
+        // Act & Assert
+        assertThrows(AccountVersionConflictException.class, () -> accountService.updateAccountByAccountNumber(
+                accountNumber, new UpdateAccountRequestDTO("Holidays", 4L), currentUser));
+    }
+
+    @Test
+    void updateAccountByAccountNumber_NoMatchingAccount_ThrowsNotFound() {
+        // Arrange
+        when(accountRepository.renameActiveAccountByAccountNumber(eq(accountNumber), eq(7L), eq(4L), eq("Holidays"), any()))
+                .thenReturn(Optional.empty());
+        when(userRepository.getReferenceById(7L)).thenReturn(user);
+        when(accountRepository.existsByAccountNumberAndUserAndStatus(accountNumber, user, Account.AccountStatus.ACTIVE))
+                .thenReturn(false);
+
+        // Act & Assert
+        AccountNotFoundException exception = assertThrows(AccountNotFoundException.class,
+                () -> accountService.updateAccountByAccountNumber(accountNumber,
+                        new UpdateAccountRequestDTO("Holidays", 4L), currentUser));
+        assertEquals("Account with account number " + accountNumber + " not found", exception.getMessage());
+    }
+
+    @Test
+    void updateAccountById_MissingVersion_ThrowsBeforeUpdating() {
+        // Act & Assert
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> accountService.updateAccountById(3L, new UpdateAccountRequestDTO("Holidays", null), currentUser));
+        assertEquals(ErrorMessages.NULL_ACCOUNT_VERSION, exception.getMessage());
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void getAllActiveUserAccounts_CachedListWithCurrentVersions_ServesCurrentBalances() {
+        // Arrange
+        AccountResponseDTO cached = accountResponse(3L, "100.00", 5L);
+        when(activeAccountsCache.getIfPresent(7L)).thenReturn(List.of(cached));
+        when(accountRepository.findActiveAccountBalancesByUserId(7L))
+                .thenReturn(List.of(new AccountBalanceRow(3L, new BigDecimal("42.50"), 5L)));
+
+        // Act
+        List<AccountResponseDTO> result = accountService.getAllActiveUserAccounts(currentUser);
+
+        // Assert
+        assertEquals(List.of(cached.withBalance(new BigDecimal("42.50"))), result);
+        verify(accountRepository, never()).findActiveAccountViewsByUserId(any());
+        verify(activeAccountsCache, never()).put(any(), any());
+    }
+
+    @Test
+    void getAllActiveUserAccounts_AccountChangedElsewhere_ReloadsAndCachesList() {
+        // Arrange
+        List<AccountResponseDTO> current = List.of(accountResponse(3L, "42.50", 6L));
+        when(activeAccountsCache.getIfPresent(7L)).thenReturn(List.of(accountResponse(3L, "100.00", 5L)));
+        when(accountRepository.findActiveAccountBalancesByUserId(7L))
+                .thenReturn(List.of(new AccountBalanceRow(3L, new BigDecimal("42.50"), 6L)));
+        when(accountRepository.findActiveAccountViewsByUserId(7L)).thenReturn(current);
+
+        // Act
+        List<AccountResponseDTO> result = accountService.getAllActiveUserAccounts(currentUser);
+
+        // Assert
+        assertEquals(current, result);
+        verify(activeAccountsCache).put(7L, current);
+    }
+
+    @Test
+    void getAllActiveUserAccounts_AccountOpenedElsewhere_ReloadsAndCachesList() {
+        // Arrange
+        List<AccountResponseDTO> current = List.of(accountResponse(3L, "100.00", 5L), accountResponse(4L, "0.00", 0L));
+        when(activeAccountsCache.getIfPresent(7L)).thenReturn(List.of(accountResponse(3L, "100.00", 5L)));
+        when(accountRepository.findActiveAccountBalancesByUserId(7L)).thenReturn(List.of(
+                new AccountBalanceRow(3L, new BigDecimal("100.00"), 5L),
+                new AccountBalanceRow(4L, BigDecimal.ZERO, 0L)));
+        when(accountRepository.findActiveAccountViewsByUserId(7L)).thenReturn(current);
+
+        // Act
+        List<AccountResponseDTO> result = accountService.getAllActiveUserAccounts(currentUser);
+
+        // Assert
+        assertEquals(current, result);
+        verify(activeAccountsCache).put(7L, current);
+    }
+
+    @Test
+    void getAllActiveUserAccounts_NothingCached_LoadsWithoutBalanceQuery() {
+        // Arrange
+        List<AccountResponseDTO> current = List.of(accountResponse(3L, "100.00", 5L));
+        when(activeAccountsCache.getIfPresent(7L)).thenReturn(null);
+        when(accountRepository.findActiveAccountViewsByUserId(7L)).thenReturn(current);
+
+        // Act
+        List<AccountResponseDTO> result = accountService.getAllActiveUserAccounts(currentUser);
+
+        // Assert
+        assertEquals(current, result);
+        verify(activeAccountsCache).put(7L, current);
+        verify(accountRepository, never()).findActiveAccountBalancesByUserId(any());
+    }
+
+    private AccountResponseDTO accountResponse(Long id, String balance, Long version) {
+        return new AccountResponseDTO(id, accountNumber, "Holidays", Account.AccountType.SAVINGS, new BigDecimal(balance),
+                "EUR", Account.AccountStatus.ACTIVE, "owner@testexample.com", CREATED_AT, version);
+    }
+
+    private Account updatedAccount() {
+        return Account.builder()
+                .id(3L)
+                .accountNumber(accountNumber)
+                .name("Holidays")
+                .type(Account.AccountType.SAVINGS)
+                .balance(new BigDecimal("100.00"))
+                .currency("EUR")
+                .status(Account.AccountStatus.ACTIVE)
+                .createdAt(CREATED_AT)
+                .version(5L)
+                .build();
+    }
+}
@@ -0,0 +1,271 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.dto.request.CardTransactionEventDTO;
+import com.fintrack.fintrack_api.exception.InvalidRequestException;
+import com.fintrack.fintrack_api.model.Account;
+import com.fintrack.fintrack_api.model.Transaction;
+import com.fintrack.fintrack_api.model.Users;
+import com.fintrack.fintrack_api.model.enums.Role;
+import com.fintrack.fintrack_api.repository.AccountRepository;
+import com.fintrack.fintrack_api.repository.JournalCheckpointRepository;
+import com.fintrack.fintrack_api.repository.LedgerEntryRepository;
+import com.fintrack.fintrack_api.repository.LedgerPostingRepository;
+import com.fintrack.fintrack_api.repository.TransactionRepository;
+import com.fintrack.fintrack_api.repository.UserRepository;
+import com.fintrack.fintrack_api.util.AccountNumbers;
+import com.fintrack.fintrack_api.util.MappedJournal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs the card feed against a real database and a journal in a temporary directory. A crash is
+ * simulated by starting a second service on the same directory without shutting down the first.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.sql.init.mode=never",
+        "spring.jpa.show-sql=false"
+})
+@Import({LedgerService.class, CardFeedIngestionServiceTest.PasswordEncoderConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CardFeedIngestionServiceTest {
+
+    private static final BigDecimal OPENING_BALANCE = new BigDecimal("100.00");
+
+    @TempDir
+    Path directory;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private LedgerPostingRepository ledgerPostingRepository;
+
+    @Autowired
+    private JournalCheckpointRepository journalCheckpointRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        Users user = userRepository.save(Users.builder()
+                .email("cardfeed@testexample.com")
+                .password("password")
+                .firstName("Name")
+                .lastName("Surname")
+                .phoneNumber("+15550008888")
+                .roles(EnumSet.of(Role.USER))
+                .enabled(true)
+                .build());
+        account = accountRepository.save(Account.builder()
+                .accountNumber(AccountNumbers.format(Account.AccountType.CHECKING, 2025, 800_000))
+                .name("Card account")
+                .type(Account.AccountType.CHECKING)
+                .balance(OPENING_BALANCE)
+                .currency("USD")
+                .user(user)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        ledgerPostingRepository.deleteAll();
+        ledgerEntryRepository.deleteAll();
+        transactionRepository.deleteAll();
+        journalCheckpointRepository.deleteAll();
+        accountRepository.deleteById(account.getId());
+        userRepository.deleteAll(userRepository.findAll().stream()
+                .filter(user -> user.getEmail().endsWith("@testexample.com"))
+                .toList());
+    }
+
+    @Test
+    void flush_IngestedEvents_AppliesPaymentsAndRefunds() throws IOException {
+        // Arrange
+        CardFeedIngestionService service = startService();
+        service.ingest(List.of(event("-30.00"), event("-20.50"), event("5.25")));
+
+        // Act
+        service.flush();
+
+        // Assert
+        assertEquals(3, transactionRepository.count());
+        assertEquals(0, new BigDecimal("54.75").compareTo(currentBalance()));
+        Transaction refund = transactionRepository.findAll().stream()
+                .filter(transaction -> transaction.getSourceAccount() == null)
+                .findFirst().orElseThrow();
+        assertEquals(Transaction.TransactionType.CARD, refund.getType());
+        assertEquals(0, new BigDecimal("5.25").compareTo(refund.getAmount()));
+        assertEquals("eating-out", refund.getCategory());
+    }
+
+    @Test
+    void flush_AfterCrashBeforeFlush_ReplaysAcceptedEventsOnce() throws IOException {
+        // Arrange
+        CardFeedIngestionService crashed = startService();
+        crashed.ingest(List.of(event("-10.00"), event("-15.00")));
+
+        // Act
+        CardFeedIngestionService restarted = startService();
+        restarted.flush();
+        restarted.flush();
+
+        // Assert
+        assertEquals(2, transactionRepository.count());
+        assertEquals(0, new BigDecimal("75.00").compareTo(currentBalance()));
+    }
+
+    @Test
+    void flush_AfterCrashFollowingFlush_DoesNotApplyEventsAgain() throws IOException {
+        // Arrange
+        CardFeedIngestionService crashed = startService();
+        crashed.ingest(List.of(event("-10.00")));
+        crashed.flush();
+        crashed.ingest(List.of(event("-1.00")));
+
+        // Act
+        CardFeedIngestionService restarted = startService();
+        restarted.flush();
+
+        // Assert
+        assertEquals(2, transactionRepository.count());
+        assertEquals(0, new BigDecimal("89.00").compareTo(currentBalance()));
+    }
+
+    @Test
+    void flush_UnknownAccountOrCurrency_DropsOnlyThoseEvents() throws IOException {
+        // Arrange
+        CardFeedIngestionService service = startService();
+        String unknownAccount = AccountNumbers.format(Account.AccountType.CHECKING, 2025, 800_001);
+        service.ingest(List.of(
+                new CardTransactionEventDTO(unknownAccount, new BigDecimal("-1.00"), "USD", null, null),
+                new CardTransactionEventDTO(account.getAccountNumber(), new BigDecimal("-1.00"), "EUR", null, null),
+                event("-1.00")));
+
+        // Act
+        service.flush();
+
+        // Assert
+        assertEquals(1, transactionRepository.count());
+        assertEquals(0, new BigDecimal("99.00").compareTo(currentBalance()));
+    }
+
+    @Test
+    void flush_DeactivatedAccount_DropsItsEvents() throws IOException {
+        // Arrange
+        CardFeedIngestionService service = startService();
+        service.ingest(List.of(event("-1.00")));
+        account.setStatus(Account.AccountStatus.INACTIVE);
+        accountRepository.save(account);
+
+        // Act
+        service.flush();
+
+        // Assert
+        assertEquals(0, transactionRepository.count());
+        assertEquals(0, OPENING_BALANCE.compareTo(currentBalance()));
+    }
+
+    @Test
+    void flush_BacklogLargerThanMaxBatches_AppliesRestInNextRun() throws IOException {
+        // Arrange
+        CardFeedIngestionService service = startService(2);
+        service.ingest(Collections.nCopies(100, event("-0.10")));
+        service.ingest(Collections.nCopies(50, event("-0.10")));
+
+        // Act
+        service.flush();
+
+        // Assert
+        assertEquals(100, transactionRepository.count());
+        service.flush();
+        assertEquals(150, transactionRepository.count());
+        assertEquals(0, new BigDecimal("85.00").compareTo(currentBalance()));
+    }
+
+    @Test
+    void ingest_InvalidEvent_RejectsWholeRequest() throws IOException {
+        // Arrange
+        CardFeedIngestionService service = startService();
+        List<CardTransactionEventDTO> events = List.of(event("-1.00"), event("0.00"));
+
+        // Act & Assert
+        assertThrows(InvalidRequestException.class, () -> service.ingest(events));
+        service.flush();
+        assertEquals(0, transactionRepository.count());
+        assertNull(journalCheckpointRepository.findAll().stream().findFirst().orElse(null));
+    }
+
+    private CardFeedIngestionService startService() throws IOException {
+        return startService(10);
+    }
+
+    /**
+     * The flusher thread waits an hour before its first run, so only the explicit flushes apply events.
+     */
+    private CardFeedIngestionService startService(int flushMaxBatches) throws IOException {
+        CardFeedIngestionService service = new CardFeedIngestionService(accountRepository, transactionRepository,
+                journalCheckpointRepository, ledgerService, mock(TransactionHistoryService.class),
+                mock(ActiveAccountsCache.class), transactionManager,
+                new SimpleMeterRegistry(), directory, 4096, false, 100, 50, flushMaxBatches, 3_600_000);
+        service.initialize();
+        return service;
+    }
+
+    private CardTransactionEventDTO event(String amount) {
+        return new CardTransactionEventDTO(account.getAccountNumber(), new BigDecimal(amount), "USD", "Coffee", "eating-out");
+    }
+
+    private BigDecimal currentBalance() {
+        Account current = accountRepository.findById(account.getId()).orElseThrow();
+        return current.getBalance().add(ledgerPostingRepository.sumPendingByAccountId(current.getId()));
+    }
+
+    @TestConfiguration
+    static class PasswordEncoderConfiguration {
+
+        @Bean
+        BCryptPasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+    }
+}
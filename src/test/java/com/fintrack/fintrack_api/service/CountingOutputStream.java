@@ -0,0 +1,39 @@
+package com.fintrack.fintrack_api.service;
+
+import java.io.OutputStream;
+
+/**
+ * Discards everything written to it, counting bytes and lines, so a test can stream an export of
+ * any size without holding it.
+ */
+class CountingOutputStream extends OutputStream {
+
+    private long bytes;
+    private long lines;
+
+    @Override
+    public void write(int b) {
+        bytes++;
+        if (b == '\n') {
+            lines++;
+        }
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) {
+        bytes += length;
+        for (int i = offset; i < offset + length; i++) {
+            if (buffer[i] == '\n') {
+                lines++;
+            }
+        }
+    }
+
+    long bytes() {
+        return bytes;
+    }
+
+    long lines() {
+        return lines;
+    }
+}
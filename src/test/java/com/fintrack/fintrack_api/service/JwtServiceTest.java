@@ -0,0 +1,111 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.security.TokenEpochRegistry;
+import com.fintrack.fintrack_api.security.UserPrincipal;
+import com.fintrack.fintrack_api.security.VerifiedToken;
+import com.fintrack.fintrack_api.security.VerifiedTokenCache;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs the real parser and cache, so a token that verifies from the cache returns the very
+ * instance the first verification produced.
+ */
+class JwtServiceTest {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("jwt-service-test-secret-32-bytes".getBytes());
+
+    private UserPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        principal = new UserPrincipal(UserMockedObjects.mockUser());
+    }
+
+    @Test
+    void verifyJwtToken_ValidToken_CarriesIdentityClaims() {
+        // Arrange
+        JwtService jwtService = jwtService(60_000);
+        String token = generate(jwtService);
+
+        // Act
+        VerifiedToken verified = jwtService.verifyJwtToken(token);
+
+        // Assert
+        assertEquals(principal.getUsername(), verified.subject());
+        assertEquals(principal.getId(), verified.userId());
+        assertEquals(principal.getTokenEpoch(), verified.epoch());
+        assertEquals(List.of("USER"), verified.roles());
+    }
+
+    @Test
+    void verifyJwtToken_SameTokenTwice_ReusesFirstVerification() {
+        // Arrange
+        JwtService jwtService = jwtService(60_000);
+        String token = generate(jwtService);
+        VerifiedToken first = jwtService.verifyJwtToken(token);
+
+        // Act
+        VerifiedToken second = jwtService.verifyJwtToken(token);
+
+        // Assert
+        assertSame(first, second);
+    }
+
+    @Test
+    void verifyJwtToken_TamperedSignatureOfCachedToken_Throws() {
+        // Arrange
+        JwtService jwtService = jwtService(60_000);
+        String token = generate(jwtService);
+        jwtService.verifyJwtToken(token);
+        int index = token.length() - 10;
+        char replacement = token.charAt(index) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, index) + replacement + token.substring(index + 1);
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> jwtService.verifyJwtToken(tampered));
+    }
+
+    @Test
+    void verifyJwtToken_CachedTokenPastExpiration_Throws() throws InterruptedException {
+        // Arrange
+        JwtService jwtService = jwtService(1_000);
+        String token = generate(jwtService);
+        jwtService.verifyJwtToken(token);
+
+        // Act
+        // The exp claim has whole-second precision, so wait past the next full second
+        Thread.sleep(2_000);
+
+        // Assert
+        assertThrows(ExpiredJwtException.class, () -> jwtService.verifyJwtToken(token));
+    }
+
+    private JwtService jwtService(int expirationMs) {
+        JwtService jwtService = new JwtService(new VerifiedTokenCache(100, expirationMs, new SimpleMeterRegistry()),
+                mock(TokenEpochRegistry.class));
+        ReflectionTestUtils.setField(jwtService, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpirationMs", expirationMs);
+        ReflectionTestUtils.invokeMethod(jwtService, "initKey");
+        return jwtService;
+    }
+
+    private String generate(JwtService jwtService) {
+        return jwtService.generateJwtToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
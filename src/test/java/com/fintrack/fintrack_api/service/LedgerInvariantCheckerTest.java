@@ -0,0 +1,133 @@
+package com.fintrack.fintrack_api.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the partitioned invariant queries against H2 in PostgreSQL mode. Every account {@code n}
+ * has one folded entry {@code n} that credits it {@code n} and debits the same amount to the
+ * outside world (a posting without an account). Every account has been folded once.
+ */
+class LedgerInvariantCheckerTest {
+
+    private static final int ACCOUNTS = 37;
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private LedgerInvariantChecker checker;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:ledger-invariant;MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE accounts (id BIGINT PRIMARY KEY, balance NUMERIC(19, 2) NOT NULL, fold_checkpoint BIGINT NOT NULL)");
+        jdbcTemplate.execute("""
+                CREATE TABLE ledger_postings (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, entry_id BIGINT NOT NULL, account_id BIGINT,
+                    amount NUMERIC(19, 2) NOT NULL, fold_checkpoint BIGINT NOT NULL)""");
+        jdbcTemplate.update("INSERT INTO accounts SELECT X, X, 1 FROM SYSTEM_RANGE(1, ?)", ACCOUNTS);
+        jdbcTemplate.update("""
+                INSERT INTO ledger_postings (entry_id, account_id, amount, fold_checkpoint)
+                SELECT X, X, X, 1 FROM SYSTEM_RANGE(1, ?)
+                UNION ALL
+                SELECT X, NULL, -X, 0 FROM SYSTEM_RANGE(1, ?)""", ACCOUNTS, ACCOUNTS);
+        // A balanced entry whose postings are not folded yet, so they are not in the balance column
+        jdbcTemplate.update("""
+                INSERT INTO ledger_postings (entry_id, account_id, amount, fold_checkpoint)
+                VALUES (?, 1, 5.00, 2), (?, NULL, -5.00, 0)""", ACCOUNTS + 1, ACCOUNTS + 1);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        checker.shutdown();
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void check_ConsistentLedger_ReportsNothing() {
+        // Arrange
+        checker = checker(4);
+
+        // Act
+        LedgerInvariantChecker.Result result = checker.check();
+
+        // Assert
+        assertTrue(result.isConsistent());
+        assertEquals(0.0, violationsGauge());
+    }
+
+    @Test
+    void check_CorruptedBalanceAndPosting_ReportsBothIdsAndUpdatesMetric() {
+        // Arrange
+        checker = checker(4);
+        jdbcTemplate.update("UPDATE accounts SET balance = balance + 0.01 WHERE id = 13");
+        jdbcTemplate.update("UPDATE ledger_postings SET amount = amount - 1 WHERE entry_id = 22 AND account_id IS NULL");
+
+        // Act
+        LedgerInvariantChecker.Result result = checker.check();
+
+        // Assert
+        assertEquals(List.of(13L), result.unbalancedAccountIds());
+        assertEquals(List.of(22L), result.unbalancedEntryIds());
+        assertEquals(2.0, violationsGauge());
+    }
+
+    @Test
+    void check_RepairedLedger_ResetsMetric() {
+        // Arrange
+        checker = checker(4);
+        jdbcTemplate.update("UPDATE accounts SET balance = balance + 1 WHERE id = 5");
+        checker.check();
+        jdbcTemplate.update("UPDATE accounts SET balance = balance - 1 WHERE id = 5");
+
+        // Act
+        LedgerInvariantChecker.Result result = checker.check();
+
+        // Assert
+        assertTrue(result.isConsistent());
+        assertEquals(0.0, violationsGauge());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 8, 50})
+    void check_EveryRowCorrupted_EachPartitionCountsEveryIdExactlyOnce(int partitions) {
+        // Arrange
+        checker = checker(partitions);
+        jdbcTemplate.update("UPDATE accounts SET balance = balance + 1");
+        jdbcTemplate.update("UPDATE ledger_postings SET amount = amount + 1 WHERE account_id IS NULL");
+
+        // Act
+        LedgerInvariantChecker.Result result = checker.check();
+
+        // Assert
+        List<Long> all = LongStream.rangeClosed(1, ACCOUNTS).boxed().toList();
+        assertEquals(all, result.unbalancedAccountIds());
+        assertEquals(LongStream.rangeClosed(1, ACCOUNTS + 1).boxed().toList(), result.unbalancedEntryIds());
+        assertEquals(2.0 * ACCOUNTS + 1, violationsGauge());
+    }
+
+    private LedgerInvariantChecker checker(int partitions) {
+        return new LedgerInvariantChecker(dataSource, new DataSourceTransactionManager(dataSource), meterRegistry,
+                partitions);
+    }
+
+    private double violationsGauge() {
+        return meterRegistry.get(LedgerInvariantChecker.METRIC_NAME).gauge().value();
+    }
+}
@@ -0,0 +1,203 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.exception.InvalidTransactionException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatementReaderTest {
+
+    @Test
+    void csv_QuotedFieldsAndBlankLines_ReadsEveryBooking() throws IOException {
+        // Arrange
+        String csv = """
+                Date,Amount,Description\r
+                2024-01-05,-12.50,Coffee\r
+
+                2024-01-06,1000,"Salary, January"
+                2024-01-07,-3.10,"Say ""hi""
+                on two lines"
+                2024-01-08,-1.00""";
+
+        // Act
+        List<StatementRow> rows = readAll(new CsvStatementReader(new StringReader(csv)));
+
+        // Assert
+        assertEquals(List.of(
+                new StatementRow(2, LocalDate.of(2024, 1, 5), new BigDecimal("-12.50"), "Coffee"),
+                new StatementRow(4, LocalDate.of(2024, 1, 6), new BigDecimal("1000"), "Salary, January"),
+                new StatementRow(5, LocalDate.of(2024, 1, 7), new BigDecimal("-3.10"), "Say \"hi\"\non two lines"),
+                new StatementRow(7, LocalDate.of(2024, 1, 8), new BigDecimal("-1.00"), null)), rows);
+    }
+
+    @Test
+    void csv_MissingHeader_Throws() {
+        // Arrange
+        CsvStatementReader reader = new CsvStatementReader(new StringReader("2024-01-05,-12.50,Coffee\n"));
+
+        // Act & Assert
+        InvalidTransactionException exception = assertThrows(InvalidTransactionException.class, reader::next);
+        assertTrue(exception.getMessage().startsWith("Line 1:"));
+    }
+
+    @Test
+    void csv_InvalidDate_NamesTheLine() throws IOException {
+        // Arrange
+        CsvStatementReader reader = new CsvStatementReader(new StringReader(
+                "date,amount,description\n2024-01-05,-1,A\n05/01/2024,-1,B\n"));
+        reader.next();
+
+        // Act & Assert
+        InvalidTransactionException exception = assertThrows(InvalidTransactionException.class, reader::next);
+        assertTrue(exception.getMessage().startsWith("Line 3:"));
+    }
+
+    @Test
+    void csv_MillionRows_StreamsWithoutMaterializingTheFile() throws IOException {
+        // Arrange
+        int rows = 1_000_000;
+        Reader generated = new GeneratedStatement(rows);
+
+        // Act
+        long count = 0;
+        BigDecimal total = BigDecimal.ZERO;
+        try (CsvStatementReader reader = new CsvStatementReader(generated)) {
+            for (StatementRow row = reader.next(); row != null; row = reader.next()) {
+                count++;
+                total = total.add(row.amount());
+            }
+        }
+
+        // Assert
+        assertEquals(rows, count);
+        assertEquals(0, BigDecimal.valueOf(-rows).compareTo(total));
+    }
+
+    @Test
+    void ofx_SgmlWithHeaderAndUnclosedElements_ReadsBookings() throws IOException {
+        // Arrange
+        String ofx = """
+                OFXHEADER:100
+                DATA:OFXSGML
+                VERSION:102
+
+                <OFX>
+                <BANKMSGSRSV1><STMTTRNRS><STMTRS><CURDEF>USD
+                <BANKTRANLIST>
+                <STMTTRN>
+                <TRNTYPE>DEBIT
+                <DTPOSTED>20240105120000.000[-5:EST]
+                <TRNAMT>-12.50
+                <FITID>1
+                <NAME>Coffee &amp; Cake
+                </STMTTRN>
+                <STMTTRN>
+                <TRNTYPE>CREDIT
+                <DTPOSTED>20240106
+                <TRNAMT>1000,00
+                <MEMO>Salary
+                </STMTTRN>
+                </BANKTRANLIST>
+                </STMTRS></STMTTRNRS></BANKMSGSRSV1>
+                </OFX>
+                """;
+
+        // Act
+        List<StatementRow> rows = readAll(new OfxStatementReader(new StringReader(ofx)));
+
+        // Assert
+        assertEquals(List.of(
+                new StatementRow(8, LocalDate.of(2024, 1, 5), new BigDecimal("-12.50"), "Coffee & Cake"),
+                new StatementRow(15, LocalDate.of(2024, 1, 6), new BigDecimal("1000.00"), "Salary")), rows);
+    }
+
+    @Test
+    void ofx_XmlClosedElements_ReadsBookings() throws IOException {
+        // Arrange
+        String ofx = "<?xml version=\"1.0\"?><OFX><STMTTRN><DTPOSTED>20240105</DTPOSTED><TRNAMT>-1.5</TRNAMT>"
+                + "<NAME>Bus</NAME><MEMO>Ticket</MEMO></STMTTRN></OFX>";
+
+        // Act
+        List<StatementRow> rows = readAll(new OfxStatementReader(new StringReader(ofx)));
+
+        // Assert
+        assertEquals(List.of(new StatementRow(1, LocalDate.of(2024, 1, 5), new BigDecimal("-1.5"), "Bus")), rows);
+    }
+
+    @Test
+    void ofx_MissingAmount_Throws() {
+        // Arrange
+        OfxStatementReader reader = new OfxStatementReader(new StringReader(
+                "<OFX><STMTTRN><DTPOSTED>20240105<NAME>Bus</STMTTRN></OFX>"));
+
+        // Act & Assert
+        assertThrows(InvalidTransactionException.class, reader::next);
+    }
+
+    @Test
+    void key_SameBookingWrittenDifferently_Matches() {
+        // Arrange
+        LocalDate date = LocalDate.of(2024, 1, 5);
+
+        // Act & Assert
+        assertEquals(StatementRow.key(date, new BigDecimal("-12.5"), "Coffee"),
+                StatementRow.key(date, new BigDecimal("-12.50"), " Coffee "));
+        assertNotEquals(StatementRow.key(date, new BigDecimal("-12.50"), "Coffee"),
+                StatementRow.key(date.plusDays(1), new BigDecimal("-12.50"), "Coffee"));
+        assertNotEquals(StatementRow.key(date, new BigDecimal("-12.50"), "Coffee"),
+                StatementRow.key(date, new BigDecimal("12.50"), "Coffee"));
+    }
+
+    private static List<StatementRow> readAll(StatementReader reader) throws IOException {
+        List<StatementRow> rows = new ArrayList<>();
+        for (StatementRow row = reader.next(); row != null; row = reader.next()) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * A CSV statement produced on demand, one row at a time.
+     */
+    private static final class GeneratedStatement extends Reader {
+
+        private final int rows;
+        private int row = -1;
+        private String current = CsvStatementReader.HEADER + "\n";
+        private int position;
+
+        private GeneratedStatement(int rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (position == current.length()) {
+                if (++row == rows) {
+                    return -1;
+                }
+                current = LocalDate.of(2020, 1, 1).plusDays(row % 1000) + ",-1.00,Booking " + row + "\n";
+                position = 0;
+            }
+            int count = Math.min(length, current.length() - position);
+            current.getChars(position, position + count, buffer, offset);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
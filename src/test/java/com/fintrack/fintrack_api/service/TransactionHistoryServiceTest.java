@@ -0,0 +1,216 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.dto.request.TransactionHistoryFilterDTO;
+import com.fintrack.fintrack_api.dto.response.CursorPageResponseDTO;
+import com.fintrack.fintrack_api.dto.response.TransactionHistoryEntryDTO;
+import com.fintrack.fintrack_api.exception.AccountNotFoundException;
+import com.fintrack.fintrack_api.exception.InvalidRequestException;
+import com.fintrack.fintrack_api.model.Account;
+import com.fintrack.fintrack_api.model.Transaction;
+import com.fintrack.fintrack_api.model.Users;
+import com.fintrack.fintrack_api.model.enums.Role;
+import com.fintrack.fintrack_api.security.UserPrincipal;
+import com.fintrack.fintrack_api.util.AccountNumbers;
+import com.fintrack.fintrack_api.util.ErrorMessages;
+import com.fintrack.fintrack_api.util.KeysetCursor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs the history SQL against H2 in PostgreSQL mode on an unpartitioned table. Partitioning and
+ * pruning need Postgres; {@code TransactionHistoryBenchmark} covers them.
+ */
+class TransactionHistoryServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private DataSource dataSource;
+    private TransactionHistoryService transactionHistoryService;
+    private Account checking;
+    private Account savings;
+    private UserPrincipal owner;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:transaction-history;MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE accounts (id BIGINT PRIMARY KEY, account_number VARCHAR(16), user_id BIGINT)");
+        jdbcTemplate.execute("""
+                CREATE TABLE transaction_history (
+                    account_id BIGINT NOT NULL, booked_at TIMESTAMP(6) NOT NULL, transaction_id BIGINT NOT NULL,
+                    type VARCHAR(16) NOT NULL, amount NUMERIC(19, 2) NOT NULL, currency VARCHAR(3) NOT NULL,
+                    counterparty_account_number VARCHAR(16), category VARCHAR(50), description VARCHAR(255),
+                    PRIMARY KEY (account_id, booked_at, transaction_id))""");
+
+        checking = account(jdbcTemplate, 1L, 1, 10L);
+        savings = account(jdbcTemplate, 2L, 2, 10L);
+        account(jdbcTemplate, 3L, 3, 20L);
+        owner = new UserPrincipal(Users.builder()
+                .id(10L)
+                .email("history@example.com")
+                .roles(EnumSet.of(Role.USER))
+                .enabled(true)
+                .build());
+
+        transactionHistoryService = new TransactionHistoryService(dataSource,
+                new DataSourceTransactionManager(dataSource), 12, 36);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(dataSource).execute("SHUTDOWN");
+    }
+
+    @Test
+    void recordAll_Transfer_WritesBothSidesSigned() {
+        // Arrange
+        Transaction transfer = transaction(1L, Transaction.TransactionType.TRANSFER, checking, savings, "25.00", 0);
+
+        // Act
+        transactionHistoryService.record(transfer);
+
+        // Assert
+        TransactionHistoryEntryDTO outgoing = history(checking, filter().build(), null).content().get(0);
+        TransactionHistoryEntryDTO incoming = history(savings, filter().build(), null).content().get(0);
+        assertEquals(0, new BigDecimal("-25.00").compareTo(outgoing.amount()));
+        assertEquals(savings.getAccountNumber(), outgoing.counterpartyAccountNumber());
+        assertEquals(0, new BigDecimal("25.00").compareTo(incoming.amount()));
+        assertEquals(checking.getAccountNumber(), incoming.counterpartyAccountNumber());
+        assertEquals("groceries", incoming.category());
+    }
+
+    @Test
+    void getHistory_Cursor_WalksAllPagesNewestFirst() {
+        // Arrange
+        List<Transaction> transactions = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            // Two bookings share each timestamp, so the id breaks ties
+            transactions.add(transaction(id, Transaction.TransactionType.CARD, checking, null, "1.00", (int) (id / 2)));
+        }
+        transactionHistoryService.recordAll(transactions);
+
+        // Act
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponseDTO<TransactionHistoryEntryDTO> page = history(checking, filter().size(2).build(), cursor);
+            page.content().forEach(entry -> ids.add(entry.transactionId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(List.of(1L, 3L, 2L, 5L, 4L), ids);
+    }
+
+    @Test
+    void getHistory_Filters_ApplyDateAmountAndCategory() {
+        // Arrange
+        transactionHistoryService.recordAll(List.of(
+                transaction(1L, Transaction.TransactionType.CARD, checking, null, "5.00", 40),
+                transaction(2L, Transaction.TransactionType.CARD, checking, null, "50.00", 10),
+                transaction(3L, Transaction.TransactionType.CARD, null, checking, "500.00", 5),
+                transaction(4L, Transaction.TransactionType.CARD, checking, null, "7.00", 1)));
+
+        // Act
+        CursorPageResponseDTO<TransactionHistoryEntryDTO> lastMonth = history(checking,
+                filter().from(TODAY.minusDays(30)).build(), null);
+        CursorPageResponseDTO<TransactionHistoryEntryDTO> smallDebits = history(checking,
+                filter().minAmount(new BigDecimal("-10")).maxAmount(BigDecimal.ZERO).build(), null);
+        CursorPageResponseDTO<TransactionHistoryEntryDTO> byCategory = history(checking,
+                filter().category("groceries").to(TODAY.minusDays(2)).build(), null);
+
+        // Assert
+        assertEquals(List.of(4L, 3L, 2L), ids(lastMonth));
+        assertEquals(List.of(4L, 1L), ids(smallDebits));
+        assertEquals(List.of(3L, 2L, 1L), ids(byCategory));
+        assertFalse(byCategory.hasNext());
+        assertNull(byCategory.nextCursor());
+    }
+
+    @Test
+    void getHistory_RangeTooLongOrReversed_Throws() {
+        // Act & Assert
+        InvalidRequestException tooLong = assertThrows(InvalidRequestException.class,
+                () -> history(checking, filter().from(TODAY.minusMonths(36).minusDays(1)).build(), null));
+        InvalidRequestException reversed = assertThrows(InvalidRequestException.class,
+                () -> history(checking, filter().from(TODAY).to(TODAY.minusDays(1)).build(), null));
+        assertEquals(ErrorMessages.INVALID_HISTORY_RANGE, tooLong.getMessage());
+        assertEquals(ErrorMessages.INVALID_HISTORY_RANGE, reversed.getMessage());
+    }
+
+    @Test
+    void getHistory_AccountOfAnotherUser_Throws() {
+        // Act & Assert
+        assertThrows(AccountNotFoundException.class, () -> transactionHistoryService.getHistory(
+                AccountNumbers.format(Account.AccountType.CHECKING, 2025, 3), filter().build(), null, owner));
+    }
+
+    @Test
+    void buildQuery_WithCursor_KeepsDateBoundsForPruning() {
+        // Arrange
+        List<Object> parameters = new ArrayList<>();
+        LocalDateTime from = TODAY.minusMonths(1).atStartOfDay();
+        LocalDateTime to = TODAY.plusDays(1).atStartOfDay();
+
+        // Act
+        String sql = TransactionHistoryService.buildQuery(1L, from, to, filter().build(),
+                new KeysetCursor(TODAY.atStartOfDay(), 9L), 21, parameters);
+
+        // Assert
+        assertEquals("SELECT transaction_id, type, booked_at, amount, currency, counterparty_account_number, "
+                + "category, description\nFROM transaction_history WHERE account_id = ? AND booked_at >= ? "
+                + "AND booked_at < ? AND booked_at <= ? AND (booked_at, transaction_id) < (?, ?) "
+                + "ORDER BY booked_at DESC, transaction_id DESC LIMIT ?", sql);
+        assertEquals(List.of(1L, from, to, TODAY.atStartOfDay(), TODAY.atStartOfDay(), 9L, 21), parameters);
+    }
+
+    private CursorPageResponseDTO<TransactionHistoryEntryDTO> history(Account account, TransactionHistoryFilterDTO filter,
+                                                                     String cursor) {
+        return transactionHistoryService.getHistory(account.getAccountNumber(), filter, cursor, owner);
+    }
+
+    private static TransactionHistoryFilterDTO.TransactionHistoryFilterDTOBuilder filter() {
+        return TransactionHistoryFilterDTO.builder();
+    }
+
+    private static Account account(JdbcTemplate jdbcTemplate, long id, int sequence, long userId) {
+        String accountNumber = AccountNumbers.format(Account.AccountType.CHECKING, 2025, sequence);
+        jdbcTemplate.update("INSERT INTO accounts VALUES (?, ?, ?)", id, accountNumber, userId);
+        return Account.builder().id(id).accountNumber(accountNumber).build();
+    }
+
+    private static Transaction transaction(long id, Transaction.TransactionType type, Account source, Account target,
+                                           String amount, int daysAgo) {
+        return Transaction.builder()
+                .id(id)
+                .type(type)
+                .sourceAccount(source)
+                .targetAccount(target)
+                .amount(new BigDecimal(amount))
+                .currency("USD")
+                .category("groceries")
+                .createdAt(TODAY.minusDays(daysAgo).atTime(12, 0))
+                .build();
+    }
+
+    private static List<Long> ids(CursorPageResponseDTO<TransactionHistoryEntryDTO> page) {
+        return page.content().stream().map(TransactionHistoryEntryDTO::transactionId).toList();
+    }
+}
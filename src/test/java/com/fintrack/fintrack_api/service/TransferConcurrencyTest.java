@@ -0,0 +1,288 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.dto.request.TransferRequestDTO;
+import com.fintrack.fintrack_api.exception.InsufficientFundsException;
+import com.fintrack.fintrack_api.mapper.TransactionMapperImpl;
+import com.fintrack.fintrack_api.model.Account;
+import com.fintrack.fintrack_api.model.Transaction;
+import com.fintrack.fintrack_api.model.Users;
+import com.fintrack.fintrack_api.model.enums.Role;
+import com.fintrack.fintrack_api.repository.AccountRepository;
+import com.fintrack.fintrack_api.repository.LedgerEntryRepository;
+import com.fintrack.fintrack_api.repository.LedgerPostingRepository;
+import com.fintrack.fintrack_api.repository.TransactionRepository;
+import com.fintrack.fintrack_api.repository.UserRepository;
+import com.fintrack.fintrack_api.security.UserPrincipal;
+import com.fintrack.fintrack_api.util.AccountNumbers;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Hammers a small set of accounts, one of them part of every transfer, from many threads against
+ * a real database and checks that money is neither created nor lost, before and after the
+ * pending postings are folded into the balance column.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.sql.init.mode=never",
+        "spring.jpa.show-sql=false"
+})
+@Import({TransferService.class, AccountLockStripes.class, TransactionMapperImpl.class, LedgerService.class,
+        LedgerInvariantChecker.class, TransferConcurrencyTest.TestBeans.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TransferConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int TRANSFERS_PER_THREAD = 150;
+    private static final BigDecimal OPENING_BALANCE = new BigDecimal("1000.00");
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private LedgerInvariantChecker ledgerInvariantChecker;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private LedgerPostingRepository ledgerPostingRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private ActiveAccountsCache activeAccountsCache;
+
+    // Partitioned history needs Postgres
+    @MockitoBean
+    private TransactionHistoryService transactionHistoryService;
+
+    private UserPrincipal principal;
+    private List<Account> accounts;
+
+    @BeforeEach
+    void setUp() {
+        Users user = userRepository.save(Users.builder()
+                .email("transfers@testexample.com")
+                .password("password")
+                .firstName("Name")
+                .lastName("Surname")
+                .phoneNumber("+15550009999")
+                .roles(EnumSet.of(Role.USER))
+                .enabled(true)
+                .build());
+        principal = new UserPrincipal(user);
+
+        accounts = new ArrayList<>();
+        Account.AccountType[] types = {Account.AccountType.CHECKING, Account.AccountType.CHECKING,
+                Account.AccountType.CHECKING, Account.AccountType.SAVINGS, Account.AccountType.CREDIT_CARD};
+        for (int i = 0; i < types.length; i++) {
+            accounts.add(accountRepository.save(Account.builder()
+                    .accountNumber(AccountNumbers.format(types[i], 2025, 900_000 + i))
+                    .name("Account " + i)
+                    .type(types[i])
+                    .balance(types[i] == Account.AccountType.CREDIT_CARD ? BigDecimal.ZERO : OPENING_BALANCE)
+                    .currency("USD")
+                    .user(user)
+                    .build()));
+        }
+        accounts.forEach(ledgerService::recordOpeningBalance);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ledgerPostingRepository.deleteAll();
+        ledgerEntryRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountRepository.deleteAllById(accounts.stream().map(Account::getId).toList());
+        userRepository.deleteAll(userRepository.findAll().stream()
+                .filter(user -> user.getEmail().endsWith("@testexample.com"))
+                .toList());
+    }
+
+    @Test
+    void concurrentTransfers_HotAccount_ConserveMoney() throws Exception {
+        // Arrange
+        BigDecimal totalBefore = totalBalance();
+        AtomicInteger completed = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(THREADS);
+
+        // Act
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                        // Account 0 takes part in every transfer, in both directions
+                        Account other = accounts.get(1 + random.nextInt(accounts.size() - 1));
+                        boolean outgoing = random.nextBoolean();
+                        Account source = outgoing ? accounts.get(0) : other;
+                        Account target = outgoing ? other : accounts.get(0);
+                        try {
+                            transferService.transfer(new TransferRequestDTO(source.getAccountNumber(),
+                                    target.getAccountNumber(), BigDecimal.valueOf(random.nextInt(1, 5000), 2), null, null),
+                                    principal);
+                            completed.incrementAndGet();
+                        } catch (InsufficientFundsException e) {
+                            // Expected once a CHECKING/SAVINGS account runs dry
+                        } catch (RuntimeException e) {
+                            unexpected.add(e);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertTrue(unexpected.isEmpty(), () -> "Unexpected failures: " + unexpected);
+        assertEquals(completed.get(), transactionRepository.count());
+        assertEquals(0, totalBefore.compareTo(totalBalance()));
+
+        Map<Long, BigDecimal> expected = new HashMap<>();
+        accounts.forEach(account -> expected.put(account.getId(), account.getBalance()));
+        for (Transaction transaction : transactionRepository.findAll()) {
+            expected.merge(transaction.getSourceAccount().getId(), transaction.getAmount().negate(), BigDecimal::add);
+            expected.merge(transaction.getTargetAccount().getId(), transaction.getAmount(), BigDecimal::add);
+        }
+        assertBalances(expected);
+
+        ledgerService.foldPendingPostings();
+        assertEquals(0, totalBefore.compareTo(totalBalance()));
+        assertBalances(expected);
+        assertTrue(ledgerInvariantChecker.check().isConsistent());
+        // Folding must not make versions that clients already hold stale
+        for (Account account : accounts) {
+            assertEquals(account.getVersion(), accountRepository.findById(account.getId()).orElseThrow().getVersion());
+        }
+    }
+
+    @Test
+    void foldPendingPostings_BetweenTransfers_MovesCheckpointWithoutUpdatingPostings() {
+        // Arrange
+        Account first = accounts.get(0);
+        Account second = accounts.get(1);
+        transferService.transfer(new TransferRequestDTO(first.getAccountNumber(), second.getAccountNumber(),
+                new BigDecimal("10.00"), null, null), principal);
+        ledgerService.foldPendingPostings();
+        transferService.transfer(new TransferRequestDTO(second.getAccountNumber(), first.getAccountNumber(),
+                new BigDecimal("4.00"), null, null), principal);
+        List<String> postingsBefore = postingRows();
+
+        // Act
+        ledgerService.foldPendingPostings();
+
+        // Assert
+        assertEquals(postingsBefore, postingRows());
+        Account folded = accountRepository.findById(first.getId()).orElseThrow();
+        assertEquals(2, folded.getFoldCheckpoint());
+        assertEquals(0, new BigDecimal("994.00").compareTo(folded.getBalance()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(ledgerPostingRepository.sumPendingByAccountId(first.getId())));
+        assertTrue(ledgerInvariantChecker.check().isConsistent());
+    }
+
+    @Test
+    void transfer_InsufficientFunds_LeavesBalancesUntouched() {
+        // Arrange
+        Account source = accounts.get(1);
+        Account target = accounts.get(2);
+        TransferRequestDTO request = new TransferRequestDTO(source.getAccountNumber(), target.getAccountNumber(),
+                new BigDecimal("1000.01"), null, null);
+
+        // Act & Assert
+        assertThrows(InsufficientFundsException.class, () -> transferService.transfer(request, principal));
+        assertEquals(0, OPENING_BALANCE.compareTo(accountRepository.findById(source.getId()).orElseThrow().getBalance()));
+        assertEquals(0, OPENING_BALANCE.compareTo(accountRepository.findById(target.getId()).orElseThrow().getBalance()));
+        assertEquals(0, transactionRepository.count());
+    }
+
+    private List<String> postingRows() {
+        return ledgerPostingRepository.findAll().stream()
+                .map(posting -> posting.getId() + ":" + posting.getAmount() + ":" + posting.getFoldCheckpoint())
+                .sorted()
+                .toList();
+    }
+
+    private void assertBalances(Map<Long, BigDecimal> expected) {
+        for (Account account : accountRepository.findAllById(expected.keySet())) {
+            BigDecimal balance = currentBalance(account);
+            assertEquals(0, expected.get(account.getId()).compareTo(balance), account.getAccountNumber());
+            assertTrue(account.allowsNegativeBalance() || balance.signum() >= 0, account.getAccountNumber());
+        }
+    }
+
+    private BigDecimal totalBalance() {
+        return accountRepository.findAllById(accounts.stream().map(Account::getId).toList()).stream()
+                .map(this::currentBalance)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private BigDecimal currentBalance(Account account) {
+        return account.getBalance().add(ledgerPostingRepository.sumPendingByAccountId(account.getId()));
+    }
+
+    @TestConfiguration
+    static class TestBeans {
+
+        @Bean
+        BCryptPasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
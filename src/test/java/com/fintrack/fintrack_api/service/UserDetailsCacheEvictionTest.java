@@ -0,0 +1,82 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.dto.request.UpdateProfileRequestDTO;
+import com.fintrack.fintrack_api.mapper.UserMapper;
+import com.fintrack.fintrack_api.model.Users;
+import com.fintrack.fintrack_api.repository.UserRepository;
+import com.fintrack.fintrack_api.security.TokenEpochRegistry;
+import com.fintrack.fintrack_api.security.UserDetailsCache;
+import com.fintrack.fintrack_api.security.UserDetailsServiceImpl;
+import com.fintrack.fintrack_api.security.UserPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the user writers against a real {@link UserDetailsCache}, so a snapshot cached before a
+ * write is shown to be gone by the next authentication.
+ */
+class UserDetailsCacheEvictionTest {
+
+    private Users user;
+    private UserRepository userRepository;
+    private UserService userService;
+    private UserDetailsServiceImpl userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        user = UserMockedObjects.mockUser();
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(user.getEmail())).thenAnswer(invocation -> Optional.of(user));
+        when(userRepository.findById(user.getId())).thenAnswer(invocation -> Optional.of(user));
+        when(userRepository.save(any(Users.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UserDetailsCache userDetailsCache = new UserDetailsCache(100, 60_000, new SimpleMeterRegistry());
+        userService = new UserService(mock(BCryptPasswordEncoder.class), userRepository, mock(UserMapper.class),
+                mock(TokenEpochRegistry.class), userDetailsCache, mock(UserUniquenessFilter.class));
+        userDetailsService = new UserDetailsServiceImpl(userService, userDetailsCache);
+    }
+
+    @Test
+    void updateCurrentUserProfile_CachedSnapshot_IsReloadedOnNextAuthentication() {
+        // Arrange
+        userDetailsService.loadUserByUsername(user.getEmail());
+        userDetailsService.loadUserByUsername(user.getEmail());
+        verify(userRepository, times(1)).findByEmail(user.getEmail());
+
+        // Act
+        userService.updateCurrentUserProfile(user, new UpdateProfileRequestDTO("Renamed", "Surname", "+15550007777"));
+        userDetailsService.loadUserByUsername(user.getEmail());
+
+        // Assert
+        verify(userRepository, times(2)).findByEmail(user.getEmail());
+    }
+
+    @Test
+    void deactivateUser_CachedSnapshot_NextAuthenticationSeesDisabledUser() {
+        // Arrange
+        UserPrincipal before = (UserPrincipal) userDetailsService.loadUserByUsername(user.getEmail());
+        assertTrue(before.isEnabled());
+
+        // Act
+        userService.deactivateUser(user.getId());
+        UserPrincipal after = (UserPrincipal) userDetailsService.loadUserByUsername(user.getEmail());
+
+        // Assert
+        assertFalse(after.isEnabled());
+        assertEquals(before.getTokenEpoch() + 1, after.getTokenEpoch());
+        verify(userRepository, times(2)).findByEmail(user.getEmail());
+    }
+}
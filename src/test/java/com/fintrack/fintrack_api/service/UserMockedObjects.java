@@ -2,8 +2,9 @@ package com.fintrack.fintrack_api.service;
 
 import com.fintrack.fintrack_api.model.Users;
 import com.fintrack.fintrack_api.model.enums.Role;
+import com.fintrack.fintrack_api.repository.projection.UserAdminProfileRow;
 
-import java.util.List;
+import java.util.EnumSet;
 import java.util.Random;
 
 public class UserMockedObjects {
@@ -16,8 +17,8 @@ public class UserMockedObjects {
                 .firstName("Name")
                 .lastName("Surname")
                 .phoneNumber("+1234567890")
-                .roles(List.of(
-                        Role.USER.getValue()
+                .roles(EnumSet.of(
+                        Role.USER
                 ))
                 .enabled(true)
                 .build();
@@ -31,11 +32,24 @@ public class UserMockedObjects {
                 .firstName("Admin Name")
                 .lastName("Admin Surname")
                 .phoneNumber("+9876543210")
-                .roles(List.of(
-                        Role.USER.getValue(),
-                        Role.ADMIN.getValue()
+                .roles(EnumSet.of(
+                        Role.USER,
+                        Role.ADMIN
                 ))
                 .enabled(true)
                 .build();
     }
+
+    public static UserAdminProfileRow mockAdminProfileRow(Users user) {
+        return new UserAdminProfileRow(
+                user.getId(),
+                user.getEmail(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getPhoneNumber(),
+                user.getCreatedAt(),
+                user.getUpdatedAt(),
+                user.isEnabled(),
+                Role.toMask(user.getRoles()));
+    }
 }
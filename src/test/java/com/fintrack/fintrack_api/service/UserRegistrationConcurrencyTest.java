@@ -0,0 +1,152 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.exception.UserAlreadyExistsException;
+import com.fintrack.fintrack_api.mapper.UserMapper;
+import com.fintrack.fintrack_api.model.Users;
+import com.fintrack.fintrack_api.model.enums.Role;
+import com.fintrack.fintrack_api.repository.UserRepository;
+import com.fintrack.fintrack_api.security.TokenEpochRegistry;
+import com.fintrack.fintrack_api.security.UserDetailsCache;
+import com.fintrack.fintrack_api.util.ErrorMessages;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Races many signups for the same email or phone number against a real database, relying on the
+ * unique constraints alone to pick a single winner.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.sql.init.mode=never"
+})
+@Import({UserService.class, UserRegistrationConcurrencyTest.PasswordEncoderConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserRegistrationConcurrencyTest {
+
+    private static final int SIGNUPS = 16;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private UserMapper userMapper;
+
+    @MockitoBean
+    private TokenEpochRegistry tokenEpochRegistry;
+
+    @MockitoBean
+    private UserDetailsCache userDetailsCache;
+
+    @MockitoBean
+    private UserUniquenessFilter userUniquenessFilter;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll(userRepository.findAll().stream()
+                .filter(user -> user.getEmail().endsWith("@testexample.com"))
+                .toList());
+    }
+
+    @Test
+    void concurrentSignups_SameEmail_OneWins() throws Exception {
+        // Act
+        List<Throwable> failures = race(i -> user("same@testexample.com", "+1555000" + String.format("%04d", i)));
+
+        // Assert
+        assertTrue(userRepository.existsByEmail("same@testexample.com"));
+        assertEquals(SIGNUPS - 1, failures.size());
+        assertTrue(failures.stream().allMatch(failure -> failure instanceof UserAlreadyExistsException
+                && ErrorMessages.DUPLICATE_EMAIL.equals(failure.getMessage())));
+    }
+
+    @Test
+    void concurrentSignups_SamePhoneNumber_OneWins() throws Exception {
+        // Act
+        List<Throwable> failures = race(i -> user("user" + i + "@testexample.com", "+15550001234"));
+
+        // Assert
+        assertTrue(userRepository.existsByPhoneNumber("+15550001234"));
+        assertEquals(SIGNUPS - 1, failures.size());
+        assertTrue(failures.stream().allMatch(failure -> failure instanceof UserAlreadyExistsException
+                && ErrorMessages.DUPLICATE_PHONE_NUMBER.equals(failure.getMessage())));
+    }
+
+    private List<Throwable> race(UserFactory factory) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(SIGNUPS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(SIGNUPS);
+        try {
+            for (int i = 0; i < SIGNUPS; i++) {
+                Users user = factory.create(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return userService.registerUser(user);
+                }));
+            }
+            start.countDown();
+
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<?> future : futures) {
+                try {
+                    future.get(30, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Users user(String email, String phoneNumber) {
+        return Users.builder()
+                .email(email)
+                .password("password")
+                .firstName("Name")
+                .lastName("Surname")
+                .phoneNumber(phoneNumber)
+                .roles(EnumSet.of(Role.USER))
+                .enabled(true)
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface UserFactory {
+        Users create(int index);
+    }
+
+    @TestConfiguration
+    static class PasswordEncoderConfiguration {
+
+        @Bean
+        BCryptPasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.fintrack.fintrack_api.service;
+
+import com.fintrack.fintrack_api.configuration.UserSearchIndexes;
+import com.fintrack.fintrack_api.dto.response.AdminUserProfileResponseDTO;
+import com.fintrack.fintrack_api.dto.response.CursorPageResponseDTO;
+import com.fintrack.fintrack_api.exception.InvalidRequestException;
+import com.fintrack.fintrack_api.mapper.UserMapperImpl;
+import com.fintrack.fintrack_api.util.ErrorMessages;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs the search SQL against H2 in PostgreSQL mode. Trigram similarity needs Postgres, so fuzzy
+ * matching is only covered there.
+ */
+class UserSearchServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private DataSource dataSource;
+    private UserSearchService userSearchService;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:user-search;MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE users (
+                    id BIGINT PRIMARY KEY, email VARCHAR(255), first_name VARCHAR(50), last_name VARCHAR(50),
+                    phone_number VARCHAR(16), created_at TIMESTAMP, updated_at TIMESTAMP, enabled BOOLEAN,
+                    role_mask INT)""");
+        insert(jdbcTemplate, 1, "anna.smith@example.com", "Anna", "Smith", "+15550000001", 0);
+        insert(jdbcTemplate, 2, "john.smithers@example.com", "John", "Smithers", "+15550000002", 1);
+        insert(jdbcTemplate, 3, "mary.jones@example.com", "Mary", "Jones", "+15550000003", 1);
+        insert(jdbcTemplate, 4, "blacksmith@example.com", "Bob", "Black", "+44207000004", 2);
+        insert(jdbcTemplate, 5, "under_score@example.com", "Una", "Score", "+44207000005", 3);
+
+        userSearchService = new UserSearchService(dataSource, new DataSourceTransactionManager(dataSource),
+                new UserMapperImpl(), mock(UserSearchIndexes.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(dataSource).execute("SHUTDOWN");
+    }
+
+    @Test
+    void searchUsers_ContainsTerm_MatchesAnyFieldNewestFirst() {
+        // Act
+        CursorPageResponseDTO<AdminUserProfileResponseDTO> result = userSearchService.searchUsers("SMITH", null, 20, false);
+
+        // Assert
+        assertEquals(List.of(4L, 2L, 1L), ids(result));
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    void searchUsers_ShortTerm_MatchesPrefixOnly() {
+        // Act
+        CursorPageResponseDTO<AdminUserProfileResponseDTO> result = userSearchService.searchUsers("jo", null, 20, false);
+
+        // Assert
+        assertEquals(List.of(3L, 2L), ids(result));
+    }
+
+    @Test
+    void searchUsers_PhoneNumberFragment_MatchesPhoneNumber() {
+        // Act
+        CursorPageResponseDTO<AdminUserProfileResponseDTO> result = userSearchService.searchUsers("+44207", null, 20, false);
+
+        // Assert
+        assertEquals(List.of(5L, 4L), ids(result));
+    }
+
+    @Test
+    void searchUsers_Wildcard_MatchedLiterally() {
+        // Act
+        CursorPageResponseDTO<AdminUserProfileResponseDTO> literal = userSearchService.searchUsers("r_s", null, 20, false);
+        CursorPageResponseDTO<AdminUserProfileResponseDTO> wildcard = userSearchService.searchUsers("h_e", null, 20, false);
+
+        // Assert
+        assertEquals(List.of(5L), ids(literal));
+        assertTrue(wildcard.content().isEmpty());
+    }
+
+    @Test
+    void searchUsers_Cursor_WalksAllPages() {
+        // Act
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponseDTO<AdminUserProfileResponseDTO> page =
+                    userSearchService.searchUsers("example", cursor, 2, false);
+            ids.addAll(ids(page));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(List.of(5L, 4L, 3L, 2L, 1L), ids);
+    }
+
+    @Test
+    void searchUsers_BlankQuery_Throws() {
+        // Act & Assert
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> userSearchService.searchUsers("  ", null, 20, false));
+        assertEquals(ErrorMessages.INVALID_SEARCH_QUERY, exception.getMessage());
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, long id, String email, String firstName, String lastName,
+                               String phoneNumber, int createdDaysLater) {
+        LocalDateTime createdAt = CREATED_AT.plusDays(createdDaysLater);
+        jdbcTemplate.update("INSERT INTO users VALUES (?, ?, ?, ?, ?, ?, ?, TRUE, 1)",
+                id, email, firstName, lastName, phoneNumber, createdAt, createdAt);
+    }
+
+    private static List<Long> ids(CursorPageResponseDTO<AdminUserProfileResponseDTO> page) {
+        return page.content().stream().map(user -> user.profile().id()).toList();
+    }
+}
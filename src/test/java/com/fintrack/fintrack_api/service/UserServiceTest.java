@@ -8,7 +8,11 @@ import com.fintrack.fintrack_api.exception.UserAlreadyExistsException;
 import com.fintrack.fintrack_api.exception.UserNotFoundException;
 import com.fintrack.fintrack_api.mapper.UserMapper;
 import com.fintrack.fintrack_api.model.Users;
+import com.fintrack.fintrack_api.model.enums.Role;
 import com.fintrack.fintrack_api.repository.UserRepository;
+import com.fintrack.fintrack_api.repository.projection.UserAdminProfileRow;
+import com.fintrack.fintrack_api.security.TokenEpochRegistry;
+import com.fintrack.fintrack_api.security.UserDetailsCache;
 import com.fintrack.fintrack_api.util.ErrorMessages;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,8 +20,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.Optional;
@@ -38,6 +44,15 @@ class UserServiceTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private TokenEpochRegistry tokenEpochRegistry;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private UserUniquenessFilter userUniquenessFilter;
+
     @InjectMocks
     private UserService userService;
 
@@ -64,6 +79,7 @@ class UserServiceTest {
         verify(userRepository).save(argThat(u ->
                 u.getPassword().equals(encodedPassword) && u.getEmail().equals(user.getEmail())
         ));
+        verify(userDetailsCache).evict(user.getEmail());
     }
 
     @Test
@@ -71,7 +87,8 @@ class UserServiceTest {
         // Arrange
         Users duplicateUser = UserMockedObjects.mockUser();
 
-        when(userRepository.existsByEmail(duplicateUser.getEmail())).thenReturn(true);
+        when(userRepository.save(any(Users.class))).thenThrow(uniqueViolation(
+                "Key (email)=(" + duplicateUser.getEmail() + ") already exists."));
 
         // Act & Assert
         UserAlreadyExistsException exception = assertThrows(
@@ -80,7 +97,8 @@ class UserServiceTest {
         );
 
         assertEquals(ErrorMessages.DUPLICATE_EMAIL, exception.getMessage());
-        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).existsByEmail(any());
+        verifyNoInteractions(userDetailsCache);
     }
 
     @Test
@@ -88,7 +106,8 @@ class UserServiceTest {
         // Arrange
         Users duplicateUser = UserMockedObjects.mockUser();
 
-        when(userRepository.existsByPhoneNumber(duplicateUser.getPhoneNumber())).thenReturn(true);
+        when(userRepository.save(any(Users.class))).thenThrow(uniqueViolation(
+                "Key (phone_number)=(" + duplicateUser.getPhoneNumber() + ") already exists."));
 
         // Act & Assert
         UserAlreadyExistsException exception = assertThrows(
@@ -97,323 +116,8 @@ class UserServiceTest {
         );
 
         assertEquals(ErrorMessages.DUPLICATE_PHONE_NUMBER, exception.getMessage());
-        verify(userRepository, never()).save(any());
-    }
-
-    @Test
-    void testRegisterUser_InvalidEmail() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-        user.setEmail("invalid-email");
-
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(
-                InvalidRequestException.class,
-                () -> userService.registerUser(user)
-        );
-
-        assertEquals(ErrorMessages.INVALID_EMAIL_FORMAT, exception.getMessage());
-    }
-
-    @Test
-    void testRegisterUser_NullEmail() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-        user.setEmail(null);
-
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(
-                InvalidRequestException.class,
-                () -> userService.registerUser(user)
-        );
-
-        assertEquals(ErrorMessages.INVALID_EMAIL_FORMAT, exception.getMessage());
-    }
-
-    @Test
-    void testRegisterUser_EmptyEmail() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-        user.setEmail("");
-
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(
-                InvalidRequestException.class,
-                () -> userService.registerUser(user)
-        );
-
-        assertEquals(ErrorMessages.INVALID_EMAIL_FORMAT, exception.getMessage());
-    }
-
-    @Test
-    void testRegisterUser_PasswordTooShort() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-        user.setPassword("short");
-
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(
-                InvalidRequestException.class,
-                () -> userService.registerUser(user)
-        );
-
-        assertEquals(ErrorMessages.FORBIDDEN_PASSWORD_LENGTH, exception.getMessage());
-    }
-
-    @Test
-    void testRegisterUser_PasswordTooLong() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-
-        user.setPassword("a".repeat(129));
-
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(
-                InvalidRequestException.class,
-                () -> userService.registerUser(user)
-        );
-
-        assertEquals(ErrorMessages.FORBIDDEN_PASSWORD_LENGTH, exception.getMessage());
-    }
-
-    @Test
-    void testRegisterUser_NullPassword() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-        user.setPassword(null);
-
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(
-                InvalidRequestException.class,
-                () -> userService.registerUser(user)
-        );
-
-        assertEquals(ErrorMessages.FORBIDDEN_PASSWORD_LENGTH, exception.getMessage());
-    }
-
-    @Test
-    void testRegisterUser_NullFirstName() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-        user.setFirstName(null);
-
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(
-                InvalidRequestException.class,
-                () -> userService.registerUser(user)
-        );
-
-        assertEquals(ErrorMessages.FORBIDDEN_USER_FIRST_NAME_LENGTH, exception.getMessage());
-    }
-
-    @Test
-    void testRegisterUser_EmptyFirstName() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-        user.setFirstName("");
-
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(
-                InvalidRequestException.class,
-                () -> userService.registerUser(user)
-        );
-
-        assertEquals(ErrorMessages.FORBIDDEN_USER_FIRST_NAME_LENGTH, exception.getMessage());
-    }
-
-    @Test
-    void testRegisterUser_FirstNameTooShort() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-        user.setFirstName("A");
-
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(
-                InvalidRequestException.class,
-                () -> userService.registerUser(user)
-        );
-
-        assertEquals(ErrorMessages.FORBIDDEN_USER_FIRST_NAME_LENGTH, exception.getMessage());
-    }
-
-    @Test
-    void testRegisterUser_FirstNameTooLong() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-        user.setFirstName("a".repeat(51));
-
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(
-                InvalidRequestException.class,
-                () -> userService.registerUser(user)
-        );
-
-        assertEquals(ErrorMessages.FORBIDDEN_USER_FIRST_NAME_LENGTH, exception.getMessage());
-    }
-
-    @Test
-    void testRegisterUser_NullLastName() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-        user.setLastName(null);
-
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(
-                InvalidRequestException.class,
-                () -> userService.registerUser(user)
-        );
-
-        assertEquals(ErrorMessages.FORBIDDEN_USER_LAST_NAME_LENGTH, exception.getMessage());
-    }
-
-    @Test
-    void testRegisterUser_EmptyLastName() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-        user.setLastName(null);
-
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(
-                InvalidRequestException.class,
-                () -> userService.registerUser(user)
-        );
-
-        assertEquals(ErrorMessages.FORBIDDEN_USER_LAST_NAME_LENGTH, exception.getMessage());
-    }
-
-    @Test
-    void testRegisterUser_LastNameTooShort() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-        user.setLastName("A");
-
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(
-                InvalidRequestException.class,
-                () -> userService.registerUser(user)
-        );
-
-        assertEquals(ErrorMessages.FORBIDDEN_USER_LAST_NAME_LENGTH, exception.getMessage());
-    }
-
-    @Test
-    void testRegisterUser_LastNameTooLong() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-        user.setLastName("a".repeat(51));
-
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(
-                InvalidRequestException.class,
-                () -> userService.registerUser(user)
-        );
-
-        assertEquals(ErrorMessages.FORBIDDEN_USER_LAST_NAME_LENGTH, exception.getMessage());
-    }
-
-    @Test
-    void testRegisterUser_NullPhoneNumber() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-        user.setPhoneNumber(null);
-
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(
-                InvalidRequestException.class,
-                () -> userService.registerUser(user)
-        );
-
-        assertEquals(ErrorMessages.INVALID_PHONE_NUMBER, exception.getMessage());
-    }
-
-    @Test
-    void testRegisterUser_EmptyPhoneNumber() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-        user.setPhoneNumber("");
-
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(
-                InvalidRequestException.class,
-                () -> userService.registerUser(user)
-        );
-
-        assertEquals(ErrorMessages.INVALID_PHONE_NUMBER, exception.getMessage());
-    }
-
-    @Test
-    void testRegisterUser_PhoneNumberTooShort() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-        user.setPhoneNumber("+111111");
-
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(
-                InvalidRequestException.class,
-                () -> userService.registerUser(user)
-        );
-
-        assertEquals(ErrorMessages.INVALID_PHONE_NUMBER, exception.getMessage());
-    }
-
-    @Test
-    void testRegisterUser_PhoneNumberTooLong() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-        user.setPhoneNumber("+1111111111111111");
-
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(
-                InvalidRequestException.class,
-                () -> userService.registerUser(user)
-        );
-
-        assertEquals(ErrorMessages.INVALID_PHONE_NUMBER, exception.getMessage());
-    }
-
-    @Test
-    void testRegisterUser_PhoneNumberMissingPlus() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-        user.setPhoneNumber("1111111111");
-
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(
-                InvalidRequestException.class,
-                () -> userService.registerUser(user)
-        );
-
-        assertEquals(ErrorMessages.INVALID_PHONE_NUMBER, exception.getMessage());
-    }
-
-    @Test
-    void testRegisterUser_PhoneNumberForbiddenCharacters() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-        user.setPhoneNumber("+11V11a1m11");
-
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(
-                InvalidRequestException.class,
-                () -> userService.registerUser(user)
-        );
-
-        assertEquals(ErrorMessages.INVALID_PHONE_NUMBER, exception.getMessage());
-    }
-
-    @Test
-    void testRegisterUser_PhoneNumberSpecialCharacters() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-        user.setPhoneNumber("++11#11*11!1");
-
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(
-                InvalidRequestException.class,
-                () -> userService.registerUser(user)
-        );
-
-        assertEquals(ErrorMessages.INVALID_PHONE_NUMBER, exception.getMessage());
+        verify(userRepository, never()).existsByPhoneNumber(any());
+        verifyNoInteractions(userDetailsCache);
     }
 
     @Test
@@ -497,65 +201,6 @@ class UserServiceTest {
         verifyNoMoreInteractions(userRepository);
     }
 
-    @Test
-    void getCurrentUserProfile_Success() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-
-        UserProfileResponseDTO expectedDto = new UserProfileResponseDTO(
-                user.getId(),
-                user.getEmail(),
-                user.getFirstName(),
-                user.getLastName(),
-                user.getPhoneNumber(),
-                user.getCreatedAt(),
-                user.getUpdatedAt()
-        );
-
-        when(userMapper.toUserProfileResponseDTO(user)).thenReturn(expectedDto);
-
-        // Act
-        UserProfileResponseDTO result = userService.getCurrentUserProfile(user);
-
-        // Assert
-        assertNotNull(result);
-        assertEquals(user.getId(), result.id());
-        assertEquals(user.getEmail(), result.email());
-        verify(userMapper, times(1)).toUserProfileResponseDTO(user);
-    }
-
-    @Test
-    void getCurrentUserProfile_NullInput() {
-        // Act & Assert
-        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
-                () -> userService.getCurrentUserProfile(null));
-        assertEquals(ErrorMessages.NULL_USER, exception.getMessage());
-        verifyNoInteractions(userMapper);
-    }
-
-    @Test
-    void getCurrentUserProfile_VerifyMapperInteraction() {
-        // Arrange
-        Users user = UserMockedObjects.mockUser();
-        when(userMapper.toUserProfileResponseDTO(user))
-                .thenReturn(new UserProfileResponseDTO(
-                        user.getId(),
-                        user.getPassword(),
-                        user.getFirstName(),
-                        user.getLastName(),
-                        user.getPhoneNumber(),
-                        user.getCreatedAt(),
-                        user.getUpdatedAt())
-                );
-
-        // Act
-        userService.getCurrentUserProfile(user);
-
-        // Assert
-        verify(userMapper, times(1)).toUserProfileResponseDTO(user);
-        verifyNoMoreInteractions(userMapper);
-    }
-
     @Test
     void updateCurrentUserProfile_Success() {
         // Arrange
@@ -695,6 +340,7 @@ class UserServiceTest {
                 "Valid",
                 "+123454321");
 
+        when(userUniquenessFilter.mightContainPhoneNumber(request.phoneNumber())).thenReturn(true);
         when(userRepository.existsByPhoneNumber(request.phoneNumber())).thenReturn(true);
 
         // Act & Assert
@@ -705,6 +351,26 @@ class UserServiceTest {
         verifyNoInteractions(userMapper);
     }
 
+    @Test
+    void updateCurrentUserProfile_PhoneNumberRuledOutByFilter_SkipsExistsQuery() {
+        // Arrange
+        Users user = UserMockedObjects.mockUser();
+        UpdateProfileRequestDTO request = new UpdateProfileRequestDTO(
+                "Valid",
+                "Valid",
+                "+123454321");
+
+        when(userUniquenessFilter.mightContainPhoneNumber(request.phoneNumber())).thenReturn(false);
+        when(userRepository.save(any(Users.class))).thenReturn(user);
+
+        // Act
+        userService.updateCurrentUserProfile(user, request);
+
+        // Assert
+        verify(userRepository, never()).existsByPhoneNumber(any());
+        verify(userUniquenessFilter).addPhoneNumber(request.phoneNumber());
+    }
+
     @Test
     void getUserById_Success() {
         // Arrange
@@ -719,12 +385,13 @@ class UserServiceTest {
                         user.getPhoneNumber(),
                         user.getCreatedAt(),
                         user.getUpdatedAt()),
-                user.getRoles(),
+                Role.toValues(user.getRoles()),
                 user.isEnabled()
         );
 
-        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(userMapper.toAdminUserProfileResponseDTO(user)).thenReturn(expectedResponse);
+        UserAdminProfileRow row = UserMockedObjects.mockAdminProfileRow(user);
+        when(userRepository.findAdminProfileById(user.getId())).thenReturn(Optional.of(row));
+        when(userMapper.toAdminUserProfileResponseDTO(row)).thenReturn(expectedResponse);
 
         // Act
         AdminUserProfileResponseDTO result = userService.getUserById(user.getId());
@@ -732,10 +399,10 @@ class UserServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(user.getId(), result.profile().id());
-        assertEquals(user.getRoles(), result.roles());
+        assertEquals(Role.toValues(user.getRoles()), result.roles());
         assertEquals(user.isEnabled(), result.enabled());
-        verify(userRepository, times(1)).findById(user.getId());
-        verify(userMapper, times(1)).toAdminUserProfileResponseDTO(user);
+        verify(userRepository, times(1)).findAdminProfileById(user.getId());
+        verify(userMapper, times(1)).toAdminUserProfileResponseDTO(row);
     }
 
     @Test
@@ -752,12 +419,13 @@ class UserServiceTest {
                         user.getPhoneNumber(),
                         user.getCreatedAt(),
                         user.getUpdatedAt()),
-                user.getRoles(),
+                Role.toValues(user.getRoles()),
                 user.isEnabled()
         );
 
-        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(userMapper.toAdminUserProfileResponseDTO(user)).thenReturn(expectedResponse);
+        UserAdminProfileRow row = UserMockedObjects.mockAdminProfileRow(user);
+        when(userRepository.findAdminProfileById(user.getId())).thenReturn(Optional.of(row));
+        when(userMapper.toAdminUserProfileResponseDTO(row)).thenReturn(expectedResponse);
 
         // Act
         AdminUserProfileResponseDTO result = userService.getUserById(user.getId());
@@ -765,10 +433,10 @@ class UserServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(user.getId(), result.profile().id());
-        assertEquals(user.getRoles(), result.roles());
+        assertEquals(Role.toValues(user.getRoles()), result.roles());
         assertEquals(user.isEnabled(), result.enabled());
-        verify(userRepository, times(1)).findById(user.getId());
-        verify(userMapper, times(1)).toAdminUserProfileResponseDTO(user);
+        verify(userRepository, times(1)).findAdminProfileById(user.getId());
+        verify(userMapper, times(1)).toAdminUserProfileResponseDTO(row);
     }
 
     @Test
@@ -786,12 +454,13 @@ class UserServiceTest {
                         user.getPhoneNumber(),
                         user.getCreatedAt(),
                         user.getUpdatedAt()),
-                user.getRoles(),
+                Role.toValues(user.getRoles()),
                 user.isEnabled()
         );
 
-        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(userMapper.toAdminUserProfileResponseDTO(user)).thenReturn(expectedResponse);
+        UserAdminProfileRow row = UserMockedObjects.mockAdminProfileRow(user);
+        when(userRepository.findAdminProfileById(user.getId())).thenReturn(Optional.of(row));
+        when(userMapper.toAdminUserProfileResponseDTO(row)).thenReturn(expectedResponse);
 
         // Act
         AdminUserProfileResponseDTO result = userService.getUserById(user.getId());
@@ -799,10 +468,10 @@ class UserServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(user.getId(), result.profile().id());
-        assertEquals(user.getRoles(), result.roles());
+        assertEquals(Role.toValues(user.getRoles()), result.roles());
         assertEquals(user.isEnabled(), result.enabled());
-        verify(userRepository, times(1)).findById(user.getId());
-        verify(userMapper, times(1)).toAdminUserProfileResponseDTO(user);
+        verify(userRepository, times(1)).findAdminProfileById(user.getId());
+        verify(userMapper, times(1)).toAdminUserProfileResponseDTO(row);
     }
 
     @Test
@@ -810,12 +479,12 @@ class UserServiceTest {
         // Arrange
         Long userId = 999L;
 
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.findAdminProfileById(userId)).thenReturn(Optional.empty());
 
         // Act & Assert
         UserNotFoundException exception = assertThrows(UserNotFoundException.class, () -> userService.getUserById(userId));
         assertEquals(ErrorMessages.USER_NOT_FOUND, exception.getMessage());
-        verify(userRepository, times(1)).findById(userId);
+        verify(userRepository, times(1)).findAdminProfileById(userId);
         verifyNoInteractions(userMapper);
     }
 
@@ -833,14 +502,15 @@ class UserServiceTest {
         // Arrange
         Users user = UserMockedObjects.mockUser();
 
-        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(userMapper.toAdminUserProfileResponseDTO(user)).thenReturn(any());
+        UserAdminProfileRow row = UserMockedObjects.mockAdminProfileRow(user);
+        when(userRepository.findAdminProfileById(user.getId())).thenReturn(Optional.of(row));
+        when(userMapper.toAdminUserProfileResponseDTO(row)).thenReturn(any());
 
         // Act
         userService.getUserById(user.getId());
 
         // Assert
-        verify(userRepository, times(1)).findById(user.getId());
+        verify(userRepository, times(1)).findAdminProfileById(user.getId());
         verifyNoMoreInteractions(userRepository);
     }
 
@@ -848,14 +518,15 @@ class UserServiceTest {
     void getUserById_VerifyMapperInteraction() {
         // Arrange
         Users user = UserMockedObjects.mockUser();
-        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(userMapper.toAdminUserProfileResponseDTO(user)).thenReturn(any());
+        UserAdminProfileRow row = UserMockedObjects.mockAdminProfileRow(user);
+        when(userRepository.findAdminProfileById(user.getId())).thenReturn(Optional.of(row));
+        when(userMapper.toAdminUserProfileResponseDTO(row)).thenReturn(any());
 
         // Act
         userService.getUserById(user.getId());
 
         // Assert
-        verify(userMapper, times(1)).toAdminUserProfileResponseDTO(user);
+        verify(userMapper, times(1)).toAdminUserProfileResponseDTO(row);
         verifyNoMoreInteractions(userMapper);
     }
 
@@ -875,8 +546,11 @@ class UserServiceTest {
         verify(userRepository).save(userCaptor.capture());
 
         assertFalse(userCaptor.getValue().isEnabled());
+        assertEquals(1, userCaptor.getValue().getTokenEpoch());
         verify(userRepository, times(1)).findById(user.getId());
         verify(userRepository, times(1)).save(user);
+        verify(tokenEpochRegistry, times(1)).updateAfterCommit(user.getId(), 1);
+        verify(userDetailsCache, times(1)).evict(user.getEmail());
     }
 
     @Test
@@ -931,4 +605,9 @@ class UserServiceTest {
         verify(userRepository).save(inactiveUser);
         assertFalse(inactiveUser.isEnabled());
     }
+
+    private static DataIntegrityViolationException uniqueViolation(String detail) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new SQLException("ERROR: duplicate key value violates unique constraint\n  Detail: " + detail, "23505"));
+    }
 }
@@ -0,0 +1,54 @@
+package com.fintrack.fintrack_api.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void mightContain_InsertedValues_AlwaysTrue() {
+        // Arrange
+        BloomFilter filter = BloomFilter.create(INSERTIONS, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("user" + i + "@testexample.com");
+        }
+
+        // Act & Assert
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertTrue(filter.mightContain("user" + i + "@testexample.com"));
+        }
+    }
+
+    @Test
+    void mightContain_AbsentValues_StaysNearConfiguredRate() {
+        // Arrange
+        BloomFilter filter = BloomFilter.create(INSERTIONS, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("+1555" + i);
+        }
+
+        // Act
+        int falsePositives = 0;
+        for (int i = 0; i < INSERTIONS; i++) {
+            if (filter.mightContain("+1666" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Assert
+        double rate = (double) falsePositives / INSERTIONS;
+        assertTrue(rate < FALSE_POSITIVE_RATE * 1.5, "False-positive rate was " + rate);
+    }
+
+    @Test
+    void create_InvalidRate_Throws() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(INSERTIONS, 0));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(INSERTIONS, 1));
+    }
+}
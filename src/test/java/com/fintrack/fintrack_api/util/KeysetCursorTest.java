@@ -0,0 +1,73 @@
+package com.fintrack.fintrack_api.util;
+
+import com.fintrack.fintrack_api.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeysetCursorTest {
+
+    @Test
+    void decode_EncodedCursor_RoundTripsAtMicrosecondPrecision() {
+        // Arrange
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 6, 30, 23, 59, 59, 123_456_000), 42L);
+
+        // Act
+        String token = cursor.encode();
+        KeysetCursor decoded = KeysetCursor.decode(token);
+
+        // Assert
+        assertEquals(cursor, decoded);
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void decode_TimestampBeforeEpochAndLargeId_RoundTrips() {
+        // Arrange
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000), Long.MAX_VALUE);
+
+        // Act
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void encode_SubMicrosecondNanos_AreTruncatedLikeTheDatabaseColumn() {
+        // Arrange
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 1, 1, 0, 0, 0, 123_456_789), 1L);
+
+        // Act
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals(LocalDateTime.of(2025, 1, 1, 0, 0, 0, 123_456_000), decoded.createdAt());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not base64!", "MTIz", "OjE", "MTIzOg", "MTIzOmFiYw", "YWJjOjE", "MTIzOjE6Mg"})
+    void decode_MalformedToken_ThrowsInvalidCursor(String token) {
+        // Act & Assert
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> KeysetCursor.decode(token));
+        assertEquals(ErrorMessages.INVALID_CURSOR, exception.getMessage());
+    }
+
+    @Test
+    void decode_TamperedToken_ThrowsInvalidCursor() {
+        // Arrange
+        String token = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("1735689600000000:1:".getBytes(StandardCharsets.US_ASCII));
+
+        // Act & Assert
+        assertThrows(InvalidRequestException.class, () -> KeysetCursor.decode(token));
+    }
+}
@@ -0,0 +1,97 @@
+package com.fintrack.fintrack_api.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongIntHashMapTest {
+
+    @Test
+    void put_BeyondInitialCapacity_RehashesEveryEntry() {
+        // Arrange
+        LongIntHashMap map = new LongIntHashMap(4);
+        long initialFootprint = map.footprintBytes();
+
+        // Act
+        for (long key = 1; key <= 10_000; key++) {
+            map.put(key * 1024, (int) key);
+        }
+
+        // Assert
+        assertEquals(10_000, map.size());
+        assertTrue(map.footprintBytes() > initialFootprint);
+        for (long key = 1; key <= 10_000; key++) {
+            assertEquals((int) key, map.getOrDefault(key * 1024, -1));
+        }
+    }
+
+    @Test
+    void getOrDefault_MissingKey_ReturnsDefault() {
+        // Arrange
+        LongIntHashMap map = new LongIntHashMap();
+        for (long key = 1; key <= 100; key++) {
+            map.put(key, 1);
+        }
+
+        // Act & Assert
+        assertEquals(-1, map.getOrDefault(101L, -1));
+        assertEquals(-1, map.getOrDefault(-1L, -1));
+        assertEquals(-1, map.getOrDefault(0L, -1));
+        assertEquals(-1, map.getOrDefault(Long.MAX_VALUE, -1));
+    }
+
+    @Test
+    void put_ExistingAndZeroKey_OverwritesWithoutGrowing() {
+        // Arrange
+        LongIntHashMap map = new LongIntHashMap();
+        map.put(0L, 1);
+        map.put(42L, 1);
+
+        // Act
+        map.put(0L, 2);
+        map.put(42L, 3);
+
+        // Assert
+        assertEquals(2, map.size());
+        assertEquals(2, map.getOrDefault(0L, -1));
+        assertEquals(3, map.getOrDefault(42L, -1));
+    }
+
+    @Test
+    void copy_WritesToCopy_LeaveOriginalUnchanged() {
+        // Arrange
+        LongIntHashMap original = new LongIntHashMap();
+        original.put(7L, 1);
+
+        // Act
+        LongIntHashMap copy = original.copy();
+        copy.put(7L, 2);
+        for (long key = 100; key < 200; key++) {
+            copy.put(key, 1);
+        }
+
+        // Assert
+        assertEquals(1, original.size());
+        assertEquals(1, original.getOrDefault(7L, -1));
+        assertEquals(-1, original.getOrDefault(150L, -1));
+        assertEquals(2, copy.getOrDefault(7L, -1));
+        assertEquals(101, copy.size());
+    }
+
+    @Test
+    void clear_RemovesAllKeysIncludingZero() {
+        // Arrange
+        LongIntHashMap map = new LongIntHashMap();
+        map.put(0L, 1);
+        map.put(5L, 1);
+
+        // Act
+        map.clear();
+
+        // Assert
+        assertEquals(0, map.size());
+        assertEquals(-1, map.getOrDefault(0L, -1));
+        assertEquals(-1, map.getOrDefault(5L, -1));
+    }
+}
@@ -0,0 +1,182 @@
+package com.fintrack.fintrack_api.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Crash recovery is simulated by opening a second journal on the same directory without closing
+ * the first, which leaves the files exactly as a killed process would.
+ */
+class MappedJournalTest {
+
+    private static final int SEGMENT_SIZE = 64;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void read_AcrossSegments_ReturnsRecordsInOrder() throws IOException {
+        // Arrange
+        MappedJournal journal = MappedJournal.open(directory, SEGMENT_SIZE, false);
+        List<String> appended = records(20);
+        for (String record : appended) {
+            journal.append(bytes(record));
+        }
+
+        // Act
+        MappedJournal.Batch batch = journal.read(journal.tail(), 100);
+
+        // Assert
+        assertEquals(appended, strings(batch));
+        assertEquals(journal.head(), batch.next());
+        assertTrue(segmentCount() > 1);
+    }
+
+    @Test
+    void read_InBatches_ResumesWhereThePreviousBatchEnded() throws IOException {
+        // Arrange
+        MappedJournal journal = MappedJournal.open(directory, SEGMENT_SIZE, false);
+        List<String> appended = records(20);
+        journal.append(appended.stream().map(MappedJournalTest::bytes).toList());
+
+        // Act
+        List<String> read = new ArrayList<>();
+        MappedJournal.Position position = journal.tail();
+        MappedJournal.Batch batch;
+        while (!(batch = journal.read(position, 3)).records().isEmpty()) {
+            read.addAll(strings(batch));
+            position = batch.next();
+        }
+
+        // Assert
+        assertEquals(appended, read);
+    }
+
+    @Test
+    void open_AfterCrash_RecoversEveryAppendedRecord() throws IOException {
+        // Arrange
+        MappedJournal crashed = MappedJournal.open(directory, SEGMENT_SIZE, false);
+        List<String> appended = records(20);
+        for (String record : appended) {
+            crashed.append(bytes(record));
+        }
+
+        // Act
+        MappedJournal recovered = MappedJournal.open(directory, SEGMENT_SIZE, false);
+
+        // Assert
+        assertEquals(crashed.id(), recovered.id());
+        assertEquals(crashed.head(), recovered.head());
+        assertEquals(appended, strings(recovered.read(recovered.tail(), 100)));
+    }
+
+    @Test
+    void open_TornLastRecord_CutsItOffAndAppendsAfterTheLastIntactOne() throws IOException {
+        // Arrange
+        MappedJournal crashed = MappedJournal.open(directory, 4096, false);
+        crashed.append(bytes("first"));
+        crashed.append(bytes("second"));
+        MappedJournal.Position beforeTorn = crashed.head();
+        crashed.append(bytes("third"));
+        // A crash halfway through the last record: its payload no longer matches the checksum
+        try (FileChannel channel = FileChannel.open(lastSegment(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'X'}), beforeTorn.offset() + 8);
+        }
+
+        // Act
+        MappedJournal recovered = MappedJournal.open(directory, 4096, false);
+        recovered.append(bytes("fourth"));
+
+        // Assert
+        assertEquals(List.of("first", "second", "fourth"), strings(recovered.read(recovered.tail(), 100)));
+    }
+
+    @Test
+    void open_GarbageAfterTheLastRecord_IsIgnored() throws IOException {
+        // Arrange
+        MappedJournal crashed = MappedJournal.open(directory, 4096, false);
+        crashed.append(bytes("first"));
+        MappedJournal.Position end = crashed.head();
+        // A length was written but the process died before the checksum and payload
+        try (FileChannel channel = FileChannel.open(lastSegment(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, 100), end.offset());
+        }
+
+        // Act
+        MappedJournal recovered = MappedJournal.open(directory, 4096, false);
+
+        // Assert
+        assertEquals(end, recovered.head());
+        assertEquals(List.of("first"), strings(recovered.read(recovered.tail(), 100)));
+    }
+
+    @Test
+    void release_ReadSegments_DeletesAllButTheOneInUse() throws IOException {
+        // Arrange
+        MappedJournal journal = MappedJournal.open(directory, SEGMENT_SIZE, true);
+        journal.append(records(20).stream().map(MappedJournalTest::bytes).toList());
+        MappedJournal.Batch batch = journal.read(journal.tail(), 100);
+
+        // Act
+        journal.release(batch.next());
+
+        // Assert
+        assertEquals(1, segmentCount());
+        assertEquals(batch.next().segment(), journal.tail().segment());
+        assertEquals(List.of(), journal.read(batch.next(), 100).records());
+    }
+
+    @Test
+    void append_RecordLargerThanASegment_AppendsNothing() throws IOException {
+        // Arrange
+        MappedJournal journal = MappedJournal.open(directory, SEGMENT_SIZE, false);
+        List<byte[]> records = List.of(bytes("fits"), new byte[SEGMENT_SIZE]);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> journal.append(records));
+        assertEquals(journal.tail(), journal.head());
+    }
+
+    private static List<String> records(int count) {
+        List<String> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add("record-" + i);
+        }
+        return records;
+    }
+
+    private static byte[] bytes(String record) {
+        return record.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> strings(MappedJournal.Batch batch) {
+        return batch.records().stream().map(record -> new String(record, StandardCharsets.UTF_8)).toList();
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".seg")).count();
+        }
+    }
+
+    private Path lastSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".seg")).max(Path::compareTo).orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.fintrack.fintrack_api.util;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserFieldsTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"+1234567", "+123456789012345", "+15550001234", "1234567890", "+0123456789",
+            "+123456", "+1234567890123456", "+12345a7890", "+", "", "++1234567", "+1234567\n"})
+    void isValidPhoneNumber_MatchesFormerPattern(String phoneNumber) {
+        // Act & Assert
+        assertEquals(phoneNumber.matches("^\\+[1-9]\\d{6,14}$"), UserFields.isValidPhoneNumber(phoneNumber));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test@example.com", "first.last@mail.example.co", "a@b.c", "user+tag@example.io"})
+    void isValidEmail_ValidAddresses(String email) {
+        // Act & Assert
+        assertTrue(UserFields.isValidEmail(email));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"invalid-email", "@example.com", "user@.com", "user@example.", "user@example",
+            "us er@example.com", "a@b@example.com", "user.name@localhost", "user@exa mple.com"})
+    void isValidEmail_InvalidAddresses(String email) {
+        // Act & Assert
+        assertFalse(UserFields.isValidEmail(email));
+    }
+}